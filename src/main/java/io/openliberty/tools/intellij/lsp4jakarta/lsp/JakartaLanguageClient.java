@@ -12,22 +12,25 @@
 
 package io.openliberty.tools.intellij.lsp4jakarta.lsp;
 
+import com.intellij.openapi.fileEditor.FileEditorManagerListener;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.roots.libraries.Library;
 import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.messages.MessageBusConnection;
 import com.redhat.devtools.lsp4ij.JSONUtils;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.PropertiesManagerForJakarta;
 import io.openliberty.tools.intellij.lsp4mp.MicroProfileProjectService;
+import io.openliberty.tools.intellij.lsp4mp.lsp.PublishedDiagnosticsFilter;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.ProjectLabelManager;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.PropertiesManagerForJava;
 import com.redhat.devtools.lsp4ij.client.CoalesceByKey;
 import com.redhat.devtools.lsp4ij.client.IndexAwareLanguageClient;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import io.openliberty.tools.intellij.util.LibertyToolPluginDisposable;
 import org.apache.commons.lang3.tuple.Pair;
 import org.eclipse.lsp4j.CodeAction;
-import org.eclipse.lsp4j.CompletionList;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4jakarta.commons.*;
 import org.eclipse.lsp4jakarta.ls.api.JakartaLanguageClientAPI;
@@ -46,8 +49,37 @@ import java.util.concurrent.CompletableFuture;
  */
 public final class JakartaLanguageClient extends IndexAwareLanguageClient implements JakartaLanguageClientAPI, MicroProfileProjectService.Listener {
 
+  private final MessageBusConnection connection;
+  private final PublishedDiagnosticsFilter publishedDiagnostics = new PublishedDiagnosticsFilter();
+
   public JakartaLanguageClient(Project project) {
     super(project);
+    connection = project.getMessageBus().connect(LibertyToolPluginDisposable.getInstance(project));
+    connection.subscribe(FileEditorManagerListener.FILE_EDITOR_MANAGER, publishedDiagnostics);
+  }
+
+  @Override
+  public void dispose() {
+    super.dispose();
+    connection.disconnect();
+  }
+
+  @Override
+  public void publishDiagnostics(PublishDiagnosticsParams diagnostics) {
+    // Skip the partial diagnostics of a request whose complete diagnostics have already been published
+    if (PropertiesManagerForJakarta.getInstance().isSupersededDiagnostics(diagnostics, PsiUtilsLSImpl.getInstance(getProject()))) {
+      return;
+    }
+    doPublishDiagnostics(diagnostics);
+  }
+
+  private void doPublishDiagnostics(PublishDiagnosticsParams diagnostics) {
+    // Skip the diagnostics identical to the ones already published for the document to avoid re-rendering them
+    if (publishedDiagnostics.isChanged(diagnostics)) {
+      super.publishDiagnostics(diagnostics);
+      // Compute the quick fixes of the diagnostics before the quick fix popup is opened
+      PropertiesManagerForJakarta.getInstance().precomputeQuickFixes(diagnostics, PsiUtilsLSImpl.getInstance(getProject()));
+    }
   }
 
   // Support the message "jakarta/java/diagnostics"
@@ -56,7 +88,15 @@ public final class JakartaLanguageClient extends IndexAwareLanguageClient implem
     final IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
     final var coalesceBy = new CoalesceByKey("jakarta/java/diagnostics", jakartaJavaDiagnosticsParams.getUris());
     return runAsBackground("Computing Jakarta Java diagnostics",
-            monitor -> PropertiesManagerForJakarta.getInstance().diagnostics(jakartaJavaDiagnosticsParams, utils), coalesceBy);
+            monitor -> PropertiesManagerForJakarta.getInstance().diagnostics(jakartaJavaDiagnosticsParams, utils, this::publishDeferredDiagnostics), coalesceBy);
+  }
+
+  private void publishDeferredDiagnostics(PublishDiagnosticsParams diagnostics) {
+    // The expensive participants which didn't fit in the time budget of the request have finished,
+    // publish the complete diagnostics of the Java file.
+    if (!isDisposed()) {
+      doPublishDiagnostics(diagnostics);
+    }
   }
 
   // Support the message "jakarta/java/codeaction"
@@ -85,11 +125,8 @@ public final class JakartaLanguageClient extends IndexAwareLanguageClient implem
   public CompletableFuture<JakartaJavaCompletionResult> getJavaCompletion(JakartaJavaCompletionParams jakartaJavaCompletionParams) {
     final IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
     final var coalesceBy = new CoalesceByKey("jakarta/java/completion", jakartaJavaCompletionParams.getUri(), jakartaJavaCompletionParams.getPosition());
-    return runAsBackground("Computing Java completion", monitor -> {
-      final CompletionList completionList = PropertiesManagerForJakarta.getInstance().completion(jakartaJavaCompletionParams, utils);
-      final JavaCursorContextResult cursorContext = PropertiesManagerForJakarta.getInstance().javaCursorContext(jakartaJavaCompletionParams, utils);
-      return new JakartaJavaCompletionResult(completionList, cursorContext);
-    }, coalesceBy);
+    return runAsBackground("Computing Java completion",
+            monitor -> PropertiesManagerForJakarta.getInstance().completionWithCursorContext(jakartaJavaCompletionParams, utils), coalesceBy);
   }
 
   // Support the message "jakarta/java/projectLabels"
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2024 IBM Corporation and others.
+ * Copyright (c) 2022, 2025 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -16,13 +16,11 @@ package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import com.intellij.psi.*;
-import com.intellij.psi.search.GlobalSearchScope;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaFileFingerprint;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Range;
@@ -34,6 +32,11 @@ import org.eclipse.lsp4j.Range;
  */
 public abstract class AbstractDiagnosticsCollector implements DiagnosticsCollector, IJavaDiagnosticsParticipant {
 
+    /**
+     * Type resolution cache of the diagnostics request processed by the current thread.
+     */
+    private static final ThreadLocal<JavaTypeResolutionCache> TYPE_RESOLUTION_CACHE = new ThreadLocal<>();
+
     /**
      * Constructor
      */
@@ -100,13 +103,56 @@ public abstract class AbstractDiagnosticsCollector implements DiagnosticsCollect
     public final List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context) {
         PsiFile typeRoot = context.getTypeRoot();
         if (typeRoot instanceof PsiJavaFile) {
+            String[] triggerAnnotations = getTriggerAnnotations();
+            if (triggerAnnotations != null
+                    && !JavaFileFingerprint.getInstance(typeRoot).hasAnyAnnotation(triggerAnnotations)) {
+                // None of the trigger annotations can be declared in the file, skip it before any resolution
+                return Collections.emptyList();
+            }
             List<Diagnostic> diagnostics = new ArrayList<>();
-            collectDiagnostics((PsiJavaFile) typeRoot, diagnostics);
+            JavaTypeResolutionCache previousCache = TYPE_RESOLUTION_CACHE.get();
+            TYPE_RESOLUTION_CACHE.set(JavaTypeResolutionCache.getInstance(context));
+            try {
+                collectDiagnostics(JavaFileDeclarations.getInstance(context), diagnostics);
+            } finally {
+                if (previousCache != null) {
+                    TYPE_RESOLUTION_CACHE.set(previousCache);
+                } else {
+                    TYPE_RESOLUTION_CACHE.remove();
+                }
+            }
             return diagnostics;
         }
         return Collections.emptyList();
     }
 
+    /**
+     * Returns diagnostics for the given declarations of a compilation unit.
+     *
+     * <p>
+     * The trigger annotations are a pre-filter: when the collector declares them,
+     * only the top-level types which declare one of them are given to
+     * {@link #collectDiagnostics(PsiClass, PsiJavaFile, List)}, which walks the
+     * members of the type itself. Otherwise the whole compilation unit is given to
+     * {@link #collectDiagnostics(PsiJavaFile, List)}.
+     * </p>
+     *
+     * @param declarations the declarations of the compilation unit
+     * @param diagnostics  diagnostics for the given compilation unit to return
+     */
+    protected void collectDiagnostics(JavaFileDeclarations declarations, List<Diagnostic> diagnostics) {
+        String[] triggerAnnotations = getTriggerAnnotations();
+        if (triggerAnnotations == null) {
+            collectDiagnostics(declarations.getUnit(), diagnostics);
+            return;
+        }
+        for (PsiClass type : declarations.getTypes()) {
+            if (declarations.hasAnyAnnotation(type, triggerAnnotations)) {
+                collectDiagnostics(type, declarations.getUnit(), diagnostics);
+            }
+        }
+    }
+
     /**
      * Returns diagnostics for the given compilation unit.
      *
@@ -114,6 +160,34 @@ public abstract class AbstractDiagnosticsCollector implements DiagnosticsCollect
      * @param diagnostics diagnostics for the given compilation unit to return
      */
     public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
+        if (unit != null && getTriggerAnnotations() != null) {
+            collectDiagnostics(new JavaFileDeclarations(unit), diagnostics);
+        }
+    }
+
+    /**
+     * Returns diagnostics for the given top-level type of a compilation unit.
+     * Called only for types declaring one of the trigger annotations.
+     *
+     * @param type        top-level type of the compilation unit
+     * @param unit        compilation unit of Java class
+     * @param diagnostics diagnostics for the given type to return
+     */
+    protected void collectDiagnostics(PsiClass type, PsiJavaFile unit, List<Diagnostic> diagnostics) {
+    }
+
+    /**
+     * Returns the fully qualified names of the annotations, declared on a type or
+     * on its fields, methods or method parameters, without which the collector
+     * cannot report any diagnostic on that type. They only decide which types are
+     * skipped; the collector still walks the members of the other types. Returns
+     * null if the collector works on the whole compilation unit.
+     *
+     * @return the fully qualified names of the trigger annotations and null if the
+     *         collector works on the whole compilation unit.
+     */
+    protected String[] getTriggerAnnotations() {
+        return null;
     }
 
     /**
@@ -142,14 +216,35 @@ public abstract class AbstractDiagnosticsCollector implements DiagnosticsCollect
      *         element name and false otherwise.
      */
     protected static boolean isMatchedJavaElement(PsiClass type, String javaElementName, String javaElementFQName) {
+        JavaTypeResolutionCache cache = TYPE_RESOLUTION_CACHE.get();
+        if (cache != null) {
+            // Memoized for the file of the current diagnostics request
+            return cache.isMatchedJavaElement(javaElementName, javaElementFQName);
+        }
         if (javaElementFQName.equals(javaElementName)) {
-            JavaPsiFacade facade = JavaPsiFacade.getInstance(type.getProject());
-            Object o = facade.findClass(javaElementFQName, GlobalSearchScope.allScope(type.getProject()));
-            return (o != null);
+            return findClass(type, javaElementFQName) != null;
         }
         return false;
     }
 
+    /**
+     * Returns the class with the given fully qualified name in the resolve scope
+     * of the given Java class and null otherwise. The result is memoized for the
+     * file of the current diagnostics request.
+     *
+     * @param type      Java class used to find the project.
+     * @param className the fully qualified class name.
+     * @return the class with the given fully qualified name and null otherwise.
+     */
+    protected static PsiClass findClass(PsiClass type, String className) {
+        JavaTypeResolutionCache cache = TYPE_RESOLUTION_CACHE.get();
+        if (cache != null) {
+            return cache.findClass(className);
+        }
+        JavaPsiFacade facade = JavaPsiFacade.getInstance(type.getProject());
+        return facade.findClass(className, type.getResolveScope());
+    }
+
     /**
      * Returns true if the given Java class implements one of the given interfaces
      * and false otherwise.
@@ -187,12 +282,11 @@ public abstract class AbstractDiagnosticsCollector implements DiagnosticsCollect
      * @return Matched fully qualified name and null otherwise.
      */
     protected static String getMatchedJavaElementName(PsiClass type, String javaElementName, String[] javaElementFQNames) {
-        String[] matches = (String[]) Stream.of(javaElementFQNames)
-                .filter(fqName -> nameEndsWith(fqName, javaElementName))
-                .toArray(String[]::new);
-        if (matches.length > 0) {
-            if (isMatchedJavaElement(type, javaElementName, matches[0]) == true) // only check the first one for now
-                return matches[0];
+        for (String fqName : javaElementFQNames) {
+            if (nameEndsWith(fqName, javaElementName)) {
+                // only check the first one for now
+                return isMatchedJavaElement(type, javaElementName, fqName) ? fqName : null;
+            }
         }
         return null;
     }
@@ -207,12 +301,16 @@ public abstract class AbstractDiagnosticsCollector implements DiagnosticsCollect
      */
     protected static List<String> getMatchedJavaElementNames(PsiClass type, String[] javaElementNames,
                                                              String[] javaElementFQNames) {
-        return Stream.of(javaElementFQNames).filter(fqName -> {
-            boolean anyMatch = Stream.of(javaElementNames).anyMatch(name -> {
-                return isMatchedJavaElement(type, name, fqName);
-            });
-            return anyMatch;
-        }).collect(Collectors.toList());
+        List<String> matches = new ArrayList<>();
+        for (String fqName : javaElementFQNames) {
+            for (String name : javaElementNames) {
+                if (isMatchedJavaElement(type, name, fqName)) {
+                    matches.add(fqName);
+                    break;
+                }
+            }
+        }
+        return matches;
     }
 
     /**
@@ -228,7 +326,12 @@ public abstract class AbstractDiagnosticsCollector implements DiagnosticsCollect
         // add a prefix '.' to simple name
         // e.g. 'jakarta.validation.constraints.DecimalMin' should NOT end with 'Min'
         // here
-        return fqName.equals(name) || fqName.endsWith("." + name);
+        if (name == null) {
+            return false;
+        }
+        int prefixLength = fqName.length() - name.length();
+        return prefixLength == 0 ? fqName.equals(name)
+                : prefixLength > 0 && fqName.charAt(prefixLength - 1) == '.' && fqName.endsWith(name);
     }
 
     /**
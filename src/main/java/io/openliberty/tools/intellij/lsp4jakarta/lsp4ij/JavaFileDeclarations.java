@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij;
+
+import com.intellij.psi.*;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The declarations of a Java compilation unit shared by all the Jakarta
+ * diagnostics collectors of a diagnostics request.
+ *
+ * <p>
+ * The top-level types of the compilation unit are walked once and the fully
+ * qualified names of the annotations declared on each type, its fields, its
+ * methods and their parameters are recorded. Collectors use them as a
+ * pre-filter to skip the types which cannot produce any of their diagnostics;
+ * each collector still walks the members of the types it keeps.
+ * </p>
+ */
+public class JavaFileDeclarations {
+
+    private static final String CONTEXT_KEY = JavaFileDeclarations.class.getName();
+
+    private final PsiJavaFile unit;
+
+    private final Map<PsiClass, Set<String>> annotationsByType = new LinkedHashMap<>();
+
+    private final Set<String> annotations = new HashSet<>();
+
+    public JavaFileDeclarations(PsiJavaFile unit) {
+        this.unit = unit;
+        for (PsiClass type : unit.getClasses()) {
+            Set<String> typeAnnotations = new HashSet<>();
+            collectAnnotations(type, typeAnnotations);
+            for (PsiField field : type.getFields()) {
+                collectAnnotations(field, typeAnnotations);
+            }
+            for (PsiMethod method : type.getMethods()) {
+                collectAnnotations(method, typeAnnotations);
+                for (PsiParameter parameter : method.getParameterList().getParameters()) {
+                    collectAnnotations(parameter, typeAnnotations);
+                }
+            }
+            annotationsByType.put(type, typeAnnotations);
+            annotations.addAll(typeAnnotations);
+        }
+    }
+
+    /**
+     * Returns the declarations of the compilation unit of the given context,
+     * computed once per diagnostics request.
+     *
+     * @param context the java diagnostics context
+     * @return the declarations of the compilation unit of the given context.
+     */
+    public static JavaFileDeclarations getInstance(JavaDiagnosticsContext context) {
+        JavaFileDeclarations declarations = (JavaFileDeclarations) context.get(CONTEXT_KEY);
+        if (declarations == null) {
+            declarations = new JavaFileDeclarations((PsiJavaFile) context.getTypeRoot());
+            context.put(CONTEXT_KEY, declarations);
+        }
+        return declarations;
+    }
+
+    private static void collectAnnotations(PsiModifierListOwner owner, Set<String> annotations) {
+        for (PsiAnnotation annotation : owner.getAnnotations()) {
+            String qualifiedName = annotation.getQualifiedName();
+            if (qualifiedName != null) {
+                annotations.add(qualifiedName);
+            }
+        }
+    }
+
+    public PsiJavaFile getUnit() {
+        return unit;
+    }
+
+    /**
+     * Returns the top-level types of the compilation unit.
+     *
+     * @return the top-level types of the compilation unit.
+     */
+    public Set<PsiClass> getTypes() {
+        return annotationsByType.keySet();
+    }
+
+    /**
+     * Returns true if one of the given annotations is declared on the given type
+     * or on one of its fields, methods or method parameters and false otherwise.
+     *
+     * @param type              a top-level type of the compilation unit.
+     * @param annotationFQNames the fully qualified annotation names.
+     * @return true if one of the given annotations is declared in the given type
+     *         and false otherwise.
+     */
+    public boolean hasAnyAnnotation(PsiClass type, String[] annotationFQNames) {
+        Set<String> typeAnnotations = annotationsByType.get(type);
+        return typeAnnotations != null && containsAny(typeAnnotations, annotationFQNames);
+    }
+
+    /**
+     * Returns true if one of the given annotations is declared anywhere in the
+     * top-level types of the compilation unit and false otherwise.
+     *
+     * @param annotationFQNames the fully qualified annotation names.
+     * @return true if one of the given annotations is declared in the compilation
+     *         unit and false otherwise.
+     */
+    public boolean hasAnyAnnotation(String[] annotationFQNames) {
+        return containsAny(annotations, annotationFQNames);
+    }
+
+    private static boolean containsAny(Set<String> annotations, String[] annotationFQNames) {
+        if (annotations.isEmpty()) {
+            return false;
+        }
+        for (String annotationFQName : annotationFQNames) {
+            if (annotations.contains(annotationFQName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij;
+
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Memo of the Java element names matched by the Jakarta diagnostics collectors
+ * in one Java file during one diagnostics request, shared by all the collectors
+ * of that request.
+ *
+ * <p>
+ * The classes are resolved in the resolve scope of the file, so a match only
+ * holds for the file it has been computed for.
+ * </p>
+ */
+public class JavaTypeResolutionCache {
+
+    private static final String CONTEXT_KEY = JavaTypeResolutionCache.class.getName();
+
+    private final JavaPsiFacade facade;
+
+    private final GlobalSearchScope scope;
+
+    private final Map<String, PsiClass> classes = new HashMap<>();
+
+    private final Map<String /* name + FQN */, Boolean> matches = new HashMap<>();
+
+    public JavaTypeResolutionCache(PsiFile file) {
+        this.facade = JavaPsiFacade.getInstance(file.getProject());
+        this.scope = file.getResolveScope();
+    }
+
+    /**
+     * Returns the type resolution cache of the given context, created once per
+     * diagnostics request.
+     *
+     * @param context the java diagnostics context
+     * @return the type resolution cache of the given context.
+     */
+    public static JavaTypeResolutionCache getInstance(JavaDiagnosticsContext context) {
+        JavaTypeResolutionCache cache = (JavaTypeResolutionCache) context.get(CONTEXT_KEY);
+        if (cache == null) {
+            cache = new JavaTypeResolutionCache(context.getTypeRoot());
+            context.put(CONTEXT_KEY, cache);
+        }
+        return cache;
+    }
+
+    /**
+     * Returns true if the given Java element name of the file matches the given
+     * fully qualified Java element name and false otherwise.
+     *
+     * @param javaElementName   the Java element name used in the file.
+     * @param javaElementFQName the fully qualified Java element name.
+     * @return true if the given Java element name matches the given fully
+     *         qualified Java element name and false otherwise.
+     */
+    public boolean isMatchedJavaElement(String javaElementName, String javaElementFQName) {
+        if (!javaElementFQName.equals(javaElementName)) {
+            return false;
+        }
+        return matches.computeIfAbsent(javaElementName + '|' + javaElementFQName,
+                k -> findClass(javaElementFQName) != null);
+    }
+
+    /**
+     * Returns the class with the given fully qualified name in the resolve scope
+     * of the file and null otherwise.
+     *
+     * @param className the fully qualified class name.
+     * @return the class with the given fully qualified name and null otherwise.
+     */
+    public PsiClass findClass(String className) {
+        PsiClass psiClass = classes.get(className);
+        if (psiClass == null && !classes.containsKey(className)) {
+            psiClass = facade.findClass(className, scope);
+            classes.put(className, psiClass);
+        }
+        return psiClass;
+    }
+}
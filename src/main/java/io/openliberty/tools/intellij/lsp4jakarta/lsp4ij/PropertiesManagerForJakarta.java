@@ -12,11 +12,11 @@
 
 package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij;
 
-import com.intellij.openapi.application.ApplicationManager;
-import com.intellij.openapi.util.Computable;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.completion.CompletionHandler;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.DiagnosticsHandler;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.PublishedJavaDiagnostics;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.ReadActionUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.codeaction.CodeActionHandler;
 import org.eclipse.lsp4j.CodeAction;
 import org.eclipse.lsp4j.CompletionList;
@@ -24,11 +24,13 @@ import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4jakarta.commons.*;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaCodeActionParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaCompletionParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaCompletionResult;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsSettings;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 public final class PropertiesManagerForJakarta {
 
@@ -63,6 +65,20 @@ public final class PropertiesManagerForJakarta {
         return diagnosticsHandler.collectDiagnostics(adapt(params), utils);
     }
 
+    /**
+     * Returns diagnostics for the given uris list, publishing the diagnostics of
+     * the participants which don't fit in the time budget of the request later.
+     *
+     * @param params    the diagnostics parameters
+     * @param utils     the IPsiUtils
+     * @param publisher the consumer of the diagnostics completed in the background
+     * @return diagnostics for the given uris list.
+     */
+    public List<PublishDiagnosticsParams> diagnostics(JakartaJavaDiagnosticsParams params, IPsiUtils utils,
+                                                      Consumer<PublishDiagnosticsParams> publisher) {
+        return diagnosticsHandler.collectDiagnostics(adapt(params), utils, publisher);
+    }
+
     /**
      * Returns the CompletionItems given the completion item params
      *
@@ -74,6 +90,20 @@ public final class PropertiesManagerForJakarta {
         return completionHandler.completion(adapt(params), utils);
     }
 
+    /**
+     * Returns the CompletionItems and the cursor context given the completion
+     * item params, computed in a single read action.
+     *
+     * @param params  the completion item params
+     * @param utils   the IPsiUtils
+     * @return the CompletionItems and the cursor context for the given the
+     *         completion item params
+     */
+    public JakartaJavaCompletionResult completionWithCursorContext(JakartaJavaCompletionParams params, IPsiUtils utils) {
+        MicroProfileJavaCompletionResult result = completionHandler.completionWithCursorContext(adapt(params), utils);
+        return new JakartaJavaCompletionResult(result.getCompletionList(), adapt(result.getJavaCursorContext()));
+    }
+
     /**
      * Returns the cursor context for the given file and cursor position.
      *
@@ -83,7 +113,7 @@ public final class PropertiesManagerForJakarta {
      * @return the cursor context for the given file and cursor position
      */
     public JavaCursorContextResult javaCursorContext(JakartaJavaCompletionParams params, IPsiUtils utils) {
-        return adapt(completionHandler.javaCursorContext(adapt(params), utils));
+        return adapt(ReadActionUtils.compute(() -> completionHandler.javaCursorContext(adapt(params), utils)));
     }
 
     /**
@@ -96,8 +126,10 @@ public final class PropertiesManagerForJakarta {
      * @return the list of code actions for the given diagnostics
      */
     public List<? extends CodeAction> getCodeAction(JakartaJavaCodeActionParams params, IPsiUtils utils) {
-        return ApplicationManager.getApplication().runReadAction((Computable<List<? extends CodeAction>>) () ->
-                codeActionHandler.codeAction(adapt(params), utils));
+        MicroProfileJavaCodeActionParams mpParams = adapt(params);
+        // Request of the language client, its capabilities are used to compute the quick fixes ahead of time
+        codeActionHandler.setLastCapabilities(mpParams);
+        return ReadActionUtils.compute(() -> codeActionHandler.codeAction(mpParams, utils));
     }
 
     /**
@@ -108,8 +140,31 @@ public final class PropertiesManagerForJakarta {
      * @return the resolved code action
      */
     public CodeAction resolveCodeAction(CodeAction unresolved, IPsiUtils utils) {
-        return ApplicationManager.getApplication().runReadAction((Computable<CodeAction>) () ->
-                codeActionHandler.resolveCodeAction(unresolved, utils));
+        return ReadActionUtils.compute(() -> codeActionHandler.resolveCodeAction(unresolved, utils));
+    }
+
+    /**
+     * Returns true if the given diagnostics published by the language server are
+     * the partial diagnostics of a request whose complete diagnostics have
+     * already been published and false otherwise.
+     *
+     * @param diagnostics the diagnostics published by the language server
+     * @param utils       the IPsiUtils
+     * @return true if the given diagnostics must not be published and false otherwise.
+     */
+    public boolean isSupersededDiagnostics(PublishDiagnosticsParams diagnostics, IPsiUtils utils) {
+        return PublishedJavaDiagnostics.getInstance(utils.getProject()).isSuperseded(GROUP_NAME, diagnostics);
+    }
+
+    /**
+     * Computes in the background the quick fixes of the given published
+     * diagnostics.
+     *
+     * @param diagnostics the published diagnostics of a Java file
+     * @param utils       the IPsiUtils
+     */
+    public void precomputeQuickFixes(PublishDiagnosticsParams diagnostics, IPsiUtils utils) {
+        codeActionHandler.precomputeQuickFixes(diagnostics, utils);
     }
 
     // REVISIT: The "adapt" methods in this class are being used to convert between data structures
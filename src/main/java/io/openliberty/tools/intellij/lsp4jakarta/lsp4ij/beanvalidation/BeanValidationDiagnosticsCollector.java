@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2024 IBM Corporation, Reza Akhavan and others.
+ * Copyright (c) 2020, 2025 IBM Corporation, Reza Akhavan and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -26,6 +26,8 @@ import java.util.List;
 
 public class BeanValidationDiagnosticsCollector extends AbstractDiagnosticsCollector {
 
+    private static final String[] TRIGGER_ANNOTATIONS = SET_OF_ANNOTATIONS.toArray(new String[0]);
+
     public BeanValidationDiagnosticsCollector() {
         super();
     }
@@ -35,23 +37,20 @@ public class BeanValidationDiagnosticsCollector extends AbstractDiagnosticsColle
         return DIAGNOSTIC_SOURCE;
     }
 
-    public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
-        if (unit != null) {
-            PsiClass[] alltypes;
-            PsiField[] allFields;
-            PsiMethod[] allMethods;
-
-            alltypes = unit.getClasses();
-            for (PsiClass type : alltypes) {
-                allFields = type.getFields();
-                for (PsiField field : allFields) {
-                    processAnnotations(field, type, diagnostics);
-                }
-                allMethods = type.getMethods();
-                for (PsiMethod method : allMethods) {
-                    processAnnotations(method, type, diagnostics);
-                }
-            }
+    @Override
+    protected String[] getTriggerAnnotations() {
+        return TRIGGER_ANNOTATIONS;
+    }
+
+    @Override
+    protected void collectDiagnostics(PsiClass type, PsiJavaFile unit, List<Diagnostic> diagnostics) {
+        PsiField[] allFields = type.getFields();
+        for (PsiField field : allFields) {
+            processAnnotations(field, type, diagnostics);
+        }
+        PsiMethod[] allMethods = type.getMethods();
+        for (PsiMethod method : allMethods) {
+            processAnnotations(method, type, diagnostics);
         }
     }
 
@@ -59,7 +58,7 @@ public class BeanValidationDiagnosticsCollector extends AbstractDiagnosticsColle
         PsiAnnotation[] annotations = psiModifierOwner.getAnnotations();
         for (PsiAnnotation annotation : annotations) {
             String matchedAnnotation = getMatchedJavaElementName(type, annotation.getQualifiedName(),
-                    SET_OF_ANNOTATIONS.toArray(new String[0]));
+                    TRIGGER_ANNOTATIONS);
             if (matchedAnnotation != null) {
                 validAnnotation(psiModifierOwner, annotation, matchedAnnotation, diagnostics);
             }
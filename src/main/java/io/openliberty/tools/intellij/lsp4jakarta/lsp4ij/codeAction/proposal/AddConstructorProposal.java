@@ -14,7 +14,6 @@ package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.codeAction.proposal;
 
 import com.intellij.openapi.editor.Document;
 import com.intellij.psi.*;
-import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.PositionUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.corrections.proposal.Change;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.corrections.proposal.ChangeCorrectionProposal;
 import org.eclipse.lsp4j.CodeActionKind;
@@ -79,7 +78,7 @@ public class AddConstructorProposal extends ChangeCorrectionProposal {
             bestSpot = binding.getFirstChild(); // put the new c'tor at the start of the class
         }
         binding.addBefore(newConstructor, bestSpot);
-        PositionUtils.formatDocument(binding); // add the necessary new lines, must use 'binding,' it's already in the document
+        reformatChangedLines(sourceCU, binding.getContainingFile()); // add the necessary new lines, must use 'binding,' it's already in the document
         final Document document = invocationNode.getViewProvider().getDocument();
         return new Change(sourceCU.getViewProvider().getDocument(), document);
     }
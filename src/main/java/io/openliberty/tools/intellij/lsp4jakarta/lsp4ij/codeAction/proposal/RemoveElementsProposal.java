@@ -17,7 +17,6 @@ import com.intellij.openapi.editor.Document;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiModifierListOwner;
-import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.PositionUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.corrections.proposal.Change;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.corrections.proposal.ChangeCorrectionProposal;
 import org.eclipse.lsp4j.CodeActionKind;
@@ -57,7 +56,7 @@ public abstract class RemoveElementsProposal extends ChangeCorrectionProposal {
     public final Change getChange() {
         elementsToRemove.forEach(PsiElement::delete);
         if (isFormatRequired) {
-            PositionUtils.formatDocument(binding); // fix up whitespace
+            reformatChangedLines(sourceCU, binding.getContainingFile()); // fix up whitespace
         }
         final Document document = invocationNode.getViewProvider().getDocument();
         return new Change(sourceCU.getViewProvider().getDocument(), document);
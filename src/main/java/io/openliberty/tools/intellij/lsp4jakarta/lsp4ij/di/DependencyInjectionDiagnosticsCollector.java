@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2023 IBM Corporation and others.
+ * Copyright (c) 2021, 2025 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -42,6 +42,8 @@ import java.util.stream.Stream;
 
 public class DependencyInjectionDiagnosticsCollector extends AbstractDiagnosticsCollector {
 
+    private static final String[] TRIGGER_ANNOTATIONS = { INJECT_FQ_NAME };
+
     public DependencyInjectionDiagnosticsCollector() {
         super();
     }
@@ -52,70 +54,68 @@ public class DependencyInjectionDiagnosticsCollector extends AbstractDiagnostics
     }
 
     @Override
-    public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
-        if (unit == null)
-            return;
-
-        PsiClass[] alltypes;
-        alltypes = unit.getClasses();
-        for (PsiClass type : alltypes) {
-            PsiField[] allFields = type.getFields();
-            for (PsiField field : allFields) {
-                if (field.hasModifierProperty(PsiModifier.FINAL)
-                        && containsAnnotation(type, field.getAnnotations(), INJECT_FQ_NAME)) {
-                    String msg = Messages.getMessage("InjectNoFinalField");
-                    diagnostics.add(createDiagnostic(field, unit, msg,
-                            DIAGNOSTIC_CODE_INJECT_FINAL, field.getType().getInternalCanonicalText(),
+    protected String[] getTriggerAnnotations() {
+        return TRIGGER_ANNOTATIONS;
+    }
+
+    @Override
+    protected void collectDiagnostics(PsiClass type, PsiJavaFile unit, List<Diagnostic> diagnostics) {
+        PsiField[] allFields = type.getFields();
+        for (PsiField field : allFields) {
+            if (field.hasModifierProperty(PsiModifier.FINAL)
+                    && containsAnnotation(type, field.getAnnotations(), INJECT_FQ_NAME)) {
+                String msg = Messages.getMessage("InjectNoFinalField");
+                diagnostics.add(createDiagnostic(field, unit, msg,
+                        DIAGNOSTIC_CODE_INJECT_FINAL, field.getType().getInternalCanonicalText(),
+                        DiagnosticSeverity.Error));
+            }
+        }
+
+        List<PsiMethod> injectedConstructors = new ArrayList<PsiMethod>();
+        PsiMethod[] allMethods = type.getMethods();
+        for (PsiMethod method : allMethods) {
+            boolean isFinal = method.hasModifierProperty(PsiModifier.FINAL);
+            boolean isAbstract = method.hasModifierProperty(PsiModifier.ABSTRACT);
+            boolean isStatic = method.hasModifierProperty(PsiModifier.STATIC);
+            boolean isGeneric = method.hasTypeParameters();
+
+            if (containsAnnotation(type, method.getAnnotations(), INJECT_FQ_NAME)) {
+                if (isConstructorMethod(method))
+                    injectedConstructors.add(method);
+                if (isFinal) {
+                    String msg = Messages.getMessage("InjectNoFinalMethod");
+                    diagnostics.add(createDiagnostic(method, unit, msg,
+                            DIAGNOSTIC_CODE_INJECT_FINAL, method.getReturnType().getInternalCanonicalText(),
+                            DiagnosticSeverity.Error));
+                }
+                if (isAbstract) {
+                    String msg = Messages.getMessage("InjectNoAbstractMethod");
+                    diagnostics.add(createDiagnostic(method, unit, msg,
+                            DIAGNOSTIC_CODE_INJECT_ABSTRACT, method.getReturnType().getInternalCanonicalText(),
+                            DiagnosticSeverity.Error));
+                }
+                if (isStatic) {
+                    String msg = Messages.getMessage("InjectNoStaticMethod");
+                    diagnostics.add(createDiagnostic(method, unit, msg,
+                            DIAGNOSTIC_CODE_INJECT_STATIC, method.getReturnType().getInternalCanonicalText(),
                             DiagnosticSeverity.Error));
                 }
-            }
 
-            List<PsiMethod> injectedConstructors = new ArrayList<PsiMethod>();
-            PsiMethod[] allMethods = type.getMethods();
-            for (PsiMethod method : allMethods) {
-                boolean isFinal = method.hasModifierProperty(PsiModifier.FINAL);
-                boolean isAbstract = method.hasModifierProperty(PsiModifier.ABSTRACT);
-                boolean isStatic = method.hasModifierProperty(PsiModifier.STATIC);
-                boolean isGeneric = method.hasTypeParameters();
-
-                if (containsAnnotation(type, method.getAnnotations(), INJECT_FQ_NAME)) {
-                    if (isConstructorMethod(method))
-                        injectedConstructors.add(method);
-                    if (isFinal) {
-                        String msg = Messages.getMessage("InjectNoFinalMethod");
-                        diagnostics.add(createDiagnostic(method, unit, msg,
-                                DIAGNOSTIC_CODE_INJECT_FINAL, method.getReturnType().getInternalCanonicalText(),
-                                DiagnosticSeverity.Error));
-                    }
-                    if (isAbstract) {
-                        String msg = Messages.getMessage("InjectNoAbstractMethod");
-                        diagnostics.add(createDiagnostic(method, unit, msg,
-                                DIAGNOSTIC_CODE_INJECT_ABSTRACT, method.getReturnType().getInternalCanonicalText(),
-                                DiagnosticSeverity.Error));
-                    }
-                    if (isStatic) {
-                        String msg = Messages.getMessage("InjectNoStaticMethod");
-                        diagnostics.add(createDiagnostic(method, unit, msg,
-                                DIAGNOSTIC_CODE_INJECT_STATIC, method.getReturnType().getInternalCanonicalText(),
-                                DiagnosticSeverity.Error));
-                    }
-
-                    if (isGeneric) {
-                        String msg = Messages.getMessage("InjectNoGenericMethod");
-                        diagnostics.add(createDiagnostic(method, unit, msg,
-                                DIAGNOSTIC_CODE_INJECT_GENERIC, method.getReturnType().getInternalCanonicalText(),
-                                DiagnosticSeverity.Error));
-                    }
+                if (isGeneric) {
+                    String msg = Messages.getMessage("InjectNoGenericMethod");
+                    diagnostics.add(createDiagnostic(method, unit, msg,
+                            DIAGNOSTIC_CODE_INJECT_GENERIC, method.getReturnType().getInternalCanonicalText(),
+                            DiagnosticSeverity.Error));
                 }
             }
+        }
 
-            // if more than one 'inject' constructor, add diagnostic to all constructors
-            if (injectedConstructors.size() > 1) {
-                String msg = Messages.getMessage("InjectMoreThanOneConstructor");
-                for (PsiMethod m : injectedConstructors) {
-                    diagnostics.add(createDiagnostic(m, unit, msg,
-                            DIAGNOSTIC_CODE_INJECT_CONSTRUCTOR, null, DiagnosticSeverity.Error));
-                }
+        // if more than one 'inject' constructor, add diagnostic to all constructors
+        if (injectedConstructors.size() > 1) {
+            String msg = Messages.getMessage("InjectMoreThanOneConstructor");
+            for (PsiMethod m : injectedConstructors) {
+                diagnostics.add(createDiagnostic(m, unit, msg,
+                        DIAGNOSTIC_CODE_INJECT_CONSTRUCTOR, null, DiagnosticSeverity.Error));
             }
         }
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2023 IBM Corporation, Matthew Shocrylas and others.
+ * Copyright (c) 2021, 2025 IBM Corporation, Matthew Shocrylas and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -24,6 +24,9 @@ import java.util.List;
 
 public class ResourceMethodDiagnosticsCollector extends AbstractDiagnosticsCollector {
 
+    private static final String[] METHOD_DESIGNATORS = ArrayUtils.addAll(
+            Jax_RSConstants.SET_OF_METHOD_DESIGNATORS_ANNOTATIONS, Jax_RSConstants.PATH_ANNOTATION);
+
     public ResourceMethodDiagnosticsCollector() {
         super();
     }
@@ -34,65 +37,59 @@ public class ResourceMethodDiagnosticsCollector extends AbstractDiagnosticsColle
     }
 
     @Override
-    public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
-
-        if (unit != null) {
-            String[] methodDesignators = ArrayUtils.addAll(Jax_RSConstants.SET_OF_METHOD_DESIGNATORS_ANNOTATIONS,
-                    Jax_RSConstants.PATH_ANNOTATION);
-            PsiClass[] alltypes;
-            PsiMethod[] methods;
+    protected String[] getTriggerAnnotations() {
+        return METHOD_DESIGNATORS;
+    }
 
-            alltypes = unit.getClasses();
-            for (PsiClass type : alltypes) {
-                methods = type.getMethods();
-                for (PsiMethod method : methods) {
-                    PsiAnnotation[] methodAnnotations = method.getAnnotations();
-                    boolean isResourceMethod = false;
-                    boolean isValid = true;
-                    boolean isPublic = method.hasModifierProperty(PsiModifier.PUBLIC);
+    @Override
+    protected void collectDiagnostics(PsiClass type, PsiJavaFile unit, List<Diagnostic> diagnostics) {
+        PsiMethod[] methods = type.getMethods();
+        for (PsiMethod method : methods) {
+            PsiAnnotation[] methodAnnotations = method.getAnnotations();
+            boolean isResourceMethod = false;
+            boolean isValid = true;
+            boolean isPublic = method.hasModifierProperty(PsiModifier.PUBLIC);
 
-                    for (PsiAnnotation annotation : methodAnnotations) {
-                        String matchedAnnotation = getMatchedJavaElementName(type, annotation.getQualifiedName(),
-                                methodDesignators);
-                        if (matchedAnnotation != null) {
-                            if (isValid && !isPublic)
-                                isValid = false;
-                            if (!Jax_RSConstants.PATH_ANNOTATION.equals(matchedAnnotation)) {
-                                isResourceMethod = true;
-                                break;
-                            }
-                        }
-                    }
-                    if (!isValid) {
-                        diagnostics.add(createDiagnostic(method, unit,
-                                Messages.getMessage("OnlyPublicMethods"),
-                                Jax_RSConstants.DIAGNOSTIC_CODE_NON_PUBLIC, null, DiagnosticSeverity.Error));
+            for (PsiAnnotation annotation : methodAnnotations) {
+                String matchedAnnotation = getMatchedJavaElementName(type, annotation.getQualifiedName(),
+                        METHOD_DESIGNATORS);
+                if (matchedAnnotation != null) {
+                    if (isValid && !isPublic)
+                        isValid = false;
+                    if (!Jax_RSConstants.PATH_ANNOTATION.equals(matchedAnnotation)) {
+                        isResourceMethod = true;
+                        break;
                     }
-                    if (isResourceMethod) {
-                        int numEntityParams = 0;
-                        PsiParameter[] parameters = method.getParameterList().getParameters();
-                        for (PsiParameter param : parameters) {
-                            boolean isEntityParam = true;
-                            PsiAnnotation[] annotations = param.getAnnotations();
-                            for (PsiAnnotation annotation : annotations) {
-                                String matchedAnnotation = getMatchedJavaElementName(type,
-                                        annotation.getQualifiedName(),
-                                        Jax_RSConstants.SET_OF_NON_ENTITY_PARAM_ANNOTATIONS);
-                                if (matchedAnnotation != null) {
-                                    isEntityParam = false;
-                                    break;
-                                }
-                            }
-                            if (isEntityParam)
-                                numEntityParams++;
-                        }
-                        if (numEntityParams > 1) {
-                            diagnostics.add(createDiagnostic(method, unit,
-                                    Messages.getMessage("ResourceMethodsEntityParameter"),
-                                    Jax_RSConstants.DIAGNOSTIC_CODE_MULTIPLE_ENTITY_PARAMS, null,
-                                    DiagnosticSeverity.Error));
+                }
+            }
+            if (!isValid) {
+                diagnostics.add(createDiagnostic(method, unit,
+                        Messages.getMessage("OnlyPublicMethods"),
+                        Jax_RSConstants.DIAGNOSTIC_CODE_NON_PUBLIC, null, DiagnosticSeverity.Error));
+            }
+            if (isResourceMethod) {
+                int numEntityParams = 0;
+                PsiParameter[] parameters = method.getParameterList().getParameters();
+                for (PsiParameter param : parameters) {
+                    boolean isEntityParam = true;
+                    PsiAnnotation[] annotations = param.getAnnotations();
+                    for (PsiAnnotation annotation : annotations) {
+                        String matchedAnnotation = getMatchedJavaElementName(type,
+                                annotation.getQualifiedName(),
+                                Jax_RSConstants.SET_OF_NON_ENTITY_PARAM_ANNOTATIONS);
+                        if (matchedAnnotation != null) {
+                            isEntityParam = false;
+                            break;
                         }
                     }
+                    if (isEntityParam)
+                        numEntityParams++;
+                }
+                if (numEntityParams > 1) {
+                    diagnostics.add(createDiagnostic(method, unit,
+                            Messages.getMessage("ResourceMethodsEntityParameter"),
+                            Jax_RSConstants.DIAGNOSTIC_CODE_MULTIPLE_ENTITY_PARAMS, null,
+                            DiagnosticSeverity.Error));
                 }
             }
         }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2024 IBM Corporation, Matheus Cruz and others.
+ * Copyright (c) 2020, 2025 IBM Corporation, Matheus Cruz and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -22,6 +22,7 @@ import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsColle
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.JDTUtils;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.JavaFileDeclarations;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.Messages;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
@@ -33,6 +34,9 @@ import org.eclipse.lsp4j.DiagnosticSeverity;
  */
 public class JsonbDiagnosticsCollector extends AbstractDiagnosticsCollector {
 
+    private static final String[] TRIGGER_ANNOTATIONS = { JsonbConstants.JSONB_CREATOR,
+            JsonbConstants.JSONB_TRANSIENT_FQ_NAME };
+
     public JsonbDiagnosticsCollector() {
         super();
     }
@@ -42,6 +46,20 @@ public class JsonbDiagnosticsCollector extends AbstractDiagnosticsCollector {
         return JsonbConstants.DIAGNOSTIC_SOURCE;
     }
 
+    @Override
+    protected String[] getTriggerAnnotations() {
+        return TRIGGER_ANNOTATIONS;
+    }
+
+    @Override
+    protected void collectDiagnostics(JavaFileDeclarations declarations, List<Diagnostic> diagnostics) {
+        // The accessors of a field may be declared by any type of the compilation unit,
+        // so the whole compilation unit is checked as soon as one of them is annotated.
+        if (declarations.hasAnyAnnotation(TRIGGER_ANNOTATIONS)) {
+            collectDiagnostics(declarations.getUnit(), diagnostics);
+        }
+    }
+
     @Override
     public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
         if (unit == null)
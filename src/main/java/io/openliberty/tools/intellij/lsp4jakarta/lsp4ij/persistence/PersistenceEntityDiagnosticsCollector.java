@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2023 IBM Corporation, Ankush Sharma and others.
+ * Copyright (c) 2020, 2025 IBM Corporation, Ankush Sharma and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -28,6 +28,8 @@ import java.util.List;
 
 public class PersistenceEntityDiagnosticsCollector extends AbstractDiagnosticsCollector {
 
+    private static final String[] TRIGGER_ANNOTATIONS = { PersistenceConstants.ENTITY };
+
     public PersistenceEntityDiagnosticsCollector() {
         super();
     }
@@ -38,88 +40,84 @@ public class PersistenceEntityDiagnosticsCollector extends AbstractDiagnosticsCo
     }
 
     @Override
-    public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
-        if (unit != null) {
-            PsiClass[] alltypes;
-            PsiAnnotation[] allAnnotations;
-
-            alltypes = unit.getClasses();
-            for (PsiClass type : alltypes) {
-                allAnnotations = type.getAnnotations();
-
-                /* ============ Entity Annotation Diagnostics =========== */
-                PsiAnnotation EntityAnnotation = null;
-                for (PsiAnnotation annotation : allAnnotations) {
-                    if (isMatchedJavaElement(type, annotation.getQualifiedName(), PersistenceConstants.ENTITY)) {
-                        EntityAnnotation = annotation;
-                    }
-                }
+    protected String[] getTriggerAnnotations() {
+        return TRIGGER_ANNOTATIONS;
+    }
 
-                if (EntityAnnotation != null) {
-                    // Define boolean requirements for the diagnostics
-                    boolean hasPublicOrProtectedNoArgConstructor = false;
-                    boolean hasArgConstructor = false;
-                    boolean isEntityClassFinal = false;
-
-                    // Get the Methods of the annotated Class
-                    for (PsiMethod method : type.getMethods()) {
-                        if (isConstructorMethod(method)) {
-                            // We have found a method that is a constructor
-                            if (method.getParameterList().getParametersCount() > 0) {
-                                hasArgConstructor = true;
-                                continue;
-                            }
-                            // Don't need to perform subtractions to check flags because eclipse notifies on
-                            // illegal constructor modifiers
-                            if (!method.hasModifierProperty(PsiModifier.PUBLIC) && !method.hasModifierProperty(PsiModifier.PROTECTED))
-                                continue;
-                            hasPublicOrProtectedNoArgConstructor = true;
-                        }
-                        // All Methods of this class should not be final
-                        if (method.hasModifierProperty(PsiModifier.FINAL)) {
-                            diagnostics.add(createDiagnostic(method, unit,
-                                    Messages.getMessage("EntityNoFinalMethods"),
-                                    PersistenceConstants.DIAGNOSTIC_CODE_FINAL_METHODS, method.getReturnType().getInternalCanonicalText(),
-                                    DiagnosticSeverity.Error));
-                        }
-                    }
+    @Override
+    protected void collectDiagnostics(PsiClass type, PsiJavaFile unit, List<Diagnostic> diagnostics) {
+        PsiAnnotation[] allAnnotations = type.getAnnotations();
+
+        /* ============ Entity Annotation Diagnostics =========== */
+        PsiAnnotation EntityAnnotation = null;
+        for (PsiAnnotation annotation : allAnnotations) {
+            if (isMatchedJavaElement(type, annotation.getQualifiedName(), PersistenceConstants.ENTITY)) {
+                EntityAnnotation = annotation;
+            }
+        }
 
-                    // Go through the instance variables and make sure no instance vars are final
-                    for (PsiField field : type.getFields()) {
-                        // If a field is static, we do not care about it, we care about all other field
-                        if (field.hasModifierProperty(PsiModifier.STATIC)) {
-                            continue;
-                        }
-                        // If we find a non-static variable that is final, this is a problem
-                        if (field.hasModifierProperty(PsiModifier.FINAL)) {
-                            diagnostics.add(createDiagnostic(field, unit,
-                                    Messages.getMessage("EntityNoFinalVariables"),
-                                    PersistenceConstants.DIAGNOSTIC_CODE_FINAL_VARIABLES, field.getType().getInternalCanonicalText(),
-                                    DiagnosticSeverity.Error));
-                        }
+        if (EntityAnnotation != null) {
+            // Define boolean requirements for the diagnostics
+            boolean hasPublicOrProtectedNoArgConstructor = false;
+            boolean hasArgConstructor = false;
+            boolean isEntityClassFinal = false;
+
+            // Get the Methods of the annotated Class
+            for (PsiMethod method : type.getMethods()) {
+                if (isConstructorMethod(method)) {
+                    // We have found a method that is a constructor
+                    if (method.getParameterList().getParametersCount() > 0) {
+                        hasArgConstructor = true;
+                        continue;
                     }
+                    // Don't need to perform subtractions to check flags because eclipse notifies on
+                    // illegal constructor modifiers
+                    if (!method.hasModifierProperty(PsiModifier.PUBLIC) && !method.hasModifierProperty(PsiModifier.PROTECTED))
+                        continue;
+                    hasPublicOrProtectedNoArgConstructor = true;
+                }
+                // All Methods of this class should not be final
+                if (method.hasModifierProperty(PsiModifier.FINAL)) {
+                    diagnostics.add(createDiagnostic(method, unit,
+                            Messages.getMessage("EntityNoFinalMethods"),
+                            PersistenceConstants.DIAGNOSTIC_CODE_FINAL_METHODS, method.getReturnType().getInternalCanonicalText(),
+                            DiagnosticSeverity.Error));
+                }
+            }
 
-                    // Ensure that the Entity class is not given a final modifier
-                    if (type.hasModifierProperty(PsiModifier.FINAL))
-                        isEntityClassFinal = true;
+            // Go through the instance variables and make sure no instance vars are final
+            for (PsiField field : type.getFields()) {
+                // If a field is static, we do not care about it, we care about all other field
+                if (field.hasModifierProperty(PsiModifier.STATIC)) {
+                    continue;
+                }
+                // If we find a non-static variable that is final, this is a problem
+                if (field.hasModifierProperty(PsiModifier.FINAL)) {
+                    diagnostics.add(createDiagnostic(field, unit,
+                            Messages.getMessage("EntityNoFinalVariables"),
+                            PersistenceConstants.DIAGNOSTIC_CODE_FINAL_VARIABLES, field.getType().getInternalCanonicalText(),
+                            DiagnosticSeverity.Error));
+                }
+            }
 
-                    // Create Diagnostics if needed
-                    if (!hasPublicOrProtectedNoArgConstructor && hasArgConstructor) {
-                        diagnostics.add(createDiagnostic(type, unit,
-                                Messages.getMessage("EntityNoArgConstructor"),
-                                PersistenceConstants.DIAGNOSTIC_CODE_MISSING_EMPTY_CONSTRUCTOR, null,
-                                DiagnosticSeverity.Error));
-                    }
+            // Ensure that the Entity class is not given a final modifier
+            if (type.hasModifierProperty(PsiModifier.FINAL))
+                isEntityClassFinal = true;
 
-                    if (isEntityClassFinal) {
-                        diagnostics.add(createDiagnostic(type, unit,
-                                Messages.getMessage("EntityNoFinalClass"),
-                                PersistenceConstants.DIAGNOSTIC_CODE_FINAL_CLASS, type.getQualifiedName(),
-                                DiagnosticSeverity.Error));
-                    }
-                }
+            // Create Diagnostics if needed
+            if (!hasPublicOrProtectedNoArgConstructor && hasArgConstructor) {
+                diagnostics.add(createDiagnostic(type, unit,
+                        Messages.getMessage("EntityNoArgConstructor"),
+                        PersistenceConstants.DIAGNOSTIC_CODE_MISSING_EMPTY_CONSTRUCTOR, null,
+                        DiagnosticSeverity.Error));
+            }
+
+            if (isEntityClassFinal) {
+                diagnostics.add(createDiagnostic(type, unit,
+                        Messages.getMessage("EntityNoFinalClass"),
+                        PersistenceConstants.DIAGNOSTIC_CODE_FINAL_CLASS, type.getQualifiedName(),
+                        DiagnosticSeverity.Error));
             }
         }
-        // We do not do anything if the found unit is null
     }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2024 IBM Corporation, Ankush Sharma and others.
+ * Copyright (c) 2020, 2025 IBM Corporation, Ankush Sharma and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -35,24 +35,21 @@ public class PersistenceMapKeyDiagnosticsCollector extends AbstractDiagnosticsCo
     }
 
     @Override
-    public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
-        if (unit != null) {
-            PsiClass[] alltypes = unit.getClasses();
-            PsiMethod[] methods;
-            PsiField[] fields;
+    protected String[] getTriggerAnnotations() {
+        return PersistenceConstants.SET_OF_PERSISTENCE_ANNOTATIONS;
+    }
 
-            for (PsiClass type : alltypes) {
-                methods = type.getMethods();
-                for (PsiMethod method : methods) {
-                    collectDiagnostics(unit, diagnostics, type, method);
-                }
-                // Go through each field to ensure they do not have both MapKey and MapKeyColumn
-                // Annotations
-                fields = type.getFields();
-                for (PsiField field : fields) {
-                    collectDiagnostics(unit, diagnostics, type, field);
-                }
-            }
+    @Override
+    protected void collectDiagnostics(PsiClass type, PsiJavaFile unit, List<Diagnostic> diagnostics) {
+        PsiMethod[] methods = type.getMethods();
+        for (PsiMethod method : methods) {
+            collectDiagnostics(unit, diagnostics, type, method);
+        }
+        // Go through each field to ensure they do not have both MapKey and MapKeyColumn
+        // Annotations
+        PsiField[] fields = type.getFields();
+        for (PsiField field : fields) {
+            collectDiagnostics(unit, diagnostics, type, field);
         }
     }
 
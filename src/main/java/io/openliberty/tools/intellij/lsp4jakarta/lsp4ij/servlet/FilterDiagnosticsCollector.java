@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2023 IBM Corporation, Reza Akhavan and others.
+ * Copyright (c) 2020, 2025 IBM Corporation, Reza Akhavan and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -26,6 +26,8 @@ import java.util.List;
 
 public class FilterDiagnosticsCollector extends AbstractDiagnosticsCollector {
 
+    private static final String[] TRIGGER_ANNOTATIONS = { ServletConstants.WEBFILTER_FQ_NAME };
+
     public FilterDiagnosticsCollector() {
         super();
     }
@@ -35,65 +37,63 @@ public class FilterDiagnosticsCollector extends AbstractDiagnosticsCollector {
         return ServletConstants.DIAGNOSTIC_SOURCE;
     }
 
-    public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
-        if (unit != null) {
-            PsiClass[] alltypes;
-            PsiAnnotation[] allAnnotations;
+    @Override
+    protected String[] getTriggerAnnotations() {
+        return TRIGGER_ANNOTATIONS;
+    }
 
-            alltypes = unit.getClasses();
-            for (PsiClass type : alltypes) {
-                allAnnotations = type.getAnnotations();
-                PsiAnnotation webFilterAnnotation = null;
+    @Override
+    protected void collectDiagnostics(PsiClass type, PsiJavaFile unit, List<Diagnostic> diagnostics) {
+        PsiAnnotation[] allAnnotations = type.getAnnotations();
+        PsiAnnotation webFilterAnnotation = null;
 
-                for (PsiAnnotation annotation : allAnnotations) {
-                    if (isMatchedJavaElement(type, annotation.getQualifiedName(),
-                            ServletConstants.WEBFILTER_FQ_NAME)) {
-                        webFilterAnnotation = annotation;
-                    }
-                }
+        for (PsiAnnotation annotation : allAnnotations) {
+            if (isMatchedJavaElement(type, annotation.getQualifiedName(),
+                    ServletConstants.WEBFILTER_FQ_NAME)) {
+                webFilterAnnotation = annotation;
+            }
+        }
 
-                String[] interfaces = {ServletConstants.FILTER_FQ_NAME};
-                boolean isFilterImplemented = doesImplementInterfaces(type, interfaces);
+        String[] interfaces = {ServletConstants.FILTER_FQ_NAME};
+        boolean isFilterImplemented = doesImplementInterfaces(type, interfaces);
 
-                if (webFilterAnnotation != null && !isFilterImplemented) {
-                    diagnostics.add(createDiagnostic(type, unit,
-                            Messages.getMessage("WebFilterMustImplement"),
-                            ServletConstants.DIAGNOSTIC_CODE_FILTER, null, DiagnosticSeverity.Error));
-                }
+        if (webFilterAnnotation != null && !isFilterImplemented) {
+            diagnostics.add(createDiagnostic(type, unit,
+                    Messages.getMessage("WebFilterMustImplement"),
+                    ServletConstants.DIAGNOSTIC_CODE_FILTER, null, DiagnosticSeverity.Error));
+        }
 
-                /* URL pattern diagnostic check */
-                if (webFilterAnnotation != null) {
-                    PsiNameValuePair[] memberValues = webFilterAnnotation.getParameterList().getAttributes();
+        /* URL pattern diagnostic check */
+        if (webFilterAnnotation != null) {
+            PsiNameValuePair[] memberValues = webFilterAnnotation.getParameterList().getAttributes();
 
-                    boolean isUrlpatternSpecified = false;
-                    boolean isServletNamesSpecified = false;
-                    boolean isValueSpecified = false;
-                    for (PsiNameValuePair mv : memberValues) {
-                        if (mv.getAttributeName().equals(ServletConstants.URL_PATTERNS)) {
-                            isUrlpatternSpecified = true;
-                            continue;
-                        }
-                        if (mv.getAttributeName().equals(ServletConstants.SERVLET_NAMES)) {
-                            isServletNamesSpecified = true;
-                            continue;
-                        }
-                        if (mv.getAttributeName().equals(ServletConstants.VALUE)) {
-                            isValueSpecified = true;
-                        }
-                    }
-                    if (!isUrlpatternSpecified && !isValueSpecified && !isServletNamesSpecified) {
-                        diagnostics.add(createDiagnostic(webFilterAnnotation, unit,
-                                Messages.getMessage("WebFilterMustDefine"),
-                                ServletConstants.DIAGNOSTIC_CODE_FILTER_MISSING_ATTRIBUTE, null,
-                                DiagnosticSeverity.Error));
-                    }
-                    if (isUrlpatternSpecified && isValueSpecified) {
-                        diagnostics.add(createDiagnostic(webFilterAnnotation, unit,
-                                Messages.getMessage("WebFilterCannotHaveBoth"),
-                                ServletConstants.DIAGNOSTIC_CODE_FILTER_DUPLICATE_ATTRIBUTES, null,
-                                DiagnosticSeverity.Error));
-                    }
+            boolean isUrlpatternSpecified = false;
+            boolean isServletNamesSpecified = false;
+            boolean isValueSpecified = false;
+            for (PsiNameValuePair mv : memberValues) {
+                if (mv.getAttributeName().equals(ServletConstants.URL_PATTERNS)) {
+                    isUrlpatternSpecified = true;
+                    continue;
+                }
+                if (mv.getAttributeName().equals(ServletConstants.SERVLET_NAMES)) {
+                    isServletNamesSpecified = true;
+                    continue;
                 }
+                if (mv.getAttributeName().equals(ServletConstants.VALUE)) {
+                    isValueSpecified = true;
+                }
+            }
+            if (!isUrlpatternSpecified && !isValueSpecified && !isServletNamesSpecified) {
+                diagnostics.add(createDiagnostic(webFilterAnnotation, unit,
+                        Messages.getMessage("WebFilterMustDefine"),
+                        ServletConstants.DIAGNOSTIC_CODE_FILTER_MISSING_ATTRIBUTE, null,
+                        DiagnosticSeverity.Error));
+            }
+            if (isUrlpatternSpecified && isValueSpecified) {
+                diagnostics.add(createDiagnostic(webFilterAnnotation, unit,
+                        Messages.getMessage("WebFilterCannotHaveBoth"),
+                        ServletConstants.DIAGNOSTIC_CODE_FILTER_DUPLICATE_ATTRIBUTES, null,
+                        DiagnosticSeverity.Error));
             }
         }
     }
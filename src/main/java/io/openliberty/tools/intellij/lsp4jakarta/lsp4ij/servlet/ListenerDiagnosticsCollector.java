@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2023 IBM Corporation, Reza Akhavan and others.
+ * Copyright (c) 2020, 2025 IBM Corporation, Reza Akhavan and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -25,6 +25,8 @@ import java.util.List;
 
 public class ListenerDiagnosticsCollector extends AbstractDiagnosticsCollector {
 
+    private static final String[] TRIGGER_ANNOTATIONS = { ServletConstants.WEB_LISTENER_FQ_NAME };
+
     public ListenerDiagnosticsCollector() {
         super();
     }
@@ -34,38 +36,36 @@ public class ListenerDiagnosticsCollector extends AbstractDiagnosticsCollector {
         return ServletConstants.DIAGNOSTIC_SOURCE;
     }
 
-    public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
-        if (unit != null) {
-            PsiClass[] alltypes;
-            PsiAnnotation[] allAnnotations;
+    @Override
+    protected String[] getTriggerAnnotations() {
+        return TRIGGER_ANNOTATIONS;
+    }
 
-            alltypes = unit.getClasses();
-            for (PsiClass type : alltypes) {
-                allAnnotations = type.getAnnotations();
-                boolean isWebListenerAnnotated = false;
-                for (PsiAnnotation annotation : allAnnotations) {
-                    if (isMatchedJavaElement(type, annotation.getQualifiedName(),
-                            ServletConstants.WEB_LISTENER_FQ_NAME)) {
-                        isWebListenerAnnotated = true;
-                        break;
-                    }
-                }
+    @Override
+    protected void collectDiagnostics(PsiClass type, PsiJavaFile unit, List<Diagnostic> diagnostics) {
+        PsiAnnotation[] allAnnotations = type.getAnnotations();
+        boolean isWebListenerAnnotated = false;
+        for (PsiAnnotation annotation : allAnnotations) {
+            if (isMatchedJavaElement(type, annotation.getQualifiedName(),
+                    ServletConstants.WEB_LISTENER_FQ_NAME)) {
+                isWebListenerAnnotated = true;
+                break;
+            }
+        }
 
-                String[] interfaces = { ServletConstants.SERVLET_CONTEXT_LISTENER_FQ_NAME,
-                        ServletConstants.SERVLET_CONTEXT_ATTRIBUTE_LISTENER_FQ_NAME,
-                        ServletConstants.SERVLET_REQUEST_LISTENER_FQ_NAME,
-                        ServletConstants.SERVLET_REQUEST_ATTRIBUTE_LISTENER_FQ_NAME,
-                        ServletConstants.HTTP_SESSION_LISTENER_FQ_NAME,
-                        ServletConstants.HTTP_SESSION_ATTRIBUTE_LISTENER_FQ_NAME,
-                        ServletConstants.HTTP_SESSION_ID_LISTENER_FQ_NAME };
-                boolean isImplemented = doesImplementInterfaces(type, interfaces);
+        String[] interfaces = { ServletConstants.SERVLET_CONTEXT_LISTENER_FQ_NAME,
+                ServletConstants.SERVLET_CONTEXT_ATTRIBUTE_LISTENER_FQ_NAME,
+                ServletConstants.SERVLET_REQUEST_LISTENER_FQ_NAME,
+                ServletConstants.SERVLET_REQUEST_ATTRIBUTE_LISTENER_FQ_NAME,
+                ServletConstants.HTTP_SESSION_LISTENER_FQ_NAME,
+                ServletConstants.HTTP_SESSION_ATTRIBUTE_LISTENER_FQ_NAME,
+                ServletConstants.HTTP_SESSION_ID_LISTENER_FQ_NAME };
+        boolean isImplemented = doesImplementInterfaces(type, interfaces);
 
-                if (isWebListenerAnnotated && !isImplemented) {
-                    diagnostics.add(createDiagnostic(type, unit,
-                            Messages.getMessage("AnnotatedWithWebListenerMustImplement"),
-                            ServletConstants.DIAGNOSTIC_CODE_LISTENER, null, DiagnosticSeverity.Error));
-                }
-            }
+        if (isWebListenerAnnotated && !isImplemented) {
+            diagnostics.add(createDiagnostic(type, unit,
+                    Messages.getMessage("AnnotatedWithWebListenerMustImplement"),
+                    ServletConstants.DIAGNOSTIC_CODE_LISTENER, null, DiagnosticSeverity.Error));
         }
     }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2023 IBM Corporation, Pengyu Xiong and others.
+ * Copyright (c) 2020, 2025 IBM Corporation, Pengyu Xiong and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -14,7 +14,6 @@
 package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.servlet;
 
 import com.intellij.psi.*;
-import com.intellij.psi.search.GlobalSearchScope;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.Messages;
 import org.eclipse.lsp4j.Diagnostic;
@@ -38,6 +37,8 @@ import java.util.List;
  */
 public class ServletDiagnosticsCollector extends AbstractDiagnosticsCollector {
 
+    private static final String[] TRIGGER_ANNOTATIONS = { ServletConstants.WEB_SERVLET_FQ_NAME };
+
     public ServletDiagnosticsCollector() {
         super();
     }
@@ -48,72 +49,67 @@ public class ServletDiagnosticsCollector extends AbstractDiagnosticsCollector {
     }
 
     @Override
-    public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
-        if (unit != null) {
-            PsiClass[] alltypes;
-            PsiAnnotation[] allAnnotations;
+    protected String[] getTriggerAnnotations() {
+        return TRIGGER_ANNOTATIONS;
+    }
 
-            alltypes = unit.getClasses();
-            for (PsiClass type : alltypes) {
-                allAnnotations = type.getAnnotations();
+    @Override
+    protected void collectDiagnostics(PsiClass type, PsiJavaFile unit, List<Diagnostic> diagnostics) {
+        PsiAnnotation[] allAnnotations = type.getAnnotations();
 
-                PsiAnnotation webServletAnnotation = null;
-                for (PsiAnnotation annotation : allAnnotations) {
-                    if (isMatchedJavaElement(type, annotation.getQualifiedName(),
-                            ServletConstants.WEB_SERVLET_FQ_NAME)) {
-                        webServletAnnotation = annotation;
-                        break; // get the first one, the annotation is not repeatable
-                    }
-                }
+        PsiAnnotation webServletAnnotation = null;
+        for (PsiAnnotation annotation : allAnnotations) {
+            if (isMatchedJavaElement(type, annotation.getQualifiedName(),
+                    ServletConstants.WEB_SERVLET_FQ_NAME)) {
+                webServletAnnotation = annotation;
+                break; // get the first one, the annotation is not repeatable
+            }
+        }
 
-                if (webServletAnnotation != null) {
-                    // check if the class extends HttpServlet
-                    int r = 1;
-                    JavaPsiFacade facade = JavaPsiFacade.getInstance(type.getProject());
-                    PsiClass httpServletClass = facade.findClass("jakarta.servlet.http.HttpServlet",
-                            GlobalSearchScope.allScope(type.getProject()));
-                    if (!type.isInheritor(httpServletClass, true)) {
-                        r = -1;
-                    }
+        if (webServletAnnotation != null) {
+            // check if the class extends HttpServlet
+            int r = 1;
+            PsiClass httpServletClass = findClass(type, "jakarta.servlet.http.HttpServlet");
+            if (!type.isInheritor(httpServletClass, true)) {
+                r = -1;
+            }
 
-                    if (r == -1) {
-                        diagnostics.add(createDiagnostic(type, unit,
-                                Messages.getMessage("WebServletMustExtend"),
-                                ServletConstants.DIAGNOSTIC_CODE, null, DiagnosticSeverity.Error));
-                    } else if (r == 0) { // unknown super type
-                        diagnostics.add(createDiagnostic(type, unit,
-                                Messages.getMessage("WebServletShouldExtend"),
-                                ServletConstants.DIAGNOSTIC_CODE, null, DiagnosticSeverity.Warning));
-                    }
+            if (r == -1) {
+                diagnostics.add(createDiagnostic(type, unit,
+                        Messages.getMessage("WebServletMustExtend"),
+                        ServletConstants.DIAGNOSTIC_CODE, null, DiagnosticSeverity.Error));
+            } else if (r == 0) { // unknown super type
+                diagnostics.add(createDiagnostic(type, unit,
+                        Messages.getMessage("WebServletShouldExtend"),
+                        ServletConstants.DIAGNOSTIC_CODE, null, DiagnosticSeverity.Warning));
+            }
 
-                    /* URL pattern diagnostic check */
-                    PsiNameValuePair[] memberValues = webServletAnnotation.getParameterList().getAttributes();
+            /* URL pattern diagnostic check */
+            PsiNameValuePair[] memberValues = webServletAnnotation.getParameterList().getAttributes();
 
-                    boolean isUrlpatternSpecified = false;
-                    boolean isValueSpecified = false;
-                    for (PsiNameValuePair mv : memberValues) {
-                        if (mv.getAttributeName().equals(ServletConstants.URL_PATTERNS)) {
-                            isUrlpatternSpecified = true;
-                            continue;
-                        }
-                        if (mv.getAttributeName().equals(ServletConstants.VALUE)) {
-                            isValueSpecified = true;
-                        }
-                    }
-                    if (!isUrlpatternSpecified && !isValueSpecified) {
-                        diagnostics.add(createDiagnostic(webServletAnnotation, unit,
-                                Messages.getMessage("WebServletMustDefine"),
-                                ServletConstants.DIAGNOSTIC_CODE_MISSING_ATTRIBUTE, null,
-                                DiagnosticSeverity.Error));
-                    }
-                    if (isUrlpatternSpecified && isValueSpecified) {
-                        diagnostics.add(createDiagnostic(webServletAnnotation, unit,
-                                Messages.getMessage("WebServletCannotHaveBoth"),
-                                ServletConstants.DIAGNOSTIC_CODE_DUPLICATE_ATTRIBUTES, null,
-                                DiagnosticSeverity.Error));
-                    }
+            boolean isUrlpatternSpecified = false;
+            boolean isValueSpecified = false;
+            for (PsiNameValuePair mv : memberValues) {
+                if (mv.getAttributeName().equals(ServletConstants.URL_PATTERNS)) {
+                    isUrlpatternSpecified = true;
+                    continue;
+                }
+                if (mv.getAttributeName().equals(ServletConstants.VALUE)) {
+                    isValueSpecified = true;
                 }
             }
+            if (!isUrlpatternSpecified && !isValueSpecified) {
+                diagnostics.add(createDiagnostic(webServletAnnotation, unit,
+                        Messages.getMessage("WebServletMustDefine"),
+                        ServletConstants.DIAGNOSTIC_CODE_MISSING_ATTRIBUTE, null,
+                        DiagnosticSeverity.Error));
+            }
+            if (isUrlpatternSpecified && isValueSpecified) {
+                diagnostics.add(createDiagnostic(webServletAnnotation, unit,
+                        Messages.getMessage("WebServletCannotHaveBoth"),
+                        ServletConstants.DIAGNOSTIC_CODE_DUPLICATE_ATTRIBUTES, null,
+                        DiagnosticSeverity.Error));
+            }
         }
     }
 }
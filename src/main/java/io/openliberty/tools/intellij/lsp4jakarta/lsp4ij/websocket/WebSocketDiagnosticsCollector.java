@@ -1,5 +1,5 @@
 /******************************************************************************* 
- * Copyright (c) 2022, 2024 IBM Corporation and others.
+ * Copyright (c) 2022, 2025 IBM Corporation and others.
  * 
  * This program and the accompanying materials are made available under the 
  * terms of the Eclipse Public License v. 2.0 which is available at 
@@ -37,38 +37,34 @@ public class WebSocketDiagnosticsCollector extends AbstractDiagnosticsCollector
     }
 
     @Override
-    public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
-        if (unit == null) {
-            return;
-        }
+    protected String[] getTriggerAnnotations() {
+        return WebSocketConstants.WS_ANNOTATION_CLASS;
+    }
 
-        PsiClass[] alltypes = null;
-        HashMap<String, Boolean> checkWSEnd = null;
-        alltypes = unit.getClasses();
-        for (PsiClass type : alltypes) {
-            checkWSEnd = isWSEndpoint(type);
-            // checks if the class uses annotation to create a WebSocket endpoint
-            if (checkWSEnd.get(WebSocketConstants.IS_ANNOTATION)) {
-                // WebSocket Invalid Parameters Diagnostic
-                invalidParamsCheck(type, unit, diagnostics);
+    @Override
+    protected void collectDiagnostics(PsiClass type, PsiJavaFile unit, List<Diagnostic> diagnostics) {
+        HashMap<String, Boolean> checkWSEnd = isWSEndpoint(type);
+        // checks if the class uses annotation to create a WebSocket endpoint
+        if (checkWSEnd.get(WebSocketConstants.IS_ANNOTATION)) {
+            // WebSocket Invalid Parameters Diagnostic
+            invalidParamsCheck(type, unit, diagnostics);
 
-                /* @PathParam Value Mismatch Warning */
-                List<String> endpointPathVars = findAndProcessEndpointURI(type);
-                /*
-                 * WebSocket endpoint annotations must be attached to a class, and thus is
-                 * guaranteed to be processed before any of the member method annotations
-                 */
-                if (endpointPathVars != null && !endpointPathVars.isEmpty()) {
-                    // PathParam URI Mismatch Warning Diagnostic
-                    uriMismatchWarningCheck(type, endpointPathVars, diagnostics, unit);
-                }
+            /* @PathParam Value Mismatch Warning */
+            List<String> endpointPathVars = findAndProcessEndpointURI(type);
+            /*
+             * WebSocket endpoint annotations must be attached to a class, and thus is
+             * guaranteed to be processed before any of the member method annotations
+             */
+            if (endpointPathVars != null && !endpointPathVars.isEmpty()) {
+                // PathParam URI Mismatch Warning Diagnostic
+                uriMismatchWarningCheck(type, endpointPathVars, diagnostics, unit);
+            }
 
-                // OnMessage validation for WebSocket message formats
-                onMessageWSMessageFormats(type, diagnostics, unit);
+            // OnMessage validation for WebSocket message formats
+            onMessageWSMessageFormats(type, diagnostics, unit);
 
-                // ServerEndpoint annotation diagnostics
-                serverEndpointErrorCheck(type, diagnostics, unit);
-            }
+            // ServerEndpoint annotation diagnostics
+            serverEndpointErrorCheck(type, diagnostics, unit);
         }
     }
 
@@ -13,6 +13,7 @@ package io.openliberty.tools.intellij.lsp4mp.lsp;
 import com.intellij.codeInspection.InspectionProfile;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.fileEditor.FileEditorManagerListener;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.progress.Task;
@@ -28,7 +29,6 @@ import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.ProjectLabelManager;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.PropertiesManager;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.PropertiesManagerForJava;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
-import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
 import io.openliberty.tools.intellij.lsp4mp4ij.settings.MicroProfileInspectionsInfo;
 import io.openliberty.tools.intellij.lsp4mp4ij.settings.UserDefinedMicroProfileSettings;
@@ -59,6 +59,7 @@ import java.util.stream.Collectors;
 public class MicroProfileLanguageClient extends IndexAwareLanguageClient implements MicroProfileLanguageClientAPI, ClasspathResourceChangedManager.Listener, ProfileChangeAdapter {
 
     private final MessageBusConnection connection;
+    private final PublishedDiagnosticsFilter publishedDiagnostics = new PublishedDiagnosticsFilter();
     private MicroProfileInspectionsInfo inspectionsInfo;
 
     public MicroProfileLanguageClient(Project project) {
@@ -70,6 +71,7 @@ public class MicroProfileLanguageClient extends IndexAwareLanguageClient impleme
         connection.subscribe(ClasspathResourceChangedManager.TOPIC, this);
         inspectionsInfo = MicroProfileInspectionsInfo.getMicroProfileInspectionInfo(project);
         connection.subscribe(ProfileChangeAdapter.TOPIC, this);
+        connection.subscribe(FileEditorManagerListener.FILE_EDITOR_MANAGER, publishedDiagnostics);
         // Track MicroProfile settings changed to push them to the language server with LSP didChangeConfiguration.
         UserDefinedMicroProfileSettings.getInstance(project).addChangeHandler(getDidChangeConfigurationListener());
     }
@@ -195,7 +197,33 @@ public class MicroProfileLanguageClient extends IndexAwareLanguageClient impleme
         // "Too many non-blocking read actions submitted at once in". To avoid having this error, we create a coalesceBy key
         // managed by IJ ReadAction.nonBlocking() to cancel the previous request.
         var coalesceBy = new CoalesceByKey("microprofile/java/diagnostics", javaParams.getUris());
-        return runAsBackground("Computing MicroProfile Java diagnostics", monitor -> PropertiesManagerForJava.getInstance().diagnostics(javaParams, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
+        return runAsBackground("Computing MicroProfile Java diagnostics", monitor -> PropertiesManagerForJava.getInstance().diagnostics(javaParams, PsiUtilsLSImpl.getInstance(getProject()), this::publishDeferredDiagnostics), coalesceBy);
+    }
+
+    @Override
+    public void publishDiagnostics(PublishDiagnosticsParams diagnostics) {
+        // Skip the partial diagnostics of a request whose complete diagnostics have already been published
+        if (PropertiesManagerForJava.getInstance().isSupersededDiagnostics(diagnostics, PsiUtilsLSImpl.getInstance(getProject()))) {
+            return;
+        }
+        doPublishDiagnostics(diagnostics);
+    }
+
+    private void doPublishDiagnostics(PublishDiagnosticsParams diagnostics) {
+        // Skip the diagnostics identical to the ones already published for the document to avoid re-rendering them
+        if (publishedDiagnostics.isChanged(diagnostics)) {
+            super.publishDiagnostics(diagnostics);
+            // Compute the quick fixes of the diagnostics before the quick fix popup is opened
+            PropertiesManagerForJava.getInstance().precomputeQuickFixes(diagnostics, PsiUtilsLSImpl.getInstance(getProject()));
+        }
+    }
+
+    private void publishDeferredDiagnostics(PublishDiagnosticsParams diagnostics) {
+        // The expensive participants which didn't fit in the time budget of the request have finished,
+        // publish the complete diagnostics of the Java file.
+        if (!isDisposed()) {
+            doPublishDiagnostics(diagnostics);
+        }
     }
 
     @Override
@@ -231,12 +259,8 @@ public class MicroProfileLanguageClient extends IndexAwareLanguageClient impleme
     @Override
     public CompletableFuture<MicroProfileJavaCompletionResult> getJavaCompletion(MicroProfileJavaCompletionParams javaParams) {
         var coalesceBy = new CoalesceByKey("microprofile/java/completion", javaParams.getUri(),javaParams.getPosition());
-        return runAsBackground("Computing Java completion", monitor -> {
-            IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
-            CompletionList completionList = PropertiesManagerForJava.getInstance().completion(javaParams, utils);
-            JavaCursorContextResult cursorContext = PropertiesManagerForJava.getInstance().javaCursorContext(javaParams, utils);
-            return new MicroProfileJavaCompletionResult(completionList, cursorContext);
-        }, coalesceBy);
+        return runAsBackground("Computing Java completion", monitor ->
+                PropertiesManagerForJava.getInstance().completionWithCursorContext(javaParams, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
     }
 
     @Override
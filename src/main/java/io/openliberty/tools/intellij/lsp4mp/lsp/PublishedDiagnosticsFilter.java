@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp.lsp;
+
+import com.intellij.openapi.fileEditor.FileEditorManager;
+import com.intellij.openapi.fileEditor.FileEditorManagerListener;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.redhat.devtools.lsp4ij.LSPIJUtils;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Digests of the diagnostics last published by a language client, per document
+ * URI, used to skip publishing diagnostics identical to the ones already
+ * rendered in the editor.
+ *
+ * <p>
+ * The digest of a file is removed when the file is closed, because the
+ * diagnostics of a closed document are dropped by the client and must be
+ * published again when it is opened. The digests are keyed by the URL of the
+ * virtual file, since the language server may encode the URI of a file
+ * differently.
+ * </p>
+ */
+public class PublishedDiagnosticsFilter implements FileEditorManagerListener {
+
+    private record Digest(int hash, List<Diagnostic> diagnostics) {
+
+        private static Digest of(List<Diagnostic> diagnostics) {
+            List<Diagnostic> copy = diagnostics != null ? List.copyOf(diagnostics) : Collections.emptyList();
+            return new Digest(copy.hashCode(), copy);
+        }
+    }
+
+    private final Map<String, Digest> published = new ConcurrentHashMap<>();
+
+    /**
+     * Records the given diagnostics as published and returns true if they differ
+     * from the diagnostics last published for the same document and false
+     * otherwise.
+     *
+     * @param params the diagnostics to publish.
+     * @return true if the given diagnostics must be published and false otherwise.
+     */
+    public boolean isChanged(PublishDiagnosticsParams params) {
+        if (params.getUri() == null) {
+            return true;
+        }
+        Digest digest = Digest.of(params.getDiagnostics());
+        Digest previous = published.put(toKey(params.getUri()), digest);
+        return !digest.equals(previous);
+    }
+
+    @Override
+    public void fileClosed(@NotNull FileEditorManager source, @NotNull VirtualFile file) {
+        published.remove(file.getUrl());
+    }
+
+    private static String toKey(String uri) {
+        VirtualFile file = LSPIJUtils.findResourceFor(uri);
+        return file != null ? file.getUrl() : uri;
+    }
+}
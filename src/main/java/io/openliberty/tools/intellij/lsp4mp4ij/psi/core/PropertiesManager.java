@@ -23,6 +23,8 @@ import com.intellij.psi.search.SearchScope;
 import com.intellij.util.MergeQuery;
 import com.intellij.util.Query;
 import com.intellij.util.UniqueResultsQuery;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.MicroProfilePropertiesIndex;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PropertyDeclarationIndex;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.PropertiesCollector;
@@ -35,6 +37,7 @@ import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertyDefinitionParams;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -109,12 +112,28 @@ public class PropertiesManager {
             if (query != null) {
                 try {
                     beginSearch(context, monitor);
-                    query.forEach((Consumer<? super PsiModifierListOwner>) psiMember -> collectProperties(psiMember, context, monitor));
+                    // The test classpath collects the same source members again, they are indexed once
+                    PropertyDeclarationIndex declarationIndex = classpathKind == ClasspathKind.SRC
+                            ? PropertyDeclarationIndex.getInstance(module.getProject()) : null;
+                    query.forEach((Consumer<? super PsiModifierListOwner>) psiMember -> {
+                        int start = info.getProperties().size();
+                        collectProperties(psiMember, context, monitor);
+                        // Index the members which declare the collected properties for the definition lookup
+                        List<ItemMetadata> properties = info.getProperties();
+                        if (declarationIndex != null && properties.size() > start) {
+                            declarationIndex.index(module, psiMember, properties.subList(start, properties.size()));
+                        }
+                    });
                 }
                 finally {
                     endSearch(context, monitor);
                 }
             }
+            if (classpathKind == ClasspathKind.SRC) {
+                // Keep the prefix index used by the Java completion in sync with the properties of the language server
+                MicroProfilePropertiesIndex.getInstance(module.getProject()).update(module, info,
+                        MicroProfilePropertiesScope.isOnlySources(scopes));
+            }
         }
         LOGGER.info("End computing MicroProfile properties for '" + info.getProjectURI() + "' in "
                 + (System.currentTimeMillis() - startTime) + "ms.");
@@ -246,6 +265,23 @@ public class PropertiesManager {
         if (sourceType == null) {
             return null;
         }
+        if (module == null) {
+            return resolveDeclaredProperty(null, sourceType, sourceField, sourceMethod, utils);
+        }
+        PropertyDeclarationIndex declarationIndex = PropertyDeclarationIndex.getInstance(module.getProject());
+        PsiMember member = declarationIndex.find(module, sourceType, sourceField, sourceMethod);
+        if (member != null) {
+            return member;
+        }
+        member = resolveDeclaredProperty(module, sourceType, sourceField, sourceMethod, utils);
+        if (member != null) {
+            declarationIndex.put(module, sourceType, sourceField, sourceMethod, member);
+        }
+        return member;
+    }
+
+    private static PsiMember resolveDeclaredProperty(Module module, String sourceType, String sourceField,
+                                                     String sourceMethod, IPsiUtils utils) {
         // Try to find type with standard classpath
         PsiClass type = utils.findClass(module, sourceType);
         if (type == null) {
@@ -11,12 +11,11 @@
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.core;
 
 import com.intellij.lang.jvm.JvmParameter;
-import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleManager;
 import com.intellij.openapi.progress.ProgressIndicator;
-import com.intellij.openapi.util.Computable;
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.*;
 import com.intellij.psi.util.PsiTreeUtil;
@@ -27,9 +26,11 @@ import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.definition.IJavaDef
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.definition.JavaDefinitionContext;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.symbols.IJavaWorkspaceSymbolsParticipant;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.DiagnosticsHandler;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.PublishedJavaDiagnostics;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.hover.IJavaHoverParticipant;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.hover.JavaHoverContext;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.ReadActionUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.codeaction.CodeActionHandler;
 import org.eclipse.lsp4j.*;
 import org.eclipse.lsp4mp.commons.*;
@@ -41,6 +42,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -83,7 +85,7 @@ public final class PropertiesManagerForJava {
      *         and null otherwise.
      */
     public JavaFileInfo fileInfo(MicroProfileJavaFileInfoParams params, IPsiUtils utils) {
-        return ApplicationManager.getApplication().runReadAction((Computable<JavaFileInfo>) () -> {
+        return ReadActionUtils.compute(() -> {
             String uri = params.getUri();
             final PsiFile unit = utils.resolveCompilationUnit(uri);
             if (unit != null && unit.isValid() && unit instanceof PsiJavaFile) {
@@ -104,7 +106,7 @@ public final class PropertiesManagerForJava {
      * @return the codelens list according the given codelens parameters.
      */
     public List<? extends CodeLens> codeLens(MicroProfileJavaCodeLensParams params, IPsiUtils utils,  ProgressIndicator monitor) {
-        return ApplicationManager.getApplication().runReadAction((Computable<List<? extends CodeLens>>) () -> {
+        return ReadActionUtils.compute(() -> {
             String uri = params.getUri();
             PsiFile typeRoot = resolveTypeRoot(uri, utils);
             if (typeRoot == null) {
@@ -136,6 +138,7 @@ public final class PropertiesManagerForJava {
             // Begin, collect, end participants
             definitions.forEach(definition -> definition.beginCodeLens(context, monitor));
             definitions.forEach(definition -> {
+                ProgressManager.checkCanceled();
                 List<CodeLens> collectedLenses = definition.collectCodeLens(context, monitor);
                 if (collectedLenses != null && !collectedLenses.isEmpty()) {
                     lenses.addAll(collectedLenses);
@@ -158,6 +161,19 @@ public final class PropertiesManagerForJava {
         return completionHandler.completion(params, utils);
     }
 
+    /**
+     * Returns the CompletionItems and the cursor context given the completion
+     * item params, computed in a single read action.
+     *
+     * @param params  the completion item params
+     * @param utils   the IJDTUtils
+     * @return the CompletionItems and the cursor context for the given the
+     *         completion item params
+     */
+    public MicroProfileJavaCompletionResult completionWithCursorContext(MicroProfileJavaCompletionParams params, IPsiUtils utils) {
+        return completionHandler.completionWithCursorContext(params, utils);
+    }
+
     /**
      * Returns the definition list according the given definition parameters.
      *
@@ -166,7 +182,7 @@ public final class PropertiesManagerForJava {
      * @return the definition list according the given definition parameters.
      */
     public List<MicroProfileDefinition> definition(MicroProfileJavaDefinitionParams params, IPsiUtils utils) {
-        return ApplicationManager.getApplication().runReadAction((Computable<List<MicroProfileDefinition>>)() -> {
+        return ReadActionUtils.compute(() -> {
             String uri = params.getUri();
             PsiFile typeRoot = resolveTypeRoot(uri, utils);
             if (typeRoot == null) {
@@ -206,6 +222,7 @@ public final class PropertiesManagerForJava {
                     // Begin, collect, end participants
                     definitions.forEach(definition -> definition.beginDefinition(context));
                     definitions.forEach(definition -> {
+                        ProgressManager.checkCanceled();
                         List<MicroProfileDefinition> collectedDefinitions = definition.collectDefinitions(context);
                         if (collectedDefinitions != null && !collectedDefinitions.isEmpty()) {
                             locations.addAll(collectedDefinitions);
@@ -231,6 +248,20 @@ public final class PropertiesManagerForJava {
         return diagnosticsHandler.collectDiagnostics(params, utils);
     }
 
+    /**
+     * Returns diagnostics for the given uris list, publishing the diagnostics of
+     * the participants which don't fit in the time budget of the request later.
+     *
+     * @param params    the diagnostics parameters
+     * @param utils     the utilities class
+     * @param publisher the consumer of the diagnostics completed in the background
+     * @return diagnostics for the given uris list.
+     */
+    public List<PublishDiagnosticsParams> diagnostics(MicroProfileJavaDiagnosticsParams params, IPsiUtils utils,
+                                                      Consumer<PublishDiagnosticsParams> publisher) {
+        return diagnosticsHandler.collectDiagnostics(params, utils, publisher);
+    }
+
     /**
      * Returns the hover information according to the given <code>params</code>
      *
@@ -239,7 +270,7 @@ public final class PropertiesManagerForJava {
      * @return the hover information according to the given <code>params</code>
      */
     public Hover hover(MicroProfileJavaHoverParams params, IPsiUtils utils) {
-        return ApplicationManager.getApplication().runReadAction((Computable<Hover>) () -> {
+        return ReadActionUtils.compute(() -> {
             String uri = params.getUri();
             PsiFile typeRoot = resolveTypeRoot(uri, utils);
             if (typeRoot == null) {
@@ -276,7 +307,7 @@ public final class PropertiesManagerForJava {
      * @return the cursor context for the given file and cursor position
      */
     public JavaCursorContextResult javaCursorContext(MicroProfileJavaCompletionParams params, IPsiUtils utils) {
-        return completionHandler.javaCursorContext(params, utils);
+        return ReadActionUtils.compute(() -> completionHandler.javaCursorContext(params, utils));
     }
 
     @Nullable
@@ -339,6 +370,7 @@ public final class PropertiesManagerForJava {
                     // Begin, collect, end participants
                     definitions.forEach(definition -> definition.beginHover(context));
                     definitions.forEach(definition -> {
+                        ProgressManager.checkCanceled();
                         Hover hover = definition.collectHover(context);
                         if (hover != null) {
                             hovers.add(hover);
@@ -373,9 +405,9 @@ public final class PropertiesManagerForJava {
      * @return the codeAction list according the given codeAction parameters.
      */
     public List<? extends CodeAction> codeAction(MicroProfileJavaCodeActionParams params, IPsiUtils utils) {
-        return ApplicationManager.getApplication().runReadAction((Computable<List<? extends CodeAction>>) () -> {
-            return codeActionHandler.codeAction(params, utils);
-        });
+        // Request of the language client, its capabilities are used to compute the quick fixes ahead of time
+        codeActionHandler.setLastCapabilities(params);
+        return ReadActionUtils.compute(() -> codeActionHandler.codeAction(params, utils));
     }
 
     /**
@@ -386,14 +418,41 @@ public final class PropertiesManagerForJava {
      * @return the codeAction list according the given codeAction parameters.
      */
     public CodeAction resolveCodeAction(CodeAction unresolved, IPsiUtils utils) {
-        return ApplicationManager.getApplication().runReadAction((Computable<CodeAction>) () -> {
-            return codeActionHandler.resolveCodeAction(unresolved, utils);
-        });
+        return ReadActionUtils.compute(() -> codeActionHandler.resolveCodeAction(unresolved, utils));
+    }
+
+    /**
+     * Returns true if the given diagnostics published by the language server are
+     * the partial diagnostics of a request whose complete diagnostics have
+     * already been published and false otherwise.
+     *
+     * @param diagnostics the diagnostics published by the language server
+     * @param utils       the utilities class
+     * @return true if the given diagnostics must not be published and false otherwise.
+     */
+    public boolean isSupersededDiagnostics(PublishDiagnosticsParams diagnostics, IPsiUtils utils) {
+        return PublishedJavaDiagnostics.getInstance(utils.getProject()).isSuperseded(GROUP_NAME, diagnostics);
+    }
+
+    /**
+     * Computes in the background the quick fixes of the given published
+     * diagnostics.
+     *
+     * @param diagnostics the published diagnostics of a Java file
+     * @param utils       the utilities class
+     */
+    public void precomputeQuickFixes(PublishDiagnosticsParams diagnostics, IPsiUtils utils) {
+        codeActionHandler.precomputeQuickFixes(diagnostics, utils);
     }
 
     /**
      * Returns the workspace symbols for the given java project.
      *
+     * <p>
+     * Each participant collects its symbols in its own read action, so that a
+     * write action only restarts the participant it has interrupted.
+     * </p>
+     *
      * @param projectUri the uri of the java project
      * @param utils      the JDT utils
      * @param monitor    the progress monitor
@@ -401,7 +460,7 @@ public final class PropertiesManagerForJava {
      */
     public List<SymbolInformation> workspaceSymbols(String projectUri, IPsiUtils utils, ProgressIndicator monitor) {
         List<SymbolInformation> symbols = new ArrayList<>();
-        Module module = getModule(projectUri, utils);
+        Module module = ReadActionUtils.compute(() -> getModule(projectUri, utils));
         if (module != null) {
             collectWorkspaceSymbols(module, utils, symbols, monitor);
         }
@@ -428,6 +487,16 @@ public final class PropertiesManagerForJava {
         if (definitions.isEmpty()) {
             return;
         }
-        definitions.forEach(definition -> definition.collectSymbols(project, utils, symbols, monitor));
+        for (IJavaWorkspaceSymbolsParticipant definition : definitions) {
+            ProgressManager.checkCanceled();
+            // A restarted read action collects the symbols of the participant again from scratch
+            symbols.addAll(ReadActionUtils.compute(() -> {
+                List<SymbolInformation> participantSymbols = new ArrayList<>();
+                if (!project.isDisposed()) {
+                    definition.collectSymbols(project, utils, participantSymbols, monitor);
+                }
+                return participantSymbols;
+            }));
+        }
     }
 }
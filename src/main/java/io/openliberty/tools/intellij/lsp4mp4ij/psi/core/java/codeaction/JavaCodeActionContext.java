@@ -59,13 +59,21 @@ public class JavaCodeActionContext extends AbstractJavaContext implements IInvoc
 	}
 
 	/**
-	 * Return a copy of the context with its own in memory compilation unit
+	 * Return a copy of the context which shares the compilation unit of this
+	 * context.
+	 *
+	 * <p>
+	 * The code actions collected with the copy only record the edits to do in
+	 * their resolve data and must not modify the compilation unit: the edits are
+	 * computed when the code action is resolved, in the working copy of
+	 * {@link JavaCodeActionResolveContext#copy()}.
+	 * </p>
 	 *
 	 * @return the new context
 	 */
 	public JavaCodeActionContext copy() {
-		return new JavaCodeActionContext(getTypeRoot().getViewProvider().clone().getPsi(getTypeRoot().getLanguage()), selectionOffset,
-				selectionLength, getUtils(), getJavaProject(), params, this.source);
+		return new JavaCodeActionContext(getTypeRoot(), selectionOffset, selectionLength, getUtils(), getJavaProject(),
+				params, this.source);
 	}
 
 	public MicroProfileJavaCodeActionParams getParams() {
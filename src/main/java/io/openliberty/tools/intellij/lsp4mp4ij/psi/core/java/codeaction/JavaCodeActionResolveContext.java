@@ -26,29 +26,60 @@ public class JavaCodeActionResolveContext extends JavaCodeActionContext {
 
 	private final CodeAction unresolved;
 
+	// True if the context must work on its own in memory copy of the compilation unit
+	private final boolean workingCopyRequired;
+
+	private PsiFile workingCopy;
+
 	public JavaCodeActionResolveContext(PsiFile typeRoot, int selectionOffset, int selectionLength, IPsiUtils utils,
 										MicroProfileJavaCodeActionParams params, CodeAction unresolved) {
 		super(typeRoot, selectionOffset, selectionLength, utils, params);
 		this.unresolved = unresolved;
+		this.workingCopyRequired = false;
 		this.source = this;
 	}
 
 	public JavaCodeActionResolveContext(PsiFile typeRoot, int selectionOffset, int selectionLength, IPsiUtils utils,
 										MicroProfileJavaCodeActionParams params, CodeAction unresolved, JavaCodeActionResolveContext source) {
+		this(typeRoot, selectionOffset, selectionLength, utils, params, unresolved, source, false);
+	}
+
+	private JavaCodeActionResolveContext(PsiFile typeRoot, int selectionOffset, int selectionLength, IPsiUtils utils,
+										 MicroProfileJavaCodeActionParams params, CodeAction unresolved,
+										 JavaCodeActionResolveContext source, boolean workingCopyRequired) {
 		super(typeRoot, selectionOffset, selectionLength, utils, params);
 		this.unresolved = unresolved;
+		this.workingCopyRequired = workingCopyRequired;
 		this.source = source;
 	}
 
 	/**
-	 * Return a copy of the context with its own in memory compilation unit
+	 * Return a copy of the context with its own in memory compilation unit.
+	 *
+	 * <p>
+	 * The in memory compilation unit is created on the first access to the
+	 * compilation unit of the copy, so that resolving a code action which doesn't
+	 * need to modify it (ex : a command) doesn't clone the file.
+	 * </p>
 	 *
 	 * @return the new context
 	 */
 	@Override
 	public JavaCodeActionResolveContext copy() {
-		return new JavaCodeActionResolveContext(getTypeRoot().getViewProvider().clone().getPsi(getTypeRoot().getLanguage()), super.getSelectionOffset(),
-				super.getSelectionLength(), getUtils(), super.getParams(), this.unresolved, getSource());
+		return new JavaCodeActionResolveContext(super.getTypeRoot(), super.getSelectionOffset(),
+				super.getSelectionLength(), getUtils(), super.getParams(), this.unresolved, getSource(), true);
+	}
+
+	@Override
+	public PsiFile getTypeRoot() {
+		if (!workingCopyRequired) {
+			return super.getTypeRoot();
+		}
+		if (workingCopy == null) {
+			PsiFile typeRoot = super.getTypeRoot();
+			workingCopy = typeRoot.getViewProvider().clone().getPsi(typeRoot.getLanguage());
+		}
+		return workingCopy;
 	}
 
 	@Override
@@ -10,13 +10,14 @@
  ******************************************************************************/
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.completion;
 
-import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.module.Module;
-import com.intellij.openapi.util.Computable;
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.psi.*;
 import com.intellij.psi.util.PsiTreeUtil;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.ReadActionUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.JavaParticipantRegistry;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.completion.JavaCompletionDefinition;
 import org.eclipse.lsp4j.CompletionItem;
 import org.eclipse.lsp4j.CompletionList;
@@ -24,6 +25,7 @@ import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4mp.commons.JavaCursorContextKind;
 import org.eclipse.lsp4mp.commons.JavaCursorContextResult;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaCompletionParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaCompletionResult;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -44,6 +46,25 @@ public final class CompletionHandler {
         this.group = group;
     }
 
+    /**
+     * The Java file and the offset of a completion request.
+     */
+    private record CompletionTarget(String uri, PsiFile typeRoot, @Nullable Document document, int offset) {
+
+        private static @Nullable CompletionTarget resolve(MicroProfileJavaCompletionParams params, IPsiUtils utils) {
+            String uri = params.getUri();
+            PsiFile typeRoot = resolveTypeRoot(uri, utils);
+            if (typeRoot == null) {
+                return null;
+            }
+            Document document = PsiDocumentManager.getInstance(typeRoot.getProject()).getDocument(typeRoot);
+            Position completionPosition = params.getPosition();
+            int completionOffset = document != null ? utils.toOffset(document, completionPosition.getLine(),
+                    completionPosition.getCharacter()) : 0;
+            return new CompletionTarget(uri, typeRoot, document, completionOffset);
+        }
+    }
+
     /**
      * Returns the CompletionItems given the completion item params
      *
@@ -52,51 +73,66 @@ public final class CompletionHandler {
      * @return the CompletionItems for the given the completion item params
      */
     public CompletionList completion(MicroProfileJavaCompletionParams params, IPsiUtils utils) {
-        return ApplicationManager.getApplication().runReadAction((Computable<CompletionList>) () -> {
-            try {
-                String uri = params.getUri();
-                PsiFile typeRoot = resolveTypeRoot(uri, utils);
-                if (typeRoot == null) {
-                    return null;
-                }
-
-                Module module = utils.getModule(uri);
-                if (module == null) {
-                    return null;
-                }
+        return ReadActionUtils.compute(() -> completion(CompletionTarget.resolve(params, utils), utils));
+    }
 
-                Position completionPosition = params.getPosition();
-                int completionOffset = utils.toOffset(typeRoot, completionPosition.getLine(),
-                        completionPosition.getCharacter());
+    /**
+     * Returns the CompletionItems and the cursor context given the completion
+     * params.
+     *
+     * The Java file, its module and the completion offset are resolved once, in
+     * the same read action, for both results.
+     *
+     * @param params  the completion item params
+     * @param utils   the IJDTUtils
+     * @return the CompletionItems and the cursor context for the given the
+     *         completion item params
+     */
+    public MicroProfileJavaCompletionResult completionWithCursorContext(MicroProfileJavaCompletionParams params, IPsiUtils utils) {
+        return ReadActionUtils.compute(() -> {
+            CompletionTarget target = CompletionTarget.resolve(params, utils);
+            return new MicroProfileJavaCompletionResult(completion(target, utils), javaCursorContext(target));
+        });
+    }
 
-                List<CompletionItem> completionItems = new ArrayList<>();
-                JavaCompletionContext completionContext = new JavaCompletionContext(uri, typeRoot, utils, module, completionOffset);
+    private @Nullable CompletionList completion(@Nullable CompletionTarget target, IPsiUtils utils) {
+        if (target == null) {
+            return null;
+        }
+        try {
+            Module module = utils.getModule(target.uri());
+            if (module == null) {
+                return null;
+            }
 
-                List<JavaCompletionDefinition> completions = JavaCompletionDefinition.EP_NAME.getExtensionList()
-                        .stream()
-                        .filter(definition -> group.equals(definition.getGroup()))
-                        .filter(completion -> completion.isAdaptedForCompletion(completionContext))
-                        .collect(Collectors.toList());
+            List<CompletionItem> completionItems = new ArrayList<>();
+            JavaCompletionContext completionContext = new JavaCompletionContext(target.uri(), target.typeRoot(), utils,
+                    module, target.offset());
 
-                if (completions.isEmpty()) {
-                    return null;
-                }
+            List<JavaCompletionDefinition> completions = JavaParticipantRegistry.getInstance().getCompletionDefinitions(group)
+                    .stream()
+                    .filter(completion -> completion.isAdaptedForCompletion(completionContext))
+                    .collect(Collectors.toList());
 
-                completions.forEach(completion -> {
-                    List<? extends CompletionItem> collectedCompletionItems = completion.collectCompletionItems(completionContext);
-                    if (collectedCompletionItems != null) {
-                        completionItems.addAll(collectedCompletionItems);
-                    }
-                });
-
-                CompletionList completionList = new CompletionList();
-                completionList.setItems(completionItems);
-                return completionList;
-            } catch (IOException e) {
-                LOGGER.warn(e.getLocalizedMessage(), e);
+            if (completions.isEmpty()) {
                 return null;
             }
-        });
+
+            completions.forEach(completion -> {
+                ProgressManager.checkCanceled();
+                List<? extends CompletionItem> collectedCompletionItems = completion.collectCompletionItems(completionContext);
+                if (collectedCompletionItems != null) {
+                    completionItems.addAll(collectedCompletionItems);
+                }
+            });
+
+            CompletionList completionList = new CompletionList();
+            completionList.setItems(completionItems);
+            return completionList;
+        } catch (IOException e) {
+            LOGGER.warn(e.getLocalizedMessage(), e);
+            return null;
+        }
     }
 
     /**
@@ -108,20 +144,15 @@ public final class CompletionHandler {
      * @return the cursor context for the given file and cursor position
      */
     public JavaCursorContextResult javaCursorContext(MicroProfileJavaCompletionParams params, IPsiUtils utils) {
-        String uri = params.getUri();
-        PsiFile typeRoot = resolveTypeRoot(uri, utils);
-        if (!(typeRoot instanceof PsiJavaFile)) {
-            return new JavaCursorContextResult(JavaCursorContextKind.IN_EMPTY_FILE, "");
-        }
-        Document document = PsiDocumentManager.getInstance(typeRoot.getProject()).getDocument(typeRoot);
-        if (document == null) {
+        return javaCursorContext(CompletionTarget.resolve(params, utils));
+    }
+
+    private static JavaCursorContextResult javaCursorContext(@Nullable CompletionTarget target) {
+        if (target == null || !(target.typeRoot() instanceof PsiJavaFile) || target.document() == null) {
             return new JavaCursorContextResult(JavaCursorContextKind.IN_EMPTY_FILE, "");
         }
-        Position completionPosition = params.getPosition();
-        int completionOffset = utils.toOffset(document, completionPosition.getLine(), completionPosition.getCharacter());
-
-        JavaCursorContextKind kind = getJavaCursorContextKind((PsiJavaFile) typeRoot, completionOffset);
-        String prefix = getJavaCursorPrefix(document, completionOffset);
+        JavaCursorContextKind kind = getJavaCursorContextKind((PsiJavaFile) target.typeRoot(), target.offset());
+        String prefix = getJavaCursorPrefix(target.document(), target.offset());
 
         return new JavaCursorContextResult(kind, prefix);
     }
@@ -15,7 +15,6 @@ import com.intellij.openapi.editor.event.DocumentEvent;
 import com.intellij.openapi.editor.event.DocumentListener;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
-import com.intellij.psi.codeStyle.CodeStyleManager;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
@@ -42,9 +41,8 @@ public abstract class ASTRewriteCorrectionProposal extends ChangeCorrectionPropo
     @Override
     public final Change getChange() {
         performUpdate();
+        reformatChangedLines(sourceCU, getElement().getContainingFile());
         Document document = getElement().getContainingFile().getViewProvider().getDocument();
-        CodeStyleManager.getInstance(getElement().getProject()).reformatText(getElement().getContainingFile(),
-                0, document.getTextLength());
         return new Change(sourceCU.getViewProvider().getDocument(), document);
     }
 }
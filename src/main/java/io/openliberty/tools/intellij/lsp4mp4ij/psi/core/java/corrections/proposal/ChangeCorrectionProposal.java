@@ -10,9 +10,19 @@
  ******************************************************************************/
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.corrections.proposal;
 
+import com.intellij.diff.comparison.ComparisonManager;
+import com.intellij.diff.comparison.ComparisonPolicy;
+import com.intellij.diff.comparison.DiffTooBigException;
+import com.intellij.diff.fragments.LineFragment;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.editor.event.DocumentEvent;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.codeStyle.CodeStyleManager;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.ProgressUtils;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public abstract class ChangeCorrectionProposal {
@@ -43,4 +53,50 @@ public abstract class ChangeCorrectionProposal {
     }
 
     public abstract Change getChange();
+
+    /**
+     * Reformats the lines of the given working copy which differ from the given
+     * source compilation unit, the rest of the file is left as is.
+     *
+     * @param sourceCU    the source compilation unit.
+     * @param workingCopy the modified copy of the source compilation unit.
+     */
+    protected static void reformatChangedLines(PsiFile sourceCU, PsiFile workingCopy) {
+        String targetText = workingCopy.getText();
+        List<TextRange> ranges = new ArrayList<>();
+        try {
+            List<LineFragment> fragments = ComparisonManager.getInstance().compareLines(sourceCU.getText(), targetText,
+                    ComparisonPolicy.DEFAULT, ProgressUtils.getProgressIndicator());
+            for (LineFragment fragment : fragments) {
+                int start = fragment.getStartOffset2();
+                int end = fragment.getEndOffset2();
+                if (start == end) {
+                    // Deleted lines, reformat the lines around them
+                    start = Math.max(start - 1, 0);
+                }
+                TextRange range = new TextRange(getLineStart(targetText, start), getLineEnd(targetText, start, end));
+                TextRange last = ranges.isEmpty() ? null : ranges.get(ranges.size() - 1);
+                if (last != null && last.getEndOffset() >= range.getStartOffset()) {
+                    ranges.set(ranges.size() - 1, last.union(range));
+                } else {
+                    ranges.add(range);
+                }
+            }
+        } catch (DiffTooBigException e) {
+            ranges = Collections.singletonList(new TextRange(0, targetText.length()));
+        }
+        if (!ranges.isEmpty()) {
+            CodeStyleManager.getInstance(workingCopy.getProject()).reformatText(workingCopy, ranges);
+        }
+    }
+
+    private static int getLineStart(String text, int offset) {
+        return offset > 0 ? text.lastIndexOf('\n', offset - 1) + 1 : 0;
+    }
+
+    private static int getLineEnd(String text, int start, int end) {
+        // The end offset of a line fragment is the start of the line which follows it
+        int lineEnd = text.indexOf('\n', Math.max(end - 1, start));
+        return lineEnd != -1 ? lineEnd : text.length();
+    }
 }
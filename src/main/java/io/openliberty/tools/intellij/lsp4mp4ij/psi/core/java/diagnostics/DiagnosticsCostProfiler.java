@@ -0,0 +1,246 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics;
+
+import com.intellij.notification.Notification;
+import com.intellij.notification.NotificationAction;
+import com.intellij.notification.NotificationType;
+import com.intellij.notification.Notifications;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.project.Project;
+import io.openliberty.tools.intellij.LibertyPluginIcons;
+import io.openliberty.tools.intellij.lsp4mp4ij.settings.UserDefinedMicroProfileSettings;
+import io.openliberty.tools.intellij.util.Constants;
+import io.openliberty.tools.intellij.util.LocalizedResourceUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-project profiler of the cost of the Java diagnostics participants.
+ *
+ * <p>
+ * The cost of each participant is kept over a rolling window of its last runs.
+ * A participant whose average cost stays over the demotion threshold is demoted:
+ * when throttling is enabled, the diagnostics requests don't wait for it and it
+ * runs in a low-priority background pass. It is promoted back once its average
+ * cost falls under half of the threshold.
+ * </p>
+ *
+ * <p>
+ * A participant which dispatches to several parts (ex : the Java AST validators)
+ * also records the cost of each part, so that the demotion names the part which
+ * costs the most. The parts are never demoted on their own.
+ * </p>
+ */
+public final class DiagnosticsCostProfiler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DiagnosticsCostProfiler.class);
+
+    private static final int WINDOW_SIZE = 20;
+
+    // Number of runs required before a participant can be demoted, so that a cold start doesn't demote it
+    private static final int MIN_SAMPLES = 5;
+
+    private static final long DEMOTION_THRESHOLD = TimeUnit.MILLISECONDS.toNanos(250);
+
+    private static final long PROMOTION_THRESHOLD = DEMOTION_THRESHOLD / 2;
+
+    public static DiagnosticsCostProfiler getInstance(@NotNull Project project) {
+        return project.getService(DiagnosticsCostProfiler.class);
+    }
+
+    private final Project project;
+
+    private final Map<String, CostWindow> windows = new ConcurrentHashMap<>();
+
+    private final Map<String /* participant */, Map<String /* part */, CostWindow>> partWindows = new ConcurrentHashMap<>();
+
+    private static class CostWindow {
+
+        private final long[] samples = new long[WINDOW_SIZE];
+
+        private int count;
+
+        private int next;
+
+        private long total;
+
+        private boolean demoted;
+
+        private boolean notified;
+
+        /**
+         * Adds the given cost and returns true if the participant has just been
+         * demoted and false otherwise.
+         */
+        private synchronized boolean add(long cost) {
+            if (count == WINDOW_SIZE) {
+                total -= samples[next];
+            } else {
+                count++;
+            }
+            samples[next] = cost;
+            total += cost;
+            next = (next + 1) % WINDOW_SIZE;
+
+            long average = total / count;
+            if (!demoted && count >= MIN_SAMPLES && average > DEMOTION_THRESHOLD) {
+                demoted = true;
+                return true;
+            }
+            if (demoted && average < PROMOTION_THRESHOLD) {
+                demoted = false;
+            }
+            return false;
+        }
+
+        private synchronized long getAverage() {
+            return count > 0 ? total / count : 0;
+        }
+
+        private synchronized boolean isDemoted() {
+            return demoted;
+        }
+
+        /**
+         * Returns true the first time it is called and false otherwise.
+         */
+        private synchronized boolean markNotified() {
+            boolean first = !notified;
+            notified = true;
+            return first;
+        }
+    }
+
+    private DiagnosticsCostProfiler(Project project) {
+        this.project = project;
+    }
+
+    /**
+     * Records the cost of one run of the given participant.
+     *
+     * @param participant the participant implementation class.
+     * @param cost        the cost of the run in nanoseconds.
+     */
+    public void record(String participant, long cost) {
+        CostWindow window = windows.computeIfAbsent(participant, k -> new CostWindow());
+        if (window.add(cost) && !ApplicationManager.getApplication().isUnitTestMode()) {
+            long average = TimeUnit.NANOSECONDS.toMillis(window.getAverage());
+            String part = getMostExpensivePart(participant);
+            LOGGER.info("Diagnostics participant {} demoted to the background pass, average cost {} ms, most expensive part {}",
+                    participant, average, part);
+            if (window.markNotified() && isThrottlingEnabled()) {
+                notifyDemoted(participant, average, part);
+            }
+        }
+    }
+
+    /**
+     * Records the cost of a part of one run of the given participant.
+     *
+     * @param participant the participant implementation class.
+     * @param part        the part implementation class (ex : a Java AST validator).
+     * @param cost        the cost of the part in nanoseconds.
+     */
+    public void recordPart(String participant, String part, long cost) {
+        partWindows.computeIfAbsent(participant, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(part, k -> new CostWindow())
+                .add(cost);
+    }
+
+    /**
+     * Returns the average cost in nanoseconds of the given part of the given
+     * participant over its last runs and 0 if it has never run.
+     *
+     * @param participant the participant implementation class.
+     * @param part        the part implementation class.
+     * @return the average cost in nanoseconds of the given part.
+     */
+    public long getAveragePartCost(String participant, String part) {
+        Map<String, CostWindow> parts = partWindows.get(participant);
+        CostWindow window = parts != null ? parts.get(part) : null;
+        return window != null ? window.getAverage() : 0;
+    }
+
+    private @Nullable String getMostExpensivePart(String participant) {
+        Map<String, CostWindow> parts = partWindows.get(participant);
+        if (parts == null) {
+            return null;
+        }
+        return parts.entrySet().stream()
+                .max(Comparator.comparingLong(entry -> entry.getValue().getAverage()))
+                .map(Map.Entry::getKey)
+                .orElse(null);
+    }
+
+    /**
+     * Returns the average cost in nanoseconds of the given participant over its
+     * last runs and 0 if it has never run.
+     *
+     * @param participant the participant implementation class.
+     * @return the average cost in nanoseconds of the given participant.
+     */
+    public long getAverageCost(String participant) {
+        CostWindow window = windows.get(participant);
+        return window != null ? window.getAverage() : 0;
+    }
+
+    /**
+     * Returns true if the given participant must run in the background pass and
+     * false otherwise.
+     *
+     * @param participant the participant implementation class.
+     * @return true if the given participant must run in the background pass and
+     *         false otherwise.
+     */
+    public boolean isDemoted(String participant) {
+        if (!isThrottlingEnabled()) {
+            return false;
+        }
+        CostWindow window = windows.get(participant);
+        return window != null && window.isDemoted();
+    }
+
+    private boolean isThrottlingEnabled() {
+        return UserDefinedMicroProfileSettings.getInstance(project).isDiagnosticsThrottlingEnabled();
+    }
+
+    private void notifyDemoted(String participant, long average, @Nullable String part) {
+        String message = part != null
+                ? LocalizedResourceUtil.getMessage("diagnostics.participant.demoted.part", getSimpleName(participant),
+                String.valueOf(average), getSimpleName(part),
+                String.valueOf(TimeUnit.NANOSECONDS.toMillis(getAveragePartCost(participant, part))))
+                : LocalizedResourceUtil.getMessage("diagnostics.participant.demoted", getSimpleName(participant), String.valueOf(average));
+        Notification notification = new Notification(Constants.LIBERTY_DEV_DASHBOARD_ID,
+                LocalizedResourceUtil.getMessage("diagnostics.throttling.title"), message, NotificationType.INFORMATION);
+        notification.setIcon(LibertyPluginIcons.libertyIcon);
+        notification.addAction(NotificationAction.createSimpleExpiring(
+                LocalizedResourceUtil.getMessage("diagnostics.throttling.disable"), () -> {
+                    UserDefinedMicroProfileSettings settings = UserDefinedMicroProfileSettings.getInstance(project);
+                    settings.setDiagnosticsThrottlingEnabled(false);
+                    settings.fireStateChanged();
+                }));
+        Notifications.Bus.notify(notification, project);
+    }
+
+    private static String getSimpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+}
@@ -12,30 +12,53 @@
 
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics;
 
+import com.intellij.openapi.Disposable;
 import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.module.Module;
-import com.intellij.openapi.util.Computable;
-import com.intellij.openapi.util.ThrowableComputable;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.util.ProgressIndicatorUtils;
+import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiFile;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.ReadActionUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.JavaParticipantRegistry;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.corrections.JavaDiagnosticsDefinition;
+import io.openliberty.tools.intellij.lsp4mp4ij.settings.UserDefinedMicroProfileSettings;
+import io.openliberty.tools.intellij.util.LibertyToolPluginDisposable;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsSettings;
+import org.jetbrains.concurrency.CancellablePromise;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 public final class DiagnosticsHandler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DiagnosticsHandler.class);
 
+    private static final int MAX_PARALLEL_DIAGNOSTICS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
+    private static final Executor DIAGNOSTICS_EXECUTOR =
+            AppExecutorUtil.createBoundedApplicationPoolExecutor("Liberty Tools Java diagnostics", MAX_PARALLEL_DIAGNOSTICS);
+
+    // Low-priority pass of the participants demoted by the cost profiler
+    private static final Executor DEMOTED_DIAGNOSTICS_EXECUTOR =
+            AppExecutorUtil.createBoundedApplicationPoolExecutor("Liberty Tools Java diagnostics (background)", 1);
+
     private final String group;
 
     public DiagnosticsHandler(String group) {
@@ -43,52 +66,282 @@ public final class DiagnosticsHandler {
     }
 
     public List<PublishDiagnosticsParams> collectDiagnostics(MicroProfileJavaDiagnosticsParams params, IPsiUtils utils) {
+        return collectDiagnostics(params, utils, null);
+    }
+
+    /**
+     * Returns the diagnostics for the given uris list, collected with the document
+     * format and the settings of the last diagnostics request of the language
+     * server, so that they are the same as the published diagnostics.
+     *
+     * @param uris  the file URIs
+     * @param utils the utilities class
+     * @return the diagnostics for the given uris list.
+     */
+    public List<PublishDiagnosticsParams> collectDiagnosticsWithLastSettings(List<String> uris, IPsiUtils utils) {
+        PublishedJavaDiagnostics.RequestSettings lastSettings = PublishedJavaDiagnostics.getInstance(utils.getProject())
+                .getLastRequestSettings(group);
+        MicroProfileJavaDiagnosticsParams params = new MicroProfileJavaDiagnosticsParams(uris,
+                lastSettings != null && lastSettings.settings() != null ? lastSettings.settings()
+                        : new MicroProfileJavaDiagnosticsSettings(Collections.emptyList()));
+        if (lastSettings != null) {
+            params.setDocumentFormat(lastSettings.documentFormat());
+        }
+        return collectDiagnostics(params, utils, null);
+    }
+
+    /**
+     * Returns the diagnostics for the given uris list.
+     *
+     * <p>
+     * When a publisher is given and the configured time budget of the request runs
+     * out, the diagnostics collected so far are returned and the remaining
+     * participants, starting with the most expensive ones, finish in the
+     * background. A participant still running when the budget runs out is
+     * cancelled and finishes in the background too. The complete diagnostics are
+     * then given to the publisher, unless a newer request of the document has been
+     * received meanwhile.
+     * The participants demoted by the {@link DiagnosticsCostProfiler} always run
+     * in this background pass, their last diagnostics are returned meanwhile.
+     * </p>
+     *
+     * @param params    the diagnostics parameters
+     * @param utils     the utilities class
+     * @param publisher the consumer of the diagnostics completed in the background, or null
+     * @return the diagnostics for the given uris list.
+     */
+    public List<PublishDiagnosticsParams> collectDiagnostics(MicroProfileJavaDiagnosticsParams params, IPsiUtils utils,
+                                                             Consumer<PublishDiagnosticsParams> publisher) {
         List<String> uris = params.getUris();
         if (uris == null) {
             return Collections.emptyList();
         }
         DocumentFormat documentFormat = params.getDocumentFormat();
-        List<PublishDiagnosticsParams> publishDiagnostics = new ArrayList<>();
-        for (String uri : uris) {
-            List<Diagnostic> diagnostics = new ArrayList<>();
-            PublishDiagnosticsParams publishDiagnostic = new PublishDiagnosticsParams(uri, diagnostics);
-            publishDiagnostics.add(publishDiagnostic);
-            collectDiagnostics(uri, utils, documentFormat, params.getSettings(), diagnostics);
+        MicroProfileJavaDiagnosticsSettings settings = params.getSettings();
+        if (publisher != null) {
+            // Request of the language server, the diagnostics of its response are published
+            PublishedJavaDiagnostics.getInstance(utils.getProject())
+                    .setLastRequestSettings(group, new PublishedJavaDiagnostics.RequestSettings(documentFormat, settings));
+        }
+        JavaDiagnosticsCache cache = JavaDiagnosticsCache.getInstance(utils.getProject());
+        long timeBudget = publisher != null ? getTimeBudget(utils.getProject()) : 0;
+        List<PublishDiagnosticsParams> publishDiagnostics = new ArrayList<>(uris.size());
+        if (uris.size() == 1 || ApplicationManager.getApplication().isUnitTestMode()) {
+            for (String uri : uris) {
+                publishDiagnostics.add(ReadActionUtils.compute(
+                        () -> collectDiagnostics(uri, utils, documentFormat, settings, cache, timeBudget, publisher)));
+            }
+            return publishDiagnostics;
+        }
+
+        // Process each URI in its own non-blocking read action, which is restarted when a write action
+        // cancels it, and gather the results in the order of the requested URIs.
+        Disposable parentDisposable = LibertyToolPluginDisposable.getInstance(utils.getProject());
+        List<CancellablePromise<PublishDiagnosticsParams>> promises = new ArrayList<>(uris.size());
+        try {
+            for (String uri : uris) {
+                promises.add(ReadAction.nonBlocking(() -> collectDiagnostics(uri, utils, documentFormat, settings, cache, timeBudget, publisher))
+                        .expireWith(parentDisposable)
+                        .submit(DIAGNOSTICS_EXECUTOR));
+            }
+            for (CancellablePromise<PublishDiagnosticsParams> promise : promises) {
+                publishDiagnostics.add(ProgressIndicatorUtils.awaitWithCheckCanceled(promise));
+            }
+        } finally {
+            // Cancel the pending read actions when the request itself has been cancelled.
+            promises.forEach(promise -> promise.cancel());
         }
         return publishDiagnostics;
     }
 
+    private static long getTimeBudget(Project project) {
+        return TimeUnit.MILLISECONDS.toNanos(UserDefinedMicroProfileSettings.getInstance(project).getDiagnosticsTimeBudget());
+    }
+
+    private PublishDiagnosticsParams collectDiagnostics(String uri, IPsiUtils utils, DocumentFormat documentFormat,
+                                                        MicroProfileJavaDiagnosticsSettings settings, JavaDiagnosticsCache cache,
+                                                        long timeBudget, Consumer<PublishDiagnosticsParams> publisher) {
+        List<Diagnostic> diagnostics = new ArrayList<>();
+        collectDiagnostics(uri, utils, documentFormat, settings, cache, timeBudget, publisher, diagnostics);
+        return new PublishDiagnosticsParams(uri, diagnostics);
+    }
+
     private void collectDiagnostics(String uri, IPsiUtils utils, DocumentFormat documentFormat,
-                                    MicroProfileJavaDiagnosticsSettings settings, List<Diagnostic> diagnostics) {
-        PsiFile typeRoot = ApplicationManager.getApplication().runReadAction((Computable<PsiFile>) () -> resolveTypeRoot(uri, utils));
+                                    MicroProfileJavaDiagnosticsSettings settings, JavaDiagnosticsCache cache,
+                                    long timeBudget, Consumer<PublishDiagnosticsParams> publisher,
+                                    List<Diagnostic> diagnostics) {
+        // Read the epoch before resolving the file so that a configuration change during the
+        // computation prevents the result from being cached.
+        long epoch = cache.getConfigurationEpoch();
+        PsiFile typeRoot = resolveTypeRoot(uri, utils);
         if (typeRoot == null) {
             return;
         }
+        long modificationStamp = typeRoot.getModificationStamp();
+        List<Object> settingsKey = Arrays.asList(documentFormat, settings != null ? settings.getPatterns() : null);
+        PublishedJavaDiagnostics published = PublishedJavaDiagnostics.getInstance(utils.getProject());
+        List<Diagnostic> cachedDiagnostics = cache.get(group, uri, modificationStamp, settingsKey);
+        if (cachedDiagnostics != null) {
+            if (publisher != null) {
+                published.notDeferred(group, uri);
+            }
+            diagnostics.addAll(cachedDiagnostics);
+            return;
+        }
 
+        // Computed before the diagnostics so that a change of a dependency meanwhile prevents the result from being reused
+        JavaFileDependencies dependencies = JavaFileDependencies.of(typeRoot);
         try {
-            Module module = ApplicationManager.getApplication().runReadAction((ThrowableComputable<Module, IOException>) () -> utils.getModule(uri));
+            Module module = utils.getModule(uri);
             // Collect all adapted diagnostic definitions
             JavaDiagnosticsContext context = new JavaDiagnosticsContext(uri, typeRoot, utils, module, documentFormat, settings);
-            List<JavaDiagnosticsDefinition> definitions = JavaDiagnosticsDefinition.EP_NAME.getExtensionList()
-                    .stream()
-                    .filter(definition -> group.equals(definition.getGroup()))
-                    .filter(definition -> definition.isAdaptedForDiagnostics(context))
-                    .toList();
-
-            // Begin, collect, end participants
-            definitions.forEach(definition -> definition.beginDiagnostics(context));
-            definitions.forEach(definition -> {
-                List<Diagnostic> collectedDiagnostics = definition.collectDiagnostics(context);
-                if (collectedDiagnostics != null && !collectedDiagnostics.isEmpty()) {
-                    diagnostics.addAll(collectedDiagnostics);
+            List<JavaDiagnosticsDefinition> definitions = getAdaptedDefinitions(context);
+            DiagnosticsCostProfiler profiler = DiagnosticsCostProfiler.getInstance(utils.getProject());
+            if (timeBudget > 0) {
+                // Run the cheapest participants first so that most of the diagnostics fit in the budget
+                definitions = definitions.stream()
+                        .sorted(Comparator.comparingLong(definition -> profiler.getAverageCost(definition.implementationClass)))
+                        .toList();
+            }
+
+            // Begin, collect, end the participants which run in this pass
+            long start = System.nanoTime();
+            List<JavaDiagnosticsDefinition> startedDefinitions = new ArrayList<>();
+            List<JavaDiagnosticsDefinition> deferredDefinitions = new ArrayList<>();
+            List<Diagnostic> lastDemotedDiagnostics = new ArrayList<>();
+            boolean demoted = false;
+            try {
+                for (JavaDiagnosticsDefinition definition : definitions) {
+                    ProgressManager.checkCanceled();
+                    if (publisher != null && profiler.isDemoted(definition.implementationClass)) {
+                        // Repeatedly slow participant, the request doesn't wait for it and keeps its last diagnostics
+                        deferredDefinitions.add(definition);
+                        lastDemotedDiagnostics.addAll(cache.getLastParticipantDiagnostics(group, uri, definition.implementationClass));
+                        demoted = true;
+                        continue;
+                    }
+                    long remainingBudget = timeBudget - (System.nanoTime() - start);
+                    if (timeBudget > 0 && (remainingBudget <= 0
+                            || profiler.getAverageCost(definition.implementationClass) > remainingBudget)) {
+                        deferredDefinitions.add(definition);
+                        continue;
+                    }
+                    definition.beginDiagnostics(context);
+                    startedDefinitions.add(definition);
+                    if (timeBudget > 0) {
+                        if (!collectDiagnostics(definition, context, diagnostics, remainingBudget)) {
+                            // The budget ran out while the participant was running
+                            deferredDefinitions.add(definition);
+                        }
+                    } else {
+                        collectDiagnostics(definition, context, diagnostics);
+                    }
+                }
+            } finally {
+                startedDefinitions.forEach(definition -> definition.endDiagnostics(context));
+            }
+            if (deferredDefinitions.isEmpty()) {
+                if (publisher != null) {
+                    published.notDeferred(group, uri);
                 }
-            });
-            definitions.forEach(definition -> definition.endDiagnostics(context));
+                cache.put(group, uri, modificationStamp, dependencies, epoch, settingsKey, diagnostics);
+                return;
+            }
+
+            // The budget ran out or some participants are demoted: publish the diagnostics collected
+            // so far and finish the remaining participants in the background.
+            List<Diagnostic> partialDiagnostics = List.copyOf(diagnostics);
+            diagnostics.addAll(lastDemotedDiagnostics);
+            PublishedJavaDiagnostics.DeferredResult deferredResult = published.deferred(group, uri, List.copyOf(diagnostics));
+            ReadAction.nonBlocking(() -> collectDeferredDiagnostics(uri, typeRoot, module, utils, documentFormat, settings, cache,
+                            modificationStamp, dependencies, epoch, settingsKey, deferredDefinitions, partialDiagnostics))
+                    .expireWith(LibertyToolPluginDisposable.getInstance(utils.getProject()))
+                    .submit(demoted ? DEMOTED_DIAGNOSTICS_EXECUTOR : DIAGNOSTICS_EXECUTOR)
+                    .onSuccess(completedDiagnostics -> {
+                        // The partial diagnostics published by the language server are dropped from now on
+                        if (completedDiagnostics != null && published.complete(group, uri, deferredResult)) {
+                            publisher.accept(completedDiagnostics);
+                        }
+                    });
         } catch (IOException e) {
             LOGGER.warn(e.getLocalizedMessage(), e);
         }
     }
 
+    private PublishDiagnosticsParams collectDeferredDiagnostics(String uri, PsiFile typeRoot, Module module, IPsiUtils utils,
+                                                                DocumentFormat documentFormat, MicroProfileJavaDiagnosticsSettings settings,
+                                                                JavaDiagnosticsCache cache, long modificationStamp,
+                                                                JavaFileDependencies dependencies, long epoch,
+                                                                List<Object> settingsKey, List<JavaDiagnosticsDefinition> definitions,
+                                                                List<Diagnostic> partialDiagnostics) {
+        if (!typeRoot.isValid() || typeRoot.getModificationStamp() != modificationStamp
+                || !cache.isUpToDate(uri, epoch)) {
+            // The file or the configuration changed, a new diagnostics request will follow
+            return null;
+        }
+        JavaDiagnosticsContext context = new JavaDiagnosticsContext(uri, typeRoot, utils, module, documentFormat, settings);
+        List<Diagnostic> diagnostics = new ArrayList<>(partialDiagnostics);
+        definitions.forEach(definition -> definition.beginDiagnostics(context));
+        definitions.forEach(definition -> {
+            ProgressManager.checkCanceled();
+            collectDiagnostics(definition, context, diagnostics);
+        });
+        definitions.forEach(definition -> definition.endDiagnostics(context));
+        cache.put(group, uri, modificationStamp, dependencies, epoch, settingsKey, diagnostics);
+        return new PublishDiagnosticsParams(uri, diagnostics);
+    }
+
+    private List<JavaDiagnosticsDefinition> getAdaptedDefinitions(JavaDiagnosticsContext context) {
+        return JavaParticipantRegistry.getInstance().getDiagnosticsDefinitions(group)
+                .stream()
+                .filter(definition -> definition.isAdaptedForDiagnostics(context))
+                .toList();
+    }
+
+    private void collectDiagnostics(JavaDiagnosticsDefinition definition, JavaDiagnosticsContext context,
+                                    List<Diagnostic> diagnostics) {
+        long start = System.nanoTime();
+        List<Diagnostic> collectedDiagnostics = definition.collectDiagnostics(context);
+        DiagnosticsCostProfiler.getInstance(context.getTypeRoot().getProject())
+                .record(definition.implementationClass, System.nanoTime() - start);
+        recordParticipantDiagnostics(definition, context, collectedDiagnostics != null ? collectedDiagnostics : Collections.emptyList());
+        if (collectedDiagnostics != null && !collectedDiagnostics.isEmpty()) {
+            diagnostics.addAll(collectedDiagnostics);
+        }
+    }
+
+    /**
+     * Collects the diagnostics of the given participant, which is cancelled when
+     * it runs longer than the given timeout.
+     *
+     * @return true if the participant completed and false if it has been cancelled.
+     */
+    private boolean collectDiagnostics(JavaDiagnosticsDefinition definition, JavaDiagnosticsContext context,
+                                       List<Diagnostic> diagnostics, long timeout) {
+        long start = System.nanoTime();
+        List<Diagnostic> collectedDiagnostics = ProgressIndicatorUtils.withTimeout(
+                Math.max(1, TimeUnit.NANOSECONDS.toMillis(timeout)), () -> {
+                    List<Diagnostic> result = definition.collectDiagnostics(context);
+                    return result != null ? result : Collections.<Diagnostic>emptyList();
+                });
+        // The request itself may have been cancelled rather than the participant
+        ProgressManager.checkCanceled();
+        DiagnosticsCostProfiler.getInstance(context.getTypeRoot().getProject())
+                .record(definition.implementationClass, System.nanoTime() - start);
+        if (collectedDiagnostics == null) {
+            return false;
+        }
+        recordParticipantDiagnostics(definition, context, collectedDiagnostics);
+        diagnostics.addAll(collectedDiagnostics);
+        return true;
+    }
+
+    private void recordParticipantDiagnostics(JavaDiagnosticsDefinition definition, JavaDiagnosticsContext context,
+                                              List<Diagnostic> collectedDiagnostics) {
+        JavaDiagnosticsCache.getInstance(context.getTypeRoot().getProject())
+                .putParticipantDiagnostics(group, context.getUri(), definition.implementationClass, collectedDiagnostics);
+    }
+
     // REVISIT: Make this a public method on a common utility class?
     private static PsiFile resolveTypeRoot(String uri, IPsiUtils utils) {
         return utils.resolveCompilationUnit(uri);
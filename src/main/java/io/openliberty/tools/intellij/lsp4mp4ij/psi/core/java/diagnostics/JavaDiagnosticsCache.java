@@ -0,0 +1,290 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ModuleRootEvent;
+import com.intellij.openapi.roots.ModuleRootListener;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.messages.MessageBusConnection;
+import io.openliberty.tools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.ConfigPropertyInjectionIndex;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
+import io.openliberty.tools.intellij.lsp4mp4ij.settings.UserDefinedMicroProfileSettings;
+import io.openliberty.tools.intellij.util.LibertyToolPluginDisposable;
+import org.eclipse.lsp4j.Diagnostic;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-file cache of the Java diagnostics computed by {@link DiagnosticsHandler}.
+ *
+ * <p>
+ * An entry is reused as long as the PSI modification stamp of the file and the
+ * source files it depends on are unchanged: the diagnostics of a file depend
+ * on the types it references (see {@link JavaFileDependencies}). The classpath (libraries, module roots) or the MicroProfile
+ * settings changes evict every cached entry. A MicroProfile config source
+ * change only evicts the entries of the Java files which inject one of the
+ * updated properties (see {@link ConfigPropertyInjectionIndex}).
+ * </p>
+ *
+ * <p>
+ * The configuration epoch is bumped by each eviction, so that diagnostics
+ * computed with a configuration which changed in the meantime are not cached.
+ * </p>
+ *
+ * <p>
+ * The last diagnostics of each participant are also kept across the changes of
+ * the file, so that the response of a request which defers a participant to the
+ * background pass still contains its previous diagnostics.
+ * </p>
+ */
+public final class JavaDiagnosticsCache implements Disposable {
+
+    public static JavaDiagnosticsCache getInstance(@NotNull Project project) {
+        return project.getService(JavaDiagnosticsCache.class);
+    }
+
+    private final Project project;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Map<String, Map<String /* participant */, List<Diagnostic>>> participantEntries = new ConcurrentHashMap<>();
+
+    private final AtomicLong configurationEpoch = new AtomicLong();
+
+    // Epoch of the last eviction of all the entries
+    private long invalidationEpoch;
+
+    // Epoch of the last eviction of the entries of a given file URI
+    private final Map<String, Long> fileInvalidationEpochs = new HashMap<>();
+
+    private final MessageBusConnection connection;
+
+    private final Runnable settingsChangeHandler = this::incrementConfigurationEpoch;
+
+    private class ConfigurationListener implements ClasspathResourceChangedManager.Listener, ModuleRootListener,
+            PsiMicroProfileProjectManager.ConfigPropertiesListener {
+
+        @Override
+        public void librariesChanged() {
+            incrementConfigurationEpoch();
+        }
+
+        @Override
+        public void sourceFilesChanged(Set<Pair<VirtualFile, Module>> sources) {
+            // Config sources are tracked with configPropertiesChanged, once they have been reloaded
+        }
+
+        @Override
+        public void configPropertiesChanged(@NotNull Module javaProject, @Nullable Set<String> propertyKeys) {
+            if (propertyKeys == null) {
+                incrementConfigurationEpoch();
+            } else if (!propertyKeys.isEmpty()) {
+                evict(ConfigPropertyInjectionIndex.getInstance(project).getInjectingFiles(propertyKeys));
+            }
+        }
+
+        @Override
+        public void rootsChanged(@NotNull ModuleRootEvent event) {
+            incrementConfigurationEpoch();
+        }
+    }
+
+    private static class Entry {
+
+        private final long modificationStamp;
+
+        private final JavaFileDependencies dependencies;
+
+        private final Object settingsKey;
+
+        private final List<Diagnostic> diagnostics;
+
+        private Entry(long modificationStamp, JavaFileDependencies dependencies, Object settingsKey, List<Diagnostic> diagnostics) {
+            this.modificationStamp = modificationStamp;
+            this.dependencies = dependencies;
+            this.settingsKey = settingsKey;
+            this.diagnostics = diagnostics;
+        }
+
+        private boolean matches(long modificationStamp, Object settingsKey, Project project) {
+            return this.modificationStamp == modificationStamp && Objects.equals(this.settingsKey, settingsKey)
+                    && dependencies.isUpToDate(project);
+        }
+    }
+
+    private JavaDiagnosticsCache(Project project) {
+        this.project = project;
+        ConfigurationListener listener = new ConfigurationListener();
+        connection = project.getMessageBus().connect(LibertyToolPluginDisposable.getInstance(project));
+        connection.subscribe(ClasspathResourceChangedManager.TOPIC, listener);
+        connection.subscribe(ModuleRootListener.TOPIC, listener);
+        connection.subscribe(PsiMicroProfileProjectManager.TOPIC, listener);
+        UserDefinedMicroProfileSettings.getInstance(project).addChangeHandler(settingsChangeHandler);
+    }
+
+    /**
+     * Returns the current configuration epoch of the project.
+     *
+     * @return the current configuration epoch of the project.
+     */
+    public long getConfigurationEpoch() {
+        return configurationEpoch.get();
+    }
+
+    /**
+     * Bumps the configuration epoch and evicts all cached diagnostics.
+     */
+    public synchronized void incrementConfigurationEpoch() {
+        invalidationEpoch = configurationEpoch.incrementAndGet();
+        fileInvalidationEpochs.clear();
+        entries.clear();
+        participantEntries.clear();
+    }
+
+    /**
+     * Bumps the configuration epoch and evicts the cached diagnostics of the given
+     * files.
+     *
+     * @param uris the file URIs.
+     */
+    public synchronized void evict(Collection<String> uris) {
+        if (uris.isEmpty()) {
+            return;
+        }
+        long epoch = configurationEpoch.incrementAndGet();
+        for (String uri : uris) {
+            fileInvalidationEpochs.put(uri, epoch);
+        }
+        entries.keySet().removeIf(key -> uris.contains(toUri(key)));
+        participantEntries.keySet().removeIf(key -> uris.contains(toUri(key)));
+    }
+
+    /**
+     * Returns true if the configuration which influences the diagnostics of the
+     * given file is unchanged since the given epoch and false otherwise.
+     *
+     * @param uri   the file URI
+     * @param epoch the configuration epoch read before the diagnostics were computed
+     * @return true if the configuration of the given file is unchanged since the
+     *         given epoch and false otherwise.
+     */
+    public synchronized boolean isUpToDate(String uri, long epoch) {
+        return invalidationEpoch <= epoch && fileInvalidationEpochs.getOrDefault(uri, 0L) <= epoch;
+    }
+
+    /**
+     * Returns the cached diagnostics for the given file and null if they must be
+     * computed again.
+     *
+     * @param group             the participant group (ex : mp, jakarta)
+     * @param uri               the file URI
+     * @param modificationStamp the PSI modification stamp of the file
+     * @param settingsKey       the request settings which influence the diagnostics
+     * @return the cached diagnostics for the given file and null otherwise.
+     */
+    public @Nullable List<Diagnostic> get(String group, String uri, long modificationStamp, Object settingsKey) {
+        Entry entry = entries.get(toKey(group, uri));
+        if (entry != null && entry.matches(modificationStamp, settingsKey, project)) {
+            return entry.diagnostics;
+        }
+        return null;
+    }
+
+    /**
+     * Stores the diagnostics computed for the given file.
+     *
+     * @param group             the participant group (ex : mp, jakarta)
+     * @param uri               the file URI
+     * @param modificationStamp the PSI modification stamp of the file
+     * @param dependencies      the dependencies of the file, computed before the diagnostics
+     * @param epoch             the configuration epoch read before the diagnostics were computed
+     * @param settingsKey       the request settings which influence the diagnostics
+     * @param diagnostics       the computed diagnostics
+     */
+    public synchronized void put(String group, String uri, long modificationStamp, JavaFileDependencies dependencies,
+                                 long epoch, Object settingsKey, List<Diagnostic> diagnostics) {
+        if (!isUpToDate(uri, epoch)) {
+            // The configuration changed while the diagnostics were computed
+            return;
+        }
+        entries.put(toKey(group, uri), new Entry(modificationStamp, dependencies, settingsKey, List.copyOf(diagnostics)));
+    }
+
+    /**
+     * Returns the last diagnostics collected by the given participant for the
+     * given file, which may have changed since.
+     *
+     * @param group       the participant group (ex : mp, jakarta)
+     * @param uri         the file URI
+     * @param participant the participant implementation class
+     * @return the last diagnostics collected by the given participant for the
+     *         given file.
+     */
+    public List<Diagnostic> getLastParticipantDiagnostics(String group, String uri, String participant) {
+        Map<String, List<Diagnostic>> participants = participantEntries.get(toKey(group, uri));
+        List<Diagnostic> diagnostics = participants != null ? participants.get(participant) : null;
+        return diagnostics != null ? diagnostics : Collections.emptyList();
+    }
+
+    /**
+     * Stores the diagnostics collected by the given participant for the given
+     * file.
+     *
+     * @param group       the participant group (ex : mp, jakarta)
+     * @param uri         the file URI
+     * @param participant the participant implementation class
+     * @param diagnostics the collected diagnostics
+     */
+    public void putParticipantDiagnostics(String group, String uri, String participant, List<Diagnostic> diagnostics) {
+        if (diagnostics.isEmpty()) {
+            Map<String, List<Diagnostic>> participants = participantEntries.get(toKey(group, uri));
+            if (participants != null) {
+                participants.remove(participant);
+            }
+            return;
+        }
+        participantEntries.computeIfAbsent(toKey(group, uri), k -> new ConcurrentHashMap<>())
+                .put(participant, List.copyOf(diagnostics));
+    }
+
+    private static String toKey(String group, String uri) {
+        return group + '|' + uri;
+    }
+
+    private static String toUri(String key) {
+        return key.substring(key.indexOf('|') + 1);
+    }
+
+    @Override
+    public void dispose() {
+        UserDefinedMicroProfileSettings.getInstance(project).removeChangeHandler(settingsChangeHandler);
+        connection.disconnect();
+        entries.clear();
+        participantEntries.clear();
+    }
+}
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics;
+
+import com.intellij.lang.java.JavaLanguage;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.*;
+import com.intellij.psi.javadoc.PsiDocComment;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.PsiTreeUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The project source files which the diagnostics of a Java file depend on,
+ * with their PSI modification stamps.
+ *
+ * <p>
+ * The dependencies are the source files which declare the types and the
+ * members referenced by the file, and the super types of those types (ex : a
+ * REST client interface declared in another file). The library types only
+ * change with the classpath, which evicts all the cached diagnostics.
+ * </p>
+ *
+ * <p>
+ * When a reference of the file can't be resolved, a type created in any other
+ * file may change its diagnostics: the dependencies then also track the
+ * modification count of the Java PSI of the project.
+ * </p>
+ */
+public final class JavaFileDependencies {
+
+    /**
+     * The dependencies of a file which references no other source file.
+     */
+    public static final JavaFileDependencies NONE = new JavaFileDependencies(Collections.emptyMap(), -1);
+
+    private final Map<VirtualFile, Long> modificationStamps;
+
+    // -1 when all the references of the file are resolved
+    private final long javaModificationCount;
+
+    private JavaFileDependencies(Map<VirtualFile, Long> modificationStamps, long javaModificationCount) {
+        this.modificationStamps = modificationStamps;
+        this.javaModificationCount = javaModificationCount;
+    }
+
+    /**
+     * Returns the current dependencies of the given file.
+     *
+     * @param file the Java file.
+     * @return the current dependencies of the given file.
+     */
+    public static @NotNull JavaFileDependencies of(@NotNull PsiFile file) {
+        if (!(file instanceof PsiJavaFile)) {
+            return NONE;
+        }
+        Project project = file.getProject();
+        ProjectFileIndex fileIndex = ProjectFileIndex.getInstance(project);
+        Set<PsiClass> visitedClasses = new HashSet<>();
+        Map<VirtualFile, Long> modificationStamps = new HashMap<>();
+        boolean unresolved = false;
+        for (PsiJavaCodeReferenceElement reference : PsiTreeUtil.findChildrenOfType(file, PsiJavaCodeReferenceElement.class)) {
+            ProgressManager.checkCanceled();
+            if (PsiTreeUtil.getParentOfType(reference, PsiDocComment.class) != null) {
+                // The Javadoc references don't change the diagnostics
+                continue;
+            }
+            JavaResolveResult[] results = reference.multiResolve(false);
+            if (results.length == 0) {
+                unresolved = true;
+                continue;
+            }
+            for (JavaResolveResult result : results) {
+                collect(getDeclaringClass(result.getElement()), file, fileIndex, visitedClasses, modificationStamps);
+            }
+        }
+        if (modificationStamps.isEmpty() && !unresolved) {
+            return NONE;
+        }
+        return new JavaFileDependencies(modificationStamps, unresolved ? getJavaModificationCount(project) : -1);
+    }
+
+    /**
+     * Returns true if none of the dependencies changed since they have been
+     * computed and false otherwise.
+     *
+     * @param project the project.
+     * @return true if none of the dependencies changed since they have been
+     *         computed and false otherwise.
+     */
+    public boolean isUpToDate(@NotNull Project project) {
+        if (javaModificationCount != -1 && javaModificationCount != getJavaModificationCount(project)) {
+            return false;
+        }
+        PsiManager psiManager = PsiManager.getInstance(project);
+        for (Map.Entry<VirtualFile, Long> modificationStamp : modificationStamps.entrySet()) {
+            VirtualFile file = modificationStamp.getKey();
+            PsiFile psiFile = file.isValid() ? psiManager.findFile(file) : null;
+            if (psiFile == null || psiFile.getModificationStamp() != modificationStamp.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long getJavaModificationCount(Project project) {
+        return PsiModificationTracker.getInstance(project).forLanguage(JavaLanguage.INSTANCE).getModificationCount();
+    }
+
+    private static @Nullable PsiClass getDeclaringClass(PsiElement element) {
+        if (element instanceof PsiClass psiClass) {
+            return psiClass;
+        }
+        if (element instanceof PsiMember member) {
+            return member.getContainingClass();
+        }
+        // Packages, local variables and parameters
+        return null;
+    }
+
+    private static void collect(@Nullable PsiClass psiClass, PsiFile file, ProjectFileIndex fileIndex,
+                                Set<PsiClass> visitedClasses, Map<VirtualFile, Long> modificationStamps) {
+        if (psiClass == null || !visitedClasses.add(psiClass)) {
+            return;
+        }
+        PsiFile containingFile = psiClass.getContainingFile();
+        VirtualFile virtualFile = containingFile != null ? containingFile.getVirtualFile() : null;
+        if (virtualFile == null || !fileIndex.isInSourceContent(virtualFile)) {
+            // Library type
+            return;
+        }
+        if (!containingFile.equals(file)) {
+            modificationStamps.put(virtualFile, containingFile.getModificationStamp());
+        }
+        for (PsiClass superClass : psiClass.getSupers()) {
+            collect(superClass, file, fileIndex, visitedClasses, modificationStamps);
+        }
+    }
+}
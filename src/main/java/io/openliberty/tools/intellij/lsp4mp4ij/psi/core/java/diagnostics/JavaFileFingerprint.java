@@ -0,0 +1,219 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics;
+
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.*;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Fingerprint of the annotations and types referenced by the declarations of a
+ * Java file, used by the diagnostics participants to skip the files which
+ * cannot match before doing any resolution.
+ *
+ * <p>
+ * The fingerprint records the short names of the annotations and of the super
+ * types (extends / implements), and the qualifiers which make a short name
+ * visible: the package of the file, the imports and the qualifiers written in
+ * the references. Nothing is resolved, so a check may accept a file which
+ * doesn't use the given annotation, but never rejects a file which uses it.
+ * </p>
+ *
+ * <p>
+ * The fingerprint is stored in the file and computed again when the
+ * modification stamp of the file changes.
+ * </p>
+ */
+public final class JavaFileFingerprint {
+
+    private static final Key<JavaFileFingerprint> KEY = new Key<>(JavaFileFingerprint.class.getName());
+
+    private final long modificationStamp;
+
+    // false when the file content can't be fingerprinted, in this case all checks are accepted
+    private boolean complete;
+
+    private final Set<String> annotationNames = new HashSet<>();
+
+    private final Set<String> superTypeNames = new HashSet<>();
+
+    private final Set<String> qualifiers = new HashSet<>();
+
+    private JavaFileFingerprint(PsiFile file, long modificationStamp) {
+        this.modificationStamp = modificationStamp;
+        if (file instanceof PsiJavaFile javaFile) {
+            complete = true;
+            collect(javaFile);
+        }
+    }
+
+    /**
+     * Returns the fingerprint of the given file.
+     *
+     * @param file the Java file.
+     * @return the fingerprint of the given file.
+     */
+    public static @NotNull JavaFileFingerprint getInstance(@NotNull PsiFile file) {
+        long modificationStamp = file.getModificationStamp();
+        JavaFileFingerprint fingerprint = file.getUserData(KEY);
+        if (fingerprint == null || fingerprint.modificationStamp != modificationStamp) {
+            fingerprint = new JavaFileFingerprint(file, modificationStamp);
+            file.putUserData(KEY, fingerprint);
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Returns true if the declarations of the file may be annotated with one of
+     * the given annotations and false otherwise.
+     *
+     * @param annotationFQNs the fully qualified annotation names.
+     * @return true if the declarations of the file may be annotated with one of
+     *         the given annotations and false otherwise.
+     */
+    public boolean hasAnyAnnotation(String... annotationFQNs) {
+        if (!complete) {
+            return true;
+        }
+        for (String annotationFQN : annotationFQNs) {
+            if (annotationNames.contains(getShortName(annotationFQN)) && isVisible(annotationFQN)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the declarations of the file may be annotated and false
+     * otherwise.
+     *
+     * @return true if the declarations of the file may be annotated and false
+     *         otherwise.
+     */
+    public boolean hasAnnotations() {
+        return !complete || !annotationNames.isEmpty();
+    }
+
+    /**
+     * Returns true if a type of the file may extend or implement a type with the
+     * given short name and false otherwise.
+     *
+     * @param shortName the short name of the super type (ex : HealthCheck).
+     * @return true if a type of the file may extend or implement a type with the
+     *         given short name and false otherwise.
+     */
+    public boolean hasSuperType(String shortName) {
+        return !complete || superTypeNames.contains(shortName);
+    }
+
+    private boolean isVisible(String fqn) {
+        for (String qualifier : qualifiers) {
+            if (fqn.startsWith(qualifier)
+                    && (fqn.length() == qualifier.length() || fqn.charAt(qualifier.length()) == '.')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void collect(PsiJavaFile file) {
+        String packageName = file.getPackageName();
+        if (!packageName.isEmpty()) {
+            qualifiers.add(packageName);
+        }
+        PsiImportList importList = file.getImportList();
+        if (importList != null) {
+            for (PsiImportStatementBase importStatement : importList.getAllImportStatements()) {
+                if (importStatement instanceof PsiImportStatement singleImport) {
+                    String qualifiedName = singleImport.getQualifiedName();
+                    if (qualifiedName != null) {
+                        qualifiers.add(qualifiedName);
+                    }
+                } else if (!(importStatement instanceof PsiImportStaticStatement)) {
+                    // Unknown kind of import (ex : module import)
+                    complete = false;
+                    return;
+                }
+            }
+        }
+        for (PsiClass type : file.getClasses()) {
+            collect(type);
+        }
+    }
+
+    private void collect(PsiClass type) {
+        collectAnnotations(type);
+        collectSuperTypes(type.getExtendsList());
+        collectSuperTypes(type.getImplementsList());
+        for (PsiRecordComponent recordComponent : type.getRecordComponents()) {
+            collectAnnotations(recordComponent);
+        }
+        for (PsiField field : type.getFields()) {
+            collectAnnotations(field);
+        }
+        for (PsiMethod method : type.getMethods()) {
+            collectAnnotations(method);
+            for (PsiParameter parameter : method.getParameterList().getParameters()) {
+                collectAnnotations(parameter);
+            }
+        }
+        for (PsiClass innerClass : type.getInnerClasses()) {
+            collect(innerClass);
+        }
+    }
+
+    private void collectAnnotations(PsiModifierListOwner owner) {
+        PsiModifierList modifierList = owner.getModifierList();
+        if (modifierList == null) {
+            return;
+        }
+        for (PsiAnnotation annotation : modifierList.getAnnotations()) {
+            PsiJavaCodeReferenceElement reference = annotation.getNameReferenceElement();
+            if (reference == null) {
+                complete = false;
+                continue;
+            }
+            annotationNames.add(collectReference(reference));
+        }
+    }
+
+    private void collectSuperTypes(PsiReferenceList referenceList) {
+        if (referenceList == null) {
+            return;
+        }
+        for (PsiJavaCodeReferenceElement reference : referenceList.getReferenceElements()) {
+            superTypeNames.add(collectReference(reference));
+        }
+    }
+
+    /**
+     * Records the qualifier of the given reference (ex : jakarta.inject for
+     * <code>@jakarta.inject.Inject</code>) and returns its short name.
+     */
+    private String collectReference(PsiJavaCodeReferenceElement reference) {
+        String text = reference.getText();
+        int index = text.lastIndexOf('.');
+        if (index == -1) {
+            return text;
+        }
+        qualifiers.add(text.substring(0, index).replaceAll("\\s", ""));
+        return text.substring(index + 1).trim();
+    }
+
+    private static String getShortName(String fqn) {
+        return fqn.substring(fqn.lastIndexOf('.') + 1);
+    }
+}
@@ -0,0 +1,213 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.intellij.openapi.project.Project;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsSettings;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-project record of the Java diagnostics requested by the language servers
+ * and published to the language clients, for each participant group.
+ *
+ * <p>
+ * The requests which don't come with diagnostics parameters (ex : a fix all
+ * code action) collect the diagnostics with the settings of the last request of
+ * the language server, so that they compute the same diagnostics as the
+ * published ones and share their cache entries.
+ * </p>
+ *
+ * <p>
+ * When some participants of a request finish in the background, the language
+ * server publishes the partial diagnostics of the response while the language
+ * client publishes the complete diagnostics. The partial diagnostics are
+ * recorded so that they are not published once the complete diagnostics have
+ * been published, whatever the order in which both arrive.
+ * </p>
+ */
+public final class PublishedJavaDiagnostics {
+
+    public static PublishedJavaDiagnostics getInstance(@NotNull Project project) {
+        return project.getService(PublishedJavaDiagnostics.class);
+    }
+
+    /**
+     * The document format and the settings of a diagnostics request.
+     *
+     * @param documentFormat the document format of the diagnostics messages.
+     * @param settings       the diagnostics settings.
+     */
+    public record RequestSettings(@Nullable DocumentFormat documentFormat,
+                                  @Nullable MicroProfileJavaDiagnosticsSettings settings) {
+    }
+
+    // Same JSON mapping as the diagnostics exchanged with the language servers
+    private static final Gson GSON = new MessageJsonHandler(Collections.emptyMap()).getGson();
+
+    /**
+     * The partial diagnostics of a document returned to the language server.
+     */
+    static final class DeferredResult {
+
+        private final JsonElement partialDiagnostics;
+
+        private volatile boolean completed;
+
+        private DeferredResult(List<Diagnostic> partialDiagnostics) {
+            this.partialDiagnostics = GSON.toJsonTree(partialDiagnostics);
+        }
+    }
+
+    private final Map<String /* group|uri */, DeferredResult> deferredResults = new ConcurrentHashMap<>();
+
+    private final Map<String /* group */, RequestSettings> lastRequests = new ConcurrentHashMap<>();
+
+    private final Map<String /* group */, Map<String /* uri */, List<Diagnostic>>> published = new ConcurrentHashMap<>();
+
+    /**
+     * Records the settings of a diagnostics request of the language server.
+     *
+     * @param group    the participant group (ex : mp, jakarta).
+     * @param settings the settings of the request.
+     */
+    public void setLastRequestSettings(String group, RequestSettings settings) {
+        lastRequests.put(group, settings);
+    }
+
+    /**
+     * Returns the settings of the last diagnostics request of the language server
+     * and null if it has not requested diagnostics yet.
+     *
+     * @param group the participant group (ex : mp, jakarta).
+     * @return the settings of the last diagnostics request and null otherwise.
+     */
+    public @Nullable RequestSettings getLastRequestSettings(String group) {
+        return lastRequests.get(group);
+    }
+
+    /**
+     * Records the partial diagnostics of the given document returned to the
+     * language server while the remaining participants finish in the background.
+     *
+     * @param group              the participant group (ex : mp, jakarta).
+     * @param uri                the file URI.
+     * @param partialDiagnostics the partial diagnostics.
+     * @return the deferred result to complete once the remaining participants
+     *         have finished.
+     */
+    DeferredResult deferred(String group, String uri, List<Diagnostic> partialDiagnostics) {
+        DeferredResult result = new DeferredResult(partialDiagnostics);
+        deferredResults.put(toKey(group, uri), result);
+        return result;
+    }
+
+    /**
+     * Marks the given deferred result as completed and returns true if it is the
+     * last result of the given document, or false if a newer request replaced it,
+     * in which case its complete diagnostics must not be published.
+     *
+     * @param group  the participant group (ex : mp, jakarta).
+     * @param uri    the file URI.
+     * @param result the deferred result.
+     * @return true if the complete diagnostics must be published and false
+     *         otherwise.
+     */
+    boolean complete(String group, String uri, DeferredResult result) {
+        if (deferredResults.get(toKey(group, uri)) != result) {
+            return false;
+        }
+        result.completed = true;
+        return true;
+    }
+
+    /**
+     * Forgets the deferred result of the given document, whose diagnostics have
+     * been computed by a request without deferred participants.
+     *
+     * @param group the participant group (ex : mp, jakarta).
+     * @param uri   the file URI.
+     */
+    void notDeferred(String group, String uri) {
+        deferredResults.remove(toKey(group, uri));
+    }
+
+    /**
+     * Returns true if the given diagnostics published by the language server are
+     * the partial diagnostics of a request whose complete diagnostics have
+     * already been published and false otherwise.
+     *
+     * @param group       the participant group (ex : mp, jakarta).
+     * @param diagnostics the diagnostics published by the language server.
+     * @return true if the given diagnostics must not be published and false
+     *         otherwise.
+     */
+    public boolean isSuperseded(String group, PublishDiagnosticsParams diagnostics) {
+        if (diagnostics.getUri() == null) {
+            return false;
+        }
+        DeferredResult result = deferredResults.get(toKey(group, diagnostics.getUri()));
+        if (result == null || !result.completed) {
+            return false;
+        }
+        List<Diagnostic> published = diagnostics.getDiagnostics() != null ? diagnostics.getDiagnostics() : Collections.emptyList();
+        return result.partialDiagnostics.equals(GSON.toJsonTree(published));
+    }
+
+    /**
+     * Records the given diagnostics as published for their document.
+     *
+     * @param group       the participant group (ex : mp, jakarta).
+     * @param diagnostics the published diagnostics.
+     */
+    public void published(String group, PublishDiagnosticsParams diagnostics) {
+        if (diagnostics.getUri() == null) {
+            return;
+        }
+        Map<String, List<Diagnostic>> groupDiagnostics = published.computeIfAbsent(group, k -> new ConcurrentHashMap<>());
+        if (diagnostics.getDiagnostics() == null || diagnostics.getDiagnostics().isEmpty()) {
+            groupDiagnostics.remove(diagnostics.getUri());
+        } else {
+            groupDiagnostics.put(diagnostics.getUri(), List.copyOf(diagnostics.getDiagnostics()));
+        }
+    }
+
+    /**
+     * Returns the last published diagnostics of each document which has
+     * diagnostics.
+     *
+     * @param group the participant group (ex : mp, jakarta).
+     * @return the last published diagnostics of each document which has
+     *         diagnostics.
+     */
+    public Map<String /* uri */, List<Diagnostic>> getPublishedDiagnostics(String group) {
+        Map<String, List<Diagnostic>> groupDiagnostics = published.get(group);
+        return groupDiagnostics != null ? new HashMap<>(groupDiagnostics) : Collections.emptyMap();
+    }
+
+    private static String toKey(String group, String uri) {
+        return group + '|' + uri;
+    }
+}
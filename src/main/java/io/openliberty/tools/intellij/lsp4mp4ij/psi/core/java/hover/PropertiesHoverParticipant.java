@@ -13,18 +13,23 @@
 *******************************************************************************/
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.hover;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import com.intellij.openapi.module.Module;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiParameter;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.MicroProfileConfigPropertyInformation;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProject;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
@@ -57,8 +62,20 @@ public class PropertiesHoverParticipant implements IJavaHoverParticipant {
 
 	private final String[] annotationMembers;
 
+	// The patterns which check that each annotation member is set, compiled once
+	private final Pattern[] annotationMemberPatterns;
+
+	// The values of the annotation members, cached in the annotation until its file changes
+	private final Key<CachedValue<List<AnnotationMemberValue>>> annotationMemberValuesKey;
+
 	private Function<String, String> propertyReplacer;
 
+	/**
+	 * The value of an annotation member and its text range in the file.
+	 */
+	private record AnnotationMemberValue(String propertyKey, TextRange range) {
+	}
+
 	public PropertiesHoverParticipant(String annotationName, String annotationMemberName) {
 		this(annotationName, annotationMemberName, null);
 	}
@@ -96,6 +113,12 @@ public class PropertiesHoverParticipant implements IJavaHoverParticipant {
 		this.annotationName = annotationName;
 		this.annotationMembers = annotationMembers;
 		this.defaultValueAnnotationMemberName = defaultValueAnnotationMemberName;
+		this.annotationMemberPatterns = new Pattern[annotationMembers.length];
+		for (int i = 0; i < annotationMembers.length; i++) {
+			annotationMemberPatterns[i] = Pattern.compile(".*[^\"]\\s*(" + annotationMembers[i] + ")\\s*=.*",
+					Pattern.DOTALL);
+		}
+		this.annotationMemberValuesKey = Key.create(PropertiesHoverParticipant.class.getName() + "#" + annotationName);
 	}
 
 	/**
@@ -120,7 +143,7 @@ public class PropertiesHoverParticipant implements IJavaHoverParticipant {
 	public boolean isAdaptedForHover(JavaHoverContext context) {
 		// Definition is done only if the annotation is on the classpath
 		Module javaProject = context.getJavaProject();
-		return PsiTypeUtils.findType(javaProject, annotationName) != null;
+		return PsiTypeUtils.hasType(javaProject, annotationName);
 	}
 
 	@Override
@@ -142,27 +165,17 @@ public class PropertiesHoverParticipant implements IJavaHoverParticipant {
 			return null;
 		}
 
-		String annotationSource = annotation.getText();
 		String propertyKey = null;
 		Range propertyKeyRange = null;
 		boolean found = false;
-		for (String annotationMemberName : annotationMembers) {
-			propertyKey = getAnnotationMemberValue(annotation, annotationMemberName);
-			if (propertyKey != null) {
-				TextRange r = annotation.getTextRange();
-				Pattern memberPattern = Pattern.compile(".*[^\"]\\s*(" + annotationMemberName + ")\\s*=.*",
-						Pattern.DOTALL);
-				Matcher match = memberPattern.matcher(annotationSource);
-				if (match.matches()) {
-					int offset = annotationSource.indexOf(propertyKey);
-					propertyKeyRange = utils.toRange(typeRoot, r.getStartOffset() + offset, propertyKey.length());
-
-					if (!hoverPosition.equals(propertyKeyRange.getEnd())
-							&& Ranges.containsPosition(propertyKeyRange, hoverPosition)) {
-						found = true;
-						break;
-					}
-				}
+		for (AnnotationMemberValue memberValue : getAnnotationMemberValues(annotation)) {
+			propertyKey = memberValue.propertyKey();
+			propertyKeyRange = utils.toRange(typeRoot, memberValue.range().getStartOffset(),
+					memberValue.range().getLength());
+			if (!hoverPosition.equals(propertyKeyRange.getEnd())
+					&& Ranges.containsPosition(propertyKeyRange, hoverPosition)) {
+				found = true;
+				break;
 			}
 		}
 
@@ -199,6 +212,42 @@ public class PropertiesHoverParticipant implements IJavaHoverParticipant {
 				context.isSurroundEqualsWithSpaces()), propertyKeyRange);
 	}
 
+	/**
+	 * Returns the values of the annotation members of the given annotation, in
+	 * the order of the annotation members.
+	 *
+	 * <p>
+	 * The values are cached in the annotation until its file changes, so that
+	 * moving the mouse over the annotation doesn't compute them again.
+	 * </p>
+	 *
+	 * @param annotation the annotation.
+	 * @return the values of the annotation members of the given annotation.
+	 */
+	private List<AnnotationMemberValue> getAnnotationMemberValues(PsiAnnotation annotation) {
+		return CachedValuesManager.getCachedValue(annotation, annotationMemberValuesKey,
+				() -> CachedValueProvider.Result.create(computeAnnotationMemberValues(annotation),
+						annotation.getContainingFile()));
+	}
+
+	private List<AnnotationMemberValue> computeAnnotationMemberValues(PsiAnnotation annotation) {
+		String annotationSource = annotation.getText();
+		int annotationStart = annotation.getTextRange().getStartOffset();
+		List<AnnotationMemberValue> memberValues = new ArrayList<>(annotationMembers.length);
+		for (int i = 0; i < annotationMembers.length; i++) {
+			String propertyKey = getAnnotationMemberValue(annotation, annotationMembers[i]);
+			if (propertyKey != null) {
+				Matcher match = annotationMemberPatterns[i].matcher(annotationSource);
+				if (match.matches()) {
+					int offset = annotationSource.indexOf(propertyKey);
+					memberValues.add(new AnnotationMemberValue(propertyKey,
+							TextRange.from(annotationStart + offset, propertyKey.length())));
+				}
+			}
+		}
+		return memberValues;
+	}
+
 	/**
 	 * Returns true if the given hovered Java element is adapted for this
 	 * participant and false otherwise.
@@ -14,9 +14,7 @@
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators;
 
 import com.intellij.openapi.extensions.ExtensionPointName;
-import com.intellij.psi.JavaRecursiveElementVisitor;
-import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiFile;
+import com.intellij.psi.*;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.IJavaErrorCode;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations.AnnotationAttributeRule;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
@@ -48,6 +46,15 @@ import java.util.logging.Logger;
  * </code></li>
  * </ul>
  * 
+ * <p>
+ * The visitor only walks the declarations of the compilation unit (types,
+ * fields, methods, parameters and the annotations of their modifier lists).
+ * Code blocks, field initializers and lambdas are never visited, and the
+ * declarations are reached through the stub-backed PSI API so that files which
+ * are not opened in an editor don't need their full AST to be loaded. As a
+ * consequence, the local and anonymous classes, which are declared in code
+ * blocks and field initializers, are not validated.
+ * </p>
  * 
  * @author Angelo ZERR
  *
@@ -80,6 +87,15 @@ public class JavaASTValidator extends JavaRecursiveElementVisitor implements Clo
 		this.diagnostics = diagnostics;
 	}
 
+	/**
+	 * Releases the context and diagnostics of the last request so that the
+	 * validator instance can be reused by another diagnostics request.
+	 */
+	public void release() {
+		this.context = null;
+		this.diagnostics = null;
+	}
+
 	/**
 	 * Returns true if diagnostics must be collected for the given context and false
 	 * otherwise.
@@ -98,6 +114,71 @@ public class JavaASTValidator extends JavaRecursiveElementVisitor implements Clo
 		return true;
 	}
 
+	@Override
+	public void visitClass(PsiClass aClass) {
+		visitMembers(aClass);
+	}
+
+	@Override
+	public void visitMethod(PsiMethod method) {
+		visitAnnotations(method);
+		for (PsiParameter parameter : method.getParameterList().getParameters()) {
+			visitAnnotations(parameter);
+		}
+	}
+
+	@Override
+	public void visitField(PsiField field) {
+		visitAnnotations(field);
+	}
+
+	@Override
+	public void visitCodeBlock(PsiCodeBlock block) {
+		// Method bodies and initializers are never validated
+	}
+
+	@Override
+	public void visitLambdaExpression(PsiLambdaExpression expression) {
+		// Lambda bodies are never validated
+	}
+
+	/**
+	 * Called once all the declarations of the given compilation unit have been
+	 * visited.
+	 *
+	 * @param file the visited compilation unit.
+	 */
+	public void endVisit(PsiJavaFile file) {
+	}
+
+	/**
+	 * Visits the annotations of the given type, then its fields, methods and inner
+	 * classes.
+	 *
+	 * @param type the type to visit.
+	 */
+	protected void visitMembers(PsiClass type) {
+		visitAnnotations(type);
+		for (PsiField field : type.getFields()) {
+			field.accept(this);
+		}
+		for (PsiMethod method : type.getMethods()) {
+			method.accept(this);
+		}
+		for (PsiClass innerClass : type.getInnerClasses()) {
+			innerClass.accept(this);
+		}
+	}
+
+	private void visitAnnotations(PsiModifierListOwner owner) {
+		PsiModifierList modifierList = owner.getModifierList();
+		if (modifierList != null) {
+			for (PsiAnnotation annotation : modifierList.getAnnotations()) {
+				annotation.accept(this);
+			}
+		}
+	}
+
 	public Diagnostic addDiagnostic(String message, String source, PsiElement node, IJavaErrorCode code,
 									DiagnosticSeverity severity) {
 		return addDiagnostic(message, source, node.getTextOffset(), node.getTextLength(), code, severity);
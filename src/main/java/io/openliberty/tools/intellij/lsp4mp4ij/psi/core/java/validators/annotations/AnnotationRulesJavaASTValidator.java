@@ -20,6 +20,8 @@ import com.intellij.psi.PsiAnnotationMemberValue;
 import com.intellij.psi.PsiBinaryExpression;
 import com.intellij.psi.PsiLiteral;
 import com.intellij.psi.PsiPrefixExpression;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaFileFingerprint;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.validators.JavaASTValidatorRegistry;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.JavaASTValidator;
@@ -47,6 +49,18 @@ public class AnnotationRulesJavaASTValidator extends JavaASTValidator {
 		this.rules = rules;
 	}
 
+	@Override
+	public boolean isAdaptedForDiagnostics(JavaDiagnosticsContext context) {
+		// Skip the files which cannot declare any of the annotations of the rules
+		JavaFileFingerprint fingerprint = JavaFileFingerprint.getInstance(context.getTypeRoot());
+		for (AnnotationRule annotationRule : rules) {
+			if (fingerprint.hasAnyAnnotation(annotationRule.getAnnotation())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	@Override
 	public void visitAnnotation(PsiAnnotation annotation) {
 		// Loop for rules
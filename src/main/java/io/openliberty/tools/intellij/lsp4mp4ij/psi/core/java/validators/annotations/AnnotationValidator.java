@@ -80,6 +80,13 @@ public class AnnotationValidator {
 		}
 	}
 
+	/**
+	 * Unregister all the annotation rules.
+	 */
+	protected void unregisterRules() {
+		this.rulesByAnnotation.clear();
+	}
+
 	/**
 	 * Validate the give attribute <code>value</code> by using the annotation rule.
 	 * 
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project;
+
+import com.intellij.openapi.project.Project;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reverse index from MicroProfile config property keys to the Java files and
+ * members which inject them with <code>@ConfigProperty</code>.
+ *
+ * <p>
+ * The index of a Java file is replaced each time the file is validated, so it
+ * reflects the injection points of the diagnostics which were computed for it.
+ * It is used to revalidate only the Java files which inject the properties of
+ * an updated config source.
+ * </p>
+ */
+public final class ConfigPropertyInjectionIndex {
+
+    public static ConfigPropertyInjectionIndex getInstance(@NotNull Project project) {
+        return project.getService(ConfigPropertyInjectionIndex.class);
+    }
+
+    private final Map<String /* property key */, Map<String /* file URI */, Set<String> /* members */>> injectionsByKey = new HashMap<>();
+
+    private final Map<String /* file URI */, Set<String> /* property keys */> keysByFile = new HashMap<>();
+
+    /**
+     * Replaces the injection points of the given Java file.
+     *
+     * @param uri        the Java file URI.
+     * @param injections the members of the Java file which inject each property
+     *                   key.
+     */
+    public synchronized void update(String uri, Map<String, Set<String>> injections) {
+        remove(uri);
+        if (injections.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<String, Set<String>> injection : injections.entrySet()) {
+            injectionsByKey.computeIfAbsent(injection.getKey(), k -> new HashMap<>())
+                    .put(uri, Set.copyOf(injection.getValue()));
+        }
+        keysByFile.put(uri, Set.copyOf(injections.keySet()));
+    }
+
+    /**
+     * Removes the injection points of the given Java file.
+     *
+     * @param uri the Java file URI.
+     */
+    public synchronized void remove(String uri) {
+        Set<String> keys = keysByFile.remove(uri);
+        if (keys == null) {
+            return;
+        }
+        for (String key : keys) {
+            Map<String, Set<String>> injections = injectionsByKey.get(key);
+            if (injections != null) {
+                injections.remove(uri);
+                if (injections.isEmpty()) {
+                    injectionsByKey.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the URIs of the Java files which inject one of the given property
+     * keys.
+     *
+     * @param propertyKeys the property keys (without profile).
+     * @return the URIs of the Java files which inject one of the given property
+     *         keys.
+     */
+    public synchronized Set<String> getInjectingFiles(Collection<String> propertyKeys) {
+        Set<String> uris = new HashSet<>();
+        for (String key : propertyKeys) {
+            Map<String, Set<String>> injections = injectionsByKey.get(key);
+            if (injections != null) {
+                uris.addAll(injections.keySet());
+            }
+        }
+        return uris;
+    }
+
+    /**
+     * Returns the members (ex : <code>org.acme.GreetingResource#message</code>)
+     * which inject the given property key, by Java file URI.
+     *
+     * @param propertyKey the property key (without profile).
+     * @return the members which inject the given property key, by Java file URI.
+     */
+    public synchronized Map<String, Set<String>> getInjectionPoints(String propertyKey) {
+        Map<String, Set<String>> injections = injectionsByKey.get(propertyKey);
+        return injections != null ? Map.copyOf(injections) : Collections.emptyMap();
+    }
+}
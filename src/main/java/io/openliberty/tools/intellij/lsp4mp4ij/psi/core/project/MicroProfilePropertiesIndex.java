@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.ModuleListener;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.messages.MessageBusConnection;
+import io.openliberty.tools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
+import io.openliberty.tools.intellij.util.LibertyToolPluginDisposable;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Prefix index of the MicroProfile properties and hint values of the project
+ * modules.
+ *
+ * <p>
+ * The index of a module is replaced each time the MicroProfile project info of
+ * the module is computed for the language server, so it reflects the
+ * properties known by the language server. A project info computed for the
+ * sources scope only replaces the properties declared in the module sources,
+ * the properties of the dependencies are kept. The index of all the modules is
+ * dropped when the libraries change, until their project info is computed
+ * again.
+ * </p>
+ */
+public final class MicroProfilePropertiesIndex {
+
+    public static MicroProfilePropertiesIndex getInstance(@NotNull Project project) {
+        return project.getService(MicroProfilePropertiesIndex.class);
+    }
+
+    private final Map<Module, ModuleIndex> indexes = new ConcurrentHashMap<>();
+
+    private final MessageBusConnection connection;
+
+    /**
+     * The immutable index of a module.
+     */
+    private static class ModuleIndex {
+
+        private final PrefixTrie<ItemMetadata> binaryProperties;
+
+        private final PrefixTrie<ItemMetadata> sourceProperties;
+
+        private final Map<String, PrefixTrie<ValueHint>> hints;
+
+        private ModuleIndex(PrefixTrie<ItemMetadata> binaryProperties, PrefixTrie<ItemMetadata> sourceProperties,
+                            Map<String, PrefixTrie<ValueHint>> hints) {
+            this.binaryProperties = binaryProperties;
+            this.sourceProperties = sourceProperties;
+            this.hints = hints;
+        }
+    }
+
+    private class IndexListener implements ClasspathResourceChangedManager.Listener, ModuleListener {
+
+        @Override
+        public void librariesChanged() {
+            indexes.clear();
+        }
+
+        @Override
+        public void sourceFilesChanged(Set<Pair<VirtualFile, Module>> sources) {
+            // The language server computes the project info of the sources again
+        }
+
+        @Override
+        public void beforeModuleRemoved(@NotNull Project project, @NotNull Module module) {
+            indexes.remove(module);
+        }
+    }
+
+    private MicroProfilePropertiesIndex(Project project) {
+        IndexListener listener = new IndexListener();
+        connection = project.getMessageBus().connect(LibertyToolPluginDisposable.getInstance(project));
+        connection.subscribe(ClasspathResourceChangedManager.TOPIC, listener);
+        connection.subscribe(ModuleListener.TOPIC, listener);
+    }
+
+    /**
+     * Updates the index of the given module with the given project info.
+     *
+     * @param module      the module.
+     * @param info        the computed project info of the module.
+     * @param onlySources true if the project info has been computed for the
+     *                    sources scope only and false otherwise.
+     */
+    public void update(@NotNull Module module, @NotNull MicroProfileProjectInfo info, boolean onlySources) {
+        PrefixTrie<ItemMetadata> binaryProperties = new PrefixTrie<>();
+        PrefixTrie<ItemMetadata> sourceProperties = new PrefixTrie<>();
+        if (info.getProperties() != null) {
+            for (ItemMetadata property : info.getProperties()) {
+                if (property.getName() == null) {
+                    continue;
+                }
+                if (Boolean.TRUE.equals(property.getSource())) {
+                    sourceProperties.put(property.getName(), property);
+                } else if (!onlySources) {
+                    binaryProperties.put(property.getName(), property);
+                }
+            }
+        }
+        Map<String, PrefixTrie<ValueHint>> hints = new HashMap<>();
+        if (info.getHints() != null) {
+            for (ItemHint hint : info.getHints()) {
+                if (hint.getName() == null || hint.getValues() == null) {
+                    continue;
+                }
+                PrefixTrie<ValueHint> values = new PrefixTrie<>();
+                for (ValueHint value : hint.getValues()) {
+                    if (value.getValue() != null) {
+                        values.put(value.getValue(), value);
+                    }
+                }
+                hints.put(hint.getName(), values);
+            }
+        }
+        indexes.compute(module, (m, previous) -> {
+            if (!onlySources || previous == null) {
+                return new ModuleIndex(binaryProperties, sourceProperties, hints);
+            }
+            // Keep the properties and hints of the dependencies, the hints of the sources win
+            Map<String, PrefixTrie<ValueHint>> mergedHints = new HashMap<>(previous.hints);
+            mergedHints.putAll(hints);
+            return new ModuleIndex(previous.binaryProperties, sourceProperties, mergedHints);
+        });
+    }
+
+    /**
+     * Returns true if the given module has been indexed and false otherwise.
+     *
+     * @param module the module.
+     * @return true if the given module has been indexed and false otherwise.
+     */
+    public boolean isIndexed(@NotNull Module module) {
+        return indexes.containsKey(module);
+    }
+
+    /**
+     * Returns the properties of the given module whose name starts with the
+     * given prefix.
+     *
+     * @param module the module.
+     * @param prefix the property name prefix.
+     * @return the properties of the given module whose name starts with the
+     *         given prefix.
+     */
+    public List<ItemMetadata> getProperties(@NotNull Module module, @NotNull String prefix) {
+        ModuleIndex index = indexes.get(module);
+        if (index == null) {
+            return Collections.emptyList();
+        }
+        List<ItemMetadata> properties = new ArrayList<>(index.sourceProperties.getByPrefix(prefix));
+        properties.addAll(index.binaryProperties.getByPrefix(prefix));
+        return properties;
+    }
+
+    /**
+     * Returns the property of the given module with the given name and null if
+     * it is not indexed.
+     *
+     * @param module the module.
+     * @param name   the property name.
+     * @return the property of the given module with the given name and null
+     *         otherwise.
+     */
+    public @Nullable ItemMetadata getProperty(@NotNull Module module, @NotNull String name) {
+        ModuleIndex index = indexes.get(module);
+        if (index == null) {
+            return null;
+        }
+        List<ItemMetadata> properties = index.sourceProperties.get(name);
+        if (properties.isEmpty()) {
+            properties = index.binaryProperties.get(name);
+        }
+        return properties.isEmpty() ? null : properties.get(0);
+    }
+
+    /**
+     * Returns the values of the given hint whose value starts with the given
+     * prefix.
+     *
+     * @param module   the module.
+     * @param hintName the hint name (ex : the enum type of a property).
+     * @param prefix   the value prefix.
+     * @return the values of the given hint whose value starts with the given
+     *         prefix.
+     */
+    public List<ValueHint> getHintValues(@NotNull Module module, @NotNull String hintName, @NotNull String prefix) {
+        ModuleIndex index = indexes.get(module);
+        if (index == null) {
+            return Collections.emptyList();
+        }
+        PrefixTrie<ValueHint> values = index.hints.get(hintName);
+        return values != null ? values.getByPrefix(prefix) : Collections.emptyList();
+    }
+}
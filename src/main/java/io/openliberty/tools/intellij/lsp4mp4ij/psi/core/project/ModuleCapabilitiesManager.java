@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleManager;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.ModuleListener;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ModuleRootEvent;
+import com.intellij.openapi.roots.ModuleRootListener;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.messages.MessageBusConnection;
+import io.openliberty.tools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
+import io.openliberty.tools.intellij.util.LibertyToolPluginDisposable;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-module cache of the API marker types (ex : MicroProfile Config, Fault
+ * Tolerance, Health annotations) which are on the classpath of a module.
+ *
+ * <p>
+ * The participants check these marker types before each request to know if
+ * they are adapted to the module. The answers are computed once per module and
+ * evicted when the module roots or the project libraries change.
+ * </p>
+ */
+public final class ModuleCapabilitiesManager implements Disposable {
+
+    private static final Key<Map<String, Boolean>> KEY = new Key<>(ModuleCapabilitiesManager.class.getName());
+
+    public static ModuleCapabilitiesManager getInstance(@NotNull Project project) {
+        return project.getService(ModuleCapabilitiesManager.class);
+    }
+
+    private final Project project;
+
+    private final MessageBusConnection connection;
+
+    private class ModuleCapabilitiesListener implements ModuleRootListener, ModuleListener, ClasspathResourceChangedManager.Listener {
+
+        @Override
+        public void rootsChanged(@NotNull ModuleRootEvent event) {
+            evictAll();
+        }
+
+        @Override
+        public void librariesChanged() {
+            evictAll();
+        }
+
+        @Override
+        public void sourceFilesChanged(Set<Pair<VirtualFile, Module>> sources) {
+            // Do nothing
+        }
+
+        @Override
+        public void beforeModuleRemoved(@NotNull Project project, @NotNull Module module) {
+            evict(module);
+        }
+    }
+
+    private ModuleCapabilitiesManager(Project project) {
+        this.project = project;
+        ModuleCapabilitiesListener listener = new ModuleCapabilitiesListener();
+        connection = project.getMessageBus().connect(LibertyToolPluginDisposable.getInstance(project));
+        connection.subscribe(ModuleRootListener.TOPIC, listener);
+        connection.subscribe(ModuleListener.TOPIC, listener);
+        connection.subscribe(ClasspathResourceChangedManager.TOPIC, listener);
+    }
+
+    /**
+     * Returns true if the given type is on the classpath of the given module and
+     * false otherwise.
+     *
+     * @param module   the module.
+     * @param typeName the fully qualified name of the type.
+     * @return true if the given type is on the classpath of the given module and
+     *         false otherwise.
+     */
+    public boolean hasType(@NotNull Module module, @NotNull String typeName) {
+        if (DumbService.isDumb(project)) {
+            // Don't cache the answers computed while the indexes are incomplete
+            return PsiTypeUtils.findType(module, typeName) != null;
+        }
+        Map<String, Boolean> capabilities = module.getUserData(KEY);
+        if (capabilities == null) {
+            capabilities = new ConcurrentHashMap<>();
+            module.putUserData(KEY, capabilities);
+        }
+        Boolean hasType = capabilities.get(typeName);
+        if (hasType == null) {
+            hasType = PsiTypeUtils.findType(module, typeName) != null;
+            capabilities.put(typeName, hasType);
+        }
+        return hasType;
+    }
+
+    private void evictAll() {
+        for (Module module : ModuleManager.getInstance(project).getModules()) {
+            evict(module);
+        }
+    }
+
+    private static void evict(Module module) {
+        module.putUserData(KEY, null);
+    }
+
+    @Override
+    public void dispose() {
+        evictAll();
+        connection.disconnect();
+    }
+}
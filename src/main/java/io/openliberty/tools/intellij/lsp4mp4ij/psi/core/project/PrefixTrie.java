@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Character trie from string keys to values, used to look up the values whose
+ * key starts with a given prefix without filtering all of them.
+ *
+ * <p>
+ * The children of a node are kept sorted by character, so the values are
+ * returned in the order of their keys. A trie is filled once and only read
+ * afterwards: it can be shared between threads once built.
+ * </p>
+ *
+ * @param <V> the type of the values.
+ */
+final class PrefixTrie<V> {
+
+    private static final char[] NO_CHARS = new char[0];
+
+    private static final class Node<V> {
+
+        private char[] chars = NO_CHARS;
+
+        private Node<V>[] children;
+
+        private List<V> values;
+
+        private @Nullable Node<V> getChild(char c) {
+            int index = Arrays.binarySearch(chars, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Node<V> getOrCreateChild(char c) {
+            int index = Arrays.binarySearch(chars, c);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertion = -index - 1;
+            char[] newChars = new char[chars.length + 1];
+            Node<V>[] newChildren = new Node[chars.length + 1];
+            System.arraycopy(chars, 0, newChars, 0, insertion);
+            System.arraycopy(chars, insertion, newChars, insertion + 1, chars.length - insertion);
+            if (children != null) {
+                System.arraycopy(children, 0, newChildren, 0, insertion);
+                System.arraycopy(children, insertion, newChildren, insertion + 1, chars.length - insertion);
+            }
+            Node<V> child = new Node<>();
+            newChars[insertion] = c;
+            newChildren[insertion] = child;
+            chars = newChars;
+            children = newChildren;
+            return child;
+        }
+    }
+
+    private final Node<V> root = new Node<>();
+
+    /**
+     * Adds the given value for the given key.
+     *
+     * @param key   the key.
+     * @param value the value.
+     */
+    void put(String key, V value) {
+        Node<V> node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.getOrCreateChild(key.charAt(i));
+        }
+        if (node.values == null) {
+            node.values = new ArrayList<>(1);
+        }
+        node.values.add(value);
+    }
+
+    /**
+     * Returns the values of the given key.
+     *
+     * @param key the key.
+     * @return the values of the given key.
+     */
+    List<V> get(String key) {
+        Node<V> node = find(key);
+        return node != null && node.values != null ? Collections.unmodifiableList(node.values) : Collections.emptyList();
+    }
+
+    /**
+     * Returns the values whose key starts with the given prefix, in the order of
+     * their keys.
+     *
+     * @param prefix the prefix.
+     * @return the values whose key starts with the given prefix.
+     */
+    List<V> getByPrefix(String prefix) {
+        Node<V> node = find(prefix);
+        if (node == null) {
+            return Collections.emptyList();
+        }
+        List<V> values = new ArrayList<>();
+        collect(node, values);
+        return values;
+    }
+
+    private @Nullable Node<V> find(String key) {
+        Node<V> node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.getChild(key.charAt(i));
+        }
+        return node;
+    }
+
+    private static <V> void collect(Node<V> node, List<V> values) {
+        if (node.values != null) {
+            values.addAll(node.values);
+        }
+        for (int i = 0; i < node.chars.length; i++) {
+            collect(node.children[i], values);
+        }
+    }
+}
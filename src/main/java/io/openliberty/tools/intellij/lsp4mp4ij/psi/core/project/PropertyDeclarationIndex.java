@@ -0,0 +1,232 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiMember;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.psi.SmartPointerManager;
+import com.intellij.psi.SmartPsiElementPointer;
+import com.intellij.psi.util.ClassUtil;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.messages.MessageBusConnection;
+import io.openliberty.tools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
+import io.openliberty.tools.intellij.util.LibertyToolPluginDisposable;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index from the source of a MicroProfile property (source type, source field
+ * or source method signature) to the Java member which declares it, used to
+ * find the definition of a property without resolving its source type and
+ * looping over its members.
+ *
+ * <p>
+ * The index is filled while the properties of a module are collected, from the
+ * Java elements found by the properties providers in the sources of the
+ * project, and with the members found by a definition lookup, which also
+ * covers the library members. The entries of a Java file are evicted when the
+ * file changes and all the entries are evicted when the libraries change.
+ * </p>
+ */
+public final class PropertyDeclarationIndex {
+
+    public static PropertyDeclarationIndex getInstance(@NotNull Project project) {
+        return project.getService(PropertyDeclarationIndex.class);
+    }
+
+    private final Project project;
+
+    private final Map<String /* key */, SmartPsiElementPointer<PsiMember>> members = new HashMap<>();
+
+    private final Map<VirtualFile, Set<String> /* keys */> keysByFile = new HashMap<>();
+
+    private final MessageBusConnection connection;
+
+    private class IndexListener implements ClasspathResourceChangedManager.Listener {
+
+        @Override
+        public void librariesChanged() {
+            clear();
+        }
+
+        @Override
+        public void sourceFilesChanged(Set<Pair<VirtualFile, Module>> sources) {
+            for (Pair<VirtualFile, Module> source : sources) {
+                evict(source.getFirst());
+            }
+        }
+    }
+
+    private PropertyDeclarationIndex(Project project) {
+        this.project = project;
+        connection = project.getMessageBus().connect(LibertyToolPluginDisposable.getInstance(project));
+        connection.subscribe(ClasspathResourceChangedManager.TOPIC, new IndexListener());
+    }
+
+    /**
+     * Indexes the Java members which declare the given properties, collected
+     * from the given Java element.
+     *
+     * <p>
+     * The declaring members are searched in the class of the given Java element
+     * only; the properties declared in another type are resolved by the
+     * definition lookup. The Java elements of the libraries are not indexed
+     * eagerly: most of their properties are never looked up.
+     * </p>
+     *
+     * @param module      the Java project.
+     * @param javaElement the Java element the properties have been collected from.
+     * @param properties  the collected properties.
+     */
+    public void index(@NotNull Module module, @NotNull PsiModifierListOwner javaElement, List<ItemMetadata> properties) {
+        if (properties.isEmpty() || !isInSourceContent(javaElement)) {
+            return;
+        }
+        PsiClass type = javaElement instanceof PsiClass ? (PsiClass) javaElement
+                : PsiTreeUtil.getParentOfType(javaElement, PsiClass.class);
+        if (type == null) {
+            return;
+        }
+        String typeName = ClassUtil.getJVMClassName(type);
+        for (ItemMetadata property : properties) {
+            if (property.getSourceType() == null || !property.getSourceType().equals(typeName)) {
+                continue;
+            }
+            PsiMember member = findMember(type, property.getSourceField(), property.getSourceMethod());
+            if (member != null) {
+                put(module, property.getSourceType(), property.getSourceField(), property.getSourceMethod(), member);
+            }
+        }
+    }
+
+    /**
+     * Returns the Java member which declares the property with the given source
+     * and null if it is not indexed.
+     *
+     * @param module       the Java project.
+     * @param sourceType   the source type (class or interface).
+     * @param sourceField  the source field and null otherwise.
+     * @param sourceMethod the source method and null otherwise.
+     * @return the Java member which declares the property with the given source
+     *         and null otherwise.
+     */
+    public @Nullable PsiMember find(@NotNull Module module, @NotNull String sourceType, @Nullable String sourceField,
+                                    @Nullable String sourceMethod) {
+        SmartPsiElementPointer<PsiMember> pointer;
+        synchronized (this) {
+            pointer = members.get(toKey(module, sourceType, sourceField, sourceMethod));
+        }
+        PsiMember member = pointer != null ? pointer.getElement() : null;
+        if (member == null || !member.isValid() || !matches(member, sourceField, sourceMethod)) {
+            return null;
+        }
+        return member;
+    }
+
+    /**
+     * Indexes the Java member which declares the property with the given source.
+     *
+     * @param module       the Java project.
+     * @param sourceType   the source type (class or interface).
+     * @param sourceField  the source field and null otherwise.
+     * @param sourceMethod the source method and null otherwise.
+     * @param member       the Java member which declares the property.
+     */
+    public void put(@NotNull Module module, @NotNull String sourceType, @Nullable String sourceField,
+                    @Nullable String sourceMethod, @NotNull PsiMember member) {
+        PsiFile file = member.getContainingFile();
+        VirtualFile virtualFile = file != null ? file.getVirtualFile() : null;
+        if (virtualFile == null) {
+            return;
+        }
+        SmartPsiElementPointer<PsiMember> pointer = SmartPointerManager.getInstance(project).createSmartPsiElementPointer(member);
+        String key = toKey(module, sourceType, sourceField, sourceMethod);
+        synchronized (this) {
+            members.put(key, pointer);
+            keysByFile.computeIfAbsent(virtualFile, k -> new HashSet<>()).add(key);
+        }
+    }
+
+    /**
+     * Evicts the Java members declared in the given file.
+     *
+     * @param file the Java file.
+     */
+    public synchronized void evict(VirtualFile file) {
+        Set<String> keys = keysByFile.remove(file);
+        if (keys != null) {
+            members.keySet().removeAll(keys);
+        }
+    }
+
+    private boolean isInSourceContent(PsiModifierListOwner javaElement) {
+        PsiFile file = javaElement.getContainingFile();
+        VirtualFile virtualFile = file != null ? file.getVirtualFile() : null;
+        return virtualFile != null && ProjectFileIndex.getInstance(project).isInSourceContent(virtualFile);
+    }
+
+    private synchronized void clear() {
+        members.clear();
+        keysByFile.clear();
+    }
+
+    private static @Nullable PsiMember findMember(PsiClass type, @Nullable String sourceField, @Nullable String sourceMethod) {
+        if (sourceField != null) {
+            return type.findFieldByName(sourceField, false);
+        }
+        if (sourceMethod != null) {
+            int startBracketIndex = sourceMethod.indexOf('(');
+            String methodName = startBracketIndex != -1 ? sourceMethod.substring(0, startBracketIndex) : sourceMethod;
+            for (PsiMethod method : type.findMethodsByName(methodName, false)) {
+                if (PsiTypeUtils.getSourceMethod(method).equals(sourceMethod)) {
+                    return method;
+                }
+            }
+            return null;
+        }
+        return type;
+    }
+
+    private static boolean matches(PsiMember member, @Nullable String sourceField, @Nullable String sourceMethod) {
+        // The pointed member may have been renamed since it was indexed
+        if (sourceField != null) {
+            return member instanceof PsiField && sourceField.equals(member.getName());
+        }
+        if (sourceMethod != null) {
+            return member instanceof PsiMethod && sourceMethod.equals(PsiTypeUtils.getSourceMethod((PsiMethod) member));
+        }
+        return member instanceof PsiClass;
+    }
+
+    private static String toKey(Module module, String sourceType, @Nullable String sourceField, @Nullable String sourceMethod) {
+        return module.getName() + '|' + sourceType + '#' + (sourceField != null ? sourceField : "")
+                + '#' + (sourceMethod != null ? sourceMethod : "");
+    }
+}
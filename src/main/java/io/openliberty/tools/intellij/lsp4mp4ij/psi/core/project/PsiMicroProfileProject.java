@@ -190,10 +190,17 @@ public class PsiMicroProfileProject {
     /**
      * Evict the config sources cache and related cached information as soon as one
      * of properties, yaml file is saved.
+     *
+     * @param file the config source file which has been updated.
+     * @return the keys (without profile) of the properties which have been added,
+     *         removed or updated and null if they are unknown (ex : a new config
+     *         source file).
      */
-    public void evictConfigSourcesCache(VirtualFile file) {
+    public Set<String> evictConfigSourcesCache(VirtualFile file) {
+        Set<String> changedPropertyKeys = null;
         final IConfigSource existingConfigSource = findConfigSource(file);
         if (existingConfigSource != null) {
+            Map<String, String> oldProperties = getProperties(existingConfigSource);
             // The config source file exists, update / delete it from the cache
             boolean updated = ReadAction.compute(() -> {
                 PsiFile psiFile = LSPIJUtils.getPsiFile(file, javaProject.getProject());
@@ -209,6 +216,9 @@ public class PsiMicroProfileProject {
             if (!updated) {
                 // Remove from config sources cache, the config source file which has been deleted
                 configSources.remove(existingConfigSource);
+                changedPropertyKeys = getPropertyKeys(oldProperties.keySet());
+            } else {
+                changedPropertyKeys = getChangedPropertyKeys(oldProperties, getProperties(existingConfigSource));
             }
         } else {
             // The config source file doesn't exist, evict the full cache
@@ -216,6 +226,40 @@ public class PsiMicroProfileProject {
         }
         propertyValueExpander = null;
         aggregatedPropertiesProvider = null;
+        return changedPropertyKeys;
+    }
+
+    private static Map<String, String> getProperties(IConfigSource configSource) {
+        Map<String, String> properties = new HashMap<>();
+        for (String key : configSource.getAllKeys()) {
+            properties.put(key, configSource.getProperty(key));
+        }
+        return properties;
+    }
+
+    private static Set<String> getChangedPropertyKeys(Map<String, String> oldProperties, Map<String, String> newProperties) {
+        Set<String> changedKeys = new HashSet<>();
+        for (Map.Entry<String, String> oldProperty : oldProperties.entrySet()) {
+            if (!Objects.equals(oldProperty.getValue(), newProperties.get(oldProperty.getKey()))) {
+                changedKeys.add(oldProperty.getKey());
+            }
+        }
+        for (String newKey : newProperties.keySet()) {
+            if (!oldProperties.containsKey(newKey)) {
+                changedKeys.add(newKey);
+            }
+        }
+        return getPropertyKeys(changedKeys);
+    }
+
+    private static Set<String> getPropertyKeys(Set<String> keys) {
+        // Remove the profile (ex : %dev.greeting.message -> greeting.message)
+        Set<String> propertyKeys = new HashSet<>();
+        for (String key : keys) {
+            int index = key.startsWith("%") ? key.indexOf('.') : -1;
+            propertyKeys.add(index != -1 ? key.substring(index + 1) : key);
+        }
+        return propertyKeys;
     }
 
     private IConfigSource findConfigSource(VirtualFile file) {
@@ -18,9 +18,11 @@ import com.intellij.openapi.util.Key;
 import com.intellij.openapi.util.Pair;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.util.messages.MessageBusConnection;
+import com.intellij.util.messages.Topic;
 import io.openliberty.tools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
 import io.openliberty.tools.intellij.util.LibertyToolPluginDisposable;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Set;
 
@@ -36,6 +38,25 @@ public final class PsiMicroProfileProjectManager implements Disposable {
 
 	private static final String JAVA_FILE_EXTENSION = "java";
 
+	public static final Topic<ConfigPropertiesListener> TOPIC = Topic.create(PsiMicroProfileProjectManager.class.getName(), ConfigPropertiesListener.class);
+
+	/**
+	 * Listener notified when the properties of a MicroProfile config source have
+	 * been reloaded.
+	 */
+	public interface ConfigPropertiesListener {
+
+		/**
+		 * Called when a config source of the given module has been reloaded.
+		 *
+		 * @param javaProject  the module of the config source.
+		 * @param propertyKeys the keys (without profile) of the properties which have
+		 *                     been added, removed or updated and null if they are
+		 *                     unknown.
+		 */
+		void configPropertiesChanged(@NotNull Module javaProject, @Nullable Set<String> propertyKeys);
+	}
+
 	public static PsiMicroProfileProjectManager getInstance(@NotNull Project project) {
 		return project.getService(PsiMicroProfileProjectManager.class);
 	}
@@ -62,7 +83,8 @@ public final class PsiMicroProfileProjectManager implements Disposable {
 					Module javaProject = pair.getSecond();
 					PsiMicroProfileProject mpProject = getMicroProfileProject(javaProject);
 					if (mpProject != null) {
-						mpProject.evictConfigSourcesCache(file);
+						Set<String> propertyKeys = mpProject.evictConfigSourcesCache(file);
+						project.getMessageBus().syncPublisher(TOPIC).configPropertiesChanged(javaProject, propertyKeys);
 					}
 				}
 			}
@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils;
+
+import com.intellij.openapi.progress.DumbProgressIndicator;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Progress utilities for the language server requests.
+ */
+public class ProgressUtils {
+
+    private ProgressUtils() {
+    }
+
+    /**
+     * Returns the progress indicator of the current thread, or an indicator which
+     * is never cancelled when the current thread runs without one, for the APIs
+     * which require an indicator (ex : {@link com.intellij.diff.comparison.ComparisonManager}).
+     *
+     * @return the progress indicator of the current thread, or an indicator which
+     *         is never cancelled otherwise.
+     */
+    public static @NotNull ProgressIndicator getProgressIndicator() {
+        ProgressIndicator indicator = ProgressManager.getInstance().getProgressIndicator();
+        return indicator != null ? indicator : DumbProgressIndicator.INSTANCE;
+    }
+}
@@ -21,6 +21,7 @@ import com.intellij.psi.util.ClassUtil;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.psi.util.PsiTypesUtil;
 import com.intellij.psi.util.PsiUtil;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.ModuleCapabilitiesManager;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -130,6 +131,20 @@ public class PsiTypeUtils {
                 GlobalSearchScope.moduleWithDependenciesAndLibrariesScope(module));
     }
 
+    /**
+     * Returns true if the given type is on the classpath of the given module and
+     * false otherwise. The answer is cached per module until the module roots or
+     * the project libraries change.
+     *
+     * @param module the module.
+     * @param name   the fully qualified name of the type.
+     * @return true if the given type is on the classpath of the given module and
+     *         false otherwise.
+     */
+    public static boolean hasType(Module module, String name) {
+        return ModuleCapabilitiesManager.getInstance(module.getProject()).hasType(module, name);
+    }
+
     public static String getSourceField(PsiMember psiMember) {
         return psiMember.getName();
     }
@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ReadAction;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Read action utilities for the language server requests.
+ */
+public class ReadActionUtils {
+
+    private ReadActionUtils() {
+    }
+
+    /**
+     * Computes the given task in a non-blocking read action and returns its result.
+     *
+     * <p>
+     * A non-blocking read action doesn't prevent write actions from starting: it
+     * is cancelled by a pending write action and restarted once the write action
+     * has finished, so the task must check for cancellation regularly (see
+     * {@link com.intellij.openapi.progress.ProgressManager#checkCanceled()}).
+     * When the calling thread already holds the read lock (ex : the request is
+     * processed in a non-blocking read action of the language client), the task
+     * is computed directly and its cancellation is handled by the caller.
+     * </p>
+     *
+     * @param task the task to compute.
+     * @param <T>  the type of the result.
+     * @return the result of the task.
+     */
+    public static <T> T compute(Callable<T> task) {
+        if (ApplicationManager.getApplication().isReadAccessAllowed()) {
+            try {
+                return task.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return ReadAction.nonBlocking(task).executeSynchronously();
+    }
+}
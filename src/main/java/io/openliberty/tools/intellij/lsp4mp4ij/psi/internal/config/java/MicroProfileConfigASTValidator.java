@@ -19,7 +19,9 @@ import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.psi.util.TypeConversionUtil;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.MicroProfileConfigConstants;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaFileFingerprint;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.JavaASTValidator;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.ConfigPropertyInjectionIndex;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProject;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils;
@@ -30,7 +32,11 @@ import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4mp.commons.utils.AntPathMatcher;
 
 import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
 
@@ -69,18 +75,42 @@ public class MicroProfileConfigASTValidator extends JavaASTValidator {
     private List<String> patterns;
     // prefix from @ConfigProperties(prefix="")
     private String currentPrefix;
+    // members which inject each property key, stored in the ConfigPropertyInjectionIndex
+    private Map<String, Set<String>> injections;
 
     @Override
     public void initialize(JavaDiagnosticsContext context, List<Diagnostic> diagnostics) {
         super.initialize(context, diagnostics);
         this.currentPrefix = null;
         this.patterns = getPatternsFromContext(context);
+        this.injections = new HashMap<>();
+    }
+
+    @Override
+    public void release() {
+        super.release();
+        this.currentPrefix = null;
+        this.patterns = null;
+        this.injections = null;
+    }
+
+    @Override
+    public void endVisit(PsiJavaFile file) {
+        ConfigPropertyInjectionIndex.getInstance(file.getProject()).update(getContext().getUri(), injections);
     }
 
     @Override
     public boolean isAdaptedForDiagnostics(JavaDiagnosticsContext context) {
         Module javaProject = context.getJavaProject();
-        return PsiTypeUtils.findType(javaProject, CONFIG_PROPERTY_ANNOTATION) != null;
+        if (!PsiTypeUtils.hasType(javaProject, CONFIG_PROPERTY_ANNOTATION)) {
+            return false;
+        }
+        if (!JavaFileFingerprint.getInstance(context.getTypeRoot()).hasAnyAnnotation(CONFIG_PROPERTY_ANNOTATION)) {
+            // The file doesn't inject any config property anymore
+            ConfigPropertyInjectionIndex.getInstance(javaProject.getProject()).remove(context.getUri());
+            return false;
+        }
+        return true;
     }
 
     private static List<String> getPatternsFromContext(JavaDiagnosticsContext context) {
@@ -98,7 +128,7 @@ public class MicroProfileConfigASTValidator extends JavaASTValidator {
                 }
             }
         }
-        typeDeclaration.acceptChildren(this);
+        visitMembers(typeDeclaration);
         this.currentPrefix = null;
     }
 
@@ -108,7 +138,7 @@ public class MicroProfileConfigASTValidator extends JavaASTValidator {
         if (AnnotationUtils.isMatchAnnotation(annotation, CONFIG_PROPERTY_ANNOTATION) && parent != null) {
             PsiAnnotationMemberValue defaultValueExpr = getAnnotationMemberValueExpression(annotation, MicroProfileConfigConstants.CONFIG_PROPERTY_ANNOTATION_DEFAULT_VALUE);
             validatePropertyDefaultValue(annotation, defaultValueExpr, parent);
-            validatePropertyHasValue(annotation, defaultValueExpr);
+            validatePropertyHasValue(annotation, defaultValueExpr, parent);
         }
     }
 
@@ -153,8 +183,9 @@ public class MicroProfileConfigASTValidator extends JavaASTValidator {
      * @param annotation       the ConfigProperty annotation
      * @param defaultValueExpr the default value expression, or null if no default
      *                         value is defined
+     * @param field            the field which injects the property
      */
-    private void validatePropertyHasValue(PsiAnnotation annotation, PsiAnnotationMemberValue defaultValueExpr) {
+    private void validatePropertyHasValue(PsiAnnotation annotation, PsiAnnotationMemberValue defaultValueExpr, PsiField field) {
         String name = null;
         PsiAnnotationMemberValue nameExpression = getAnnotationMemberValueExpression(annotation,
                 CONFIG_PROPERTY_ANNOTATION_NAME);
@@ -170,15 +201,24 @@ public class MicroProfileConfigASTValidator extends JavaASTValidator {
                 String message = MessageFormat.format(EMPTY_KEY_ERROR_MESSAGE, CONFIG_PROPERTY_ANNOTATION_NAME);
                 Diagnostic d = super.addDiagnostic(message, MICRO_PROFILE_CONFIG_DIAGNOSTIC_SOURCE, nameExpression,
                         MicroProfileConfigErrorCode.EMPTY_KEY, DiagnosticSeverity.Error);
-            } else if (!hasDefaultValue && !doesPropertyHaveValue(name, getContext()) && !isPropertyIgnored(name)) {
-                String message = MessageFormat.format(NO_VALUE_ERROR_MESSAGE, name);
-                Diagnostic d = super.addDiagnostic(message, MICRO_PROFILE_CONFIG_DIAGNOSTIC_SOURCE, nameExpression,
-                        MicroProfileConfigErrorCode.NO_VALUE_ASSIGNED_TO_PROPERTY, DiagnosticSeverity.Warning);
-                setDataForUnassigned(name, d);
+            } else {
+                addInjection(name, field);
+                if (!hasDefaultValue && !doesPropertyHaveValue(name, getContext()) && !isPropertyIgnored(name)) {
+                    String message = MessageFormat.format(NO_VALUE_ERROR_MESSAGE, name);
+                    Diagnostic d = super.addDiagnostic(message, MICRO_PROFILE_CONFIG_DIAGNOSTIC_SOURCE, nameExpression,
+                            MicroProfileConfigErrorCode.NO_VALUE_ASSIGNED_TO_PROPERTY, DiagnosticSeverity.Warning);
+                    setDataForUnassigned(name, d);
+                }
             }
         }
     }
 
+    private void addInjection(String name, PsiField field) {
+        PsiClass containingClass = field.getContainingClass();
+        String className = containingClass != null ? containingClass.getQualifiedName() : null;
+        injections.computeIfAbsent(name, k -> new HashSet<>()).add(className + "#" + field.getName());
+    }
+
     private boolean isPropertyIgnored(String propertyName) {
         for (String pattern : patterns) {
             if (pathMatcher.match(pattern, propertyName)) {
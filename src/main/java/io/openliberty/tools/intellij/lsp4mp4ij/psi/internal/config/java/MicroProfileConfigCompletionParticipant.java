@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.config.java;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiLiteralExpression;
+import com.intellij.psi.PsiNameValuePair;
+import com.intellij.psi.util.PsiTreeUtil;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.completion.IJavaCompletionParticipant;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.completion.JavaCompletionContext;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.MicroProfilePropertiesIndex;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.CompletionItemKind;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextEdit;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.MicroProfileConfigConstants.*;
+
+/**
+ * Completion for the <code>name</code> and <code>defaultValue</code> members
+ * of <code>@ConfigProperty</code>.
+ *
+ * <p>
+ * The property names and the hint values are looked up by prefix in the
+ * {@link MicroProfilePropertiesIndex} of the module, which is filled once the
+ * MicroProfile properties of the module have been computed for the language
+ * server.
+ * </p>
+ */
+public class MicroProfileConfigCompletionParticipant implements IJavaCompletionParticipant {
+
+	@Override
+	public boolean isAdaptedForCompletion(JavaCompletionContext context) {
+		Module javaProject = context.getJavaProject();
+		return MicroProfilePropertiesIndex.getInstance(javaProject.getProject()).isIndexed(javaProject)
+				&& PsiTypeUtils.hasType(javaProject, CONFIG_PROPERTY_ANNOTATION);
+	}
+
+	@Override
+	public List<? extends CompletionItem> collectCompletionItems(JavaCompletionContext context) {
+		int offset = context.getOffset();
+		PsiLiteralExpression literal = PsiTreeUtil.getParentOfType(context.getTypeRoot().findElementAt(offset),
+				PsiLiteralExpression.class, false);
+		if (literal == null || !(literal.getValue() instanceof String) || !isSimpleStringLiteral(literal)) {
+			return null;
+		}
+		PsiNameValuePair pair = PsiTreeUtil.getParentOfType(literal, PsiNameValuePair.class);
+		if (pair == null || pair.getValue() != literal) {
+			return null;
+		}
+		PsiAnnotation annotation = PsiTreeUtil.getParentOfType(pair, PsiAnnotation.class);
+		if (annotation == null || !AnnotationUtils.isMatchAnnotation(annotation, CONFIG_PROPERTY_ANNOTATION)) {
+			return null;
+		}
+
+		// The completion replaces the text between the quotes
+		int valueStart = literal.getTextRange().getStartOffset() + 1;
+		int valueEnd = literal.getTextRange().getEndOffset() - (literal.getText().length() > 1 && literal.getText().endsWith("\"") ? 1 : 0);
+		if (offset < valueStart || offset > valueEnd) {
+			return null;
+		}
+		String prefix = literal.getText().substring(1, offset - literal.getTextRange().getStartOffset());
+		Range range = context.getUtils().toRange(literal, valueStart, valueEnd - valueStart);
+
+		Module javaProject = context.getJavaProject();
+		MicroProfilePropertiesIndex index = MicroProfilePropertiesIndex.getInstance(javaProject.getProject());
+		String memberName = pair.getAttributeName();
+		if (CONFIG_PROPERTY_ANNOTATION_NAME.equals(memberName)) {
+			return collectPropertyNames(index.getProperties(javaProject, prefix), range);
+		}
+		if (CONFIG_PROPERTY_ANNOTATION_DEFAULT_VALUE.equals(memberName)) {
+			String propertyName = AnnotationUtils.getAnnotationMemberValue(annotation, CONFIG_PROPERTY_ANNOTATION_NAME);
+			ItemMetadata property = propertyName != null ? index.getProperty(javaProject, propertyName) : null;
+			if (property == null || property.getType() == null) {
+				return null;
+			}
+			return collectHintValues(index.getHintValues(javaProject, property.getType(), prefix), range);
+		}
+		return null;
+	}
+
+	private static boolean isSimpleStringLiteral(PsiLiteralExpression literal) {
+		// Text blocks are not completed
+		String text = literal.getText();
+		return text.startsWith("\"") && !text.startsWith("\"\"\"");
+	}
+
+	private static List<CompletionItem> collectPropertyNames(List<ItemMetadata> properties, Range range) {
+		List<CompletionItem> completionItems = new ArrayList<>(properties.size());
+		Set<String> names = new HashSet<>();
+		for (ItemMetadata property : properties) {
+			if (!names.add(property.getName())) {
+				// The property is declared by several members, propose it once
+				continue;
+			}
+			CompletionItem completionItem = new CompletionItem(property.getName());
+			completionItem.setKind(CompletionItemKind.Property);
+			completionItem.setTextEdit(Either.forLeft(new TextEdit(range, property.getName())));
+			completionItem.setDetail(property.getType());
+			if (property.getDescription() != null) {
+				completionItem.setDocumentation(property.getDescription());
+			}
+			completionItems.add(completionItem);
+		}
+		return completionItems;
+	}
+
+	private static List<CompletionItem> collectHintValues(List<ValueHint> values, Range range) {
+		List<CompletionItem> completionItems = new ArrayList<>(values.size());
+		for (ValueHint value : values) {
+			CompletionItem completionItem = new CompletionItem(value.getValue());
+			completionItem.setKind(CompletionItemKind.Value);
+			completionItem.setTextEdit(Either.forLeft(new TextEdit(range, value.getValue())));
+			if (value.getDescription() != null) {
+				completionItem.setDocumentation(value.getDescription());
+			}
+			completionItems.add(completionItem);
+		}
+		return completionItems;
+	}
+}
@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java;
+
+import com.intellij.openapi.Disposable;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.codeaction.JavaCodeActionDefinition;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.completion.JavaCompletionDefinition;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.corrections.JavaDiagnosticsDefinition;
+import io.openliberty.tools.intellij.util.LibertyToolPluginDisposable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Dispatch tables of the Java participants (diagnostics, completion, code
+ * actions) indexed by group (ex : mp, jakarta) and, for the code actions, by
+ * kind and target diagnostic.
+ *
+ * <p>
+ * The tables are immutable, built on the first request and rebuilt only when
+ * the extension points change (dynamic plugin loading or unloading), so that
+ * handlers don't filter the extension lists on each request.
+ * </p>
+ */
+public class JavaParticipantRegistry {
+
+    private static final JavaParticipantRegistry INSTANCE = new JavaParticipantRegistry();
+
+    public static JavaParticipantRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Code action definitions of a given group and kind.
+     */
+    public static class CodeActionDefinitions {
+
+        private static final CodeActionDefinitions EMPTY = new CodeActionDefinitions(Collections.emptyList(),
+                Collections.emptyMap());
+
+        private final List<JavaCodeActionDefinition> definitions;
+
+        private final Map<String, List<JavaCodeActionDefinition>> definitionsByTargetDiagnostic;
+
+        private CodeActionDefinitions(List<JavaCodeActionDefinition> definitions,
+                                      Map<String, List<JavaCodeActionDefinition>> definitionsByTargetDiagnostic) {
+            this.definitions = definitions;
+            this.definitionsByTargetDiagnostic = definitionsByTargetDiagnostic;
+        }
+
+        /**
+         * Returns the code action definitions which don't target a diagnostic.
+         *
+         * @return the code action definitions which don't target a diagnostic.
+         */
+        public List<JavaCodeActionDefinition> getDefinitions() {
+            return definitions;
+        }
+
+        /**
+         * Returns the code action definitions (QuickFix) indexed by target diagnostic
+         * (code or source#code).
+         *
+         * @return the code action definitions indexed by target diagnostic.
+         */
+        public Map<String, List<JavaCodeActionDefinition>> getDefinitionsByTargetDiagnostic() {
+            return definitionsByTargetDiagnostic;
+        }
+    }
+
+    private volatile Map<String, List<JavaDiagnosticsDefinition>> diagnosticsDefinitions;
+
+    private volatile Map<String, List<JavaCompletionDefinition>> completionDefinitions;
+
+    private volatile Map<String, List<JavaCodeActionDefinition>> codeActionDefinitions;
+
+    private volatile Map<String, Map<String, CodeActionDefinitions>> codeActionDefinitionsByKind;
+
+    private JavaParticipantRegistry() {
+        Disposable parentDisposable = LibertyToolPluginDisposable.getInstance();
+        JavaDiagnosticsDefinition.EP_NAME.addChangeListener(() -> diagnosticsDefinitions = null, parentDisposable);
+        JavaCompletionDefinition.EP_NAME.addChangeListener(() -> completionDefinitions = null, parentDisposable);
+        JavaCodeActionDefinition.EP.addChangeListener(() -> {
+            codeActionDefinitions = null;
+            codeActionDefinitionsByKind = null;
+        }, parentDisposable);
+    }
+
+    /**
+     * Returns the diagnostics definitions of the given group.
+     *
+     * @param group the participant group (ex : mp, jakarta).
+     * @return the diagnostics definitions of the given group.
+     */
+    public List<JavaDiagnosticsDefinition> getDiagnosticsDefinitions(String group) {
+        Map<String, List<JavaDiagnosticsDefinition>> definitions = diagnosticsDefinitions;
+        if (definitions == null) {
+            definitions = groupBy(JavaDiagnosticsDefinition.EP_NAME.getExtensionList(), JavaDiagnosticsDefinition::getGroup);
+            diagnosticsDefinitions = definitions;
+        }
+        return definitions.getOrDefault(group, Collections.emptyList());
+    }
+
+    /**
+     * Returns the completion definitions of the given group.
+     *
+     * @param group the participant group (ex : mp, jakarta).
+     * @return the completion definitions of the given group.
+     */
+    public List<JavaCompletionDefinition> getCompletionDefinitions(String group) {
+        Map<String, List<JavaCompletionDefinition>> definitions = completionDefinitions;
+        if (definitions == null) {
+            definitions = groupBy(JavaCompletionDefinition.EP_NAME.getExtensionList(), JavaCompletionDefinition::getGroup);
+            completionDefinitions = definitions;
+        }
+        return definitions.getOrDefault(group, Collections.emptyList());
+    }
+
+    /**
+     * Returns all the code action definitions of the given group.
+     *
+     * @param group the participant group (ex : mp, jakarta).
+     * @return all the code action definitions of the given group.
+     */
+    public List<JavaCodeActionDefinition> getCodeActionDefinitions(String group) {
+        Map<String, List<JavaCodeActionDefinition>> definitions = codeActionDefinitions;
+        if (definitions == null) {
+            definitions = groupBy(JavaCodeActionDefinition.EP.getExtensionList(), JavaCodeActionDefinition::getGroup);
+            codeActionDefinitions = definitions;
+        }
+        return definitions.getOrDefault(group, Collections.emptyList());
+    }
+
+    /**
+     * Returns the code action definitions of the given group and kind.
+     *
+     * @param group the participant group (ex : mp, jakarta).
+     * @param kind  the code action kind.
+     * @return the code action definitions of the given group and kind.
+     */
+    public CodeActionDefinitions getCodeActionDefinitions(String group, String kind) {
+        Map<String, Map<String, CodeActionDefinitions>> definitions = codeActionDefinitionsByKind;
+        if (definitions == null) {
+            definitions = indexCodeActionDefinitions(JavaCodeActionDefinition.EP.getExtensionList());
+            codeActionDefinitionsByKind = definitions;
+        }
+        return definitions.getOrDefault(group, Collections.emptyMap()).getOrDefault(kind, CodeActionDefinitions.EMPTY);
+    }
+
+    private static <T> Map<String, List<T>> groupBy(List<T> extensions, Function<T, String> groupProvider) {
+        Map<String, List<T>> definitions = new HashMap<>();
+        for (T extension : extensions) {
+            String group = groupProvider.apply(extension);
+            if (group != null) {
+                definitions.computeIfAbsent(group, k -> new ArrayList<>()).add(extension);
+            }
+        }
+        definitions.replaceAll((group, list) -> List.copyOf(list));
+        return Map.copyOf(definitions);
+    }
+
+    private static Map<String, Map<String, CodeActionDefinitions>> indexCodeActionDefinitions(
+            List<JavaCodeActionDefinition> extensions) {
+        Map<String, Map<String, List<JavaCodeActionDefinition>>> definitions = new HashMap<>();
+        Map<String, Map<String, Map<String, List<JavaCodeActionDefinition>>>> definitionsByTarget = new HashMap<>();
+        for (JavaCodeActionDefinition definition : extensions) {
+            String group = definition.getGroup();
+            if (group == null) {
+                continue;
+            }
+            String kind = definition.getKind();
+            List<JavaCodeActionDefinition> kindDefinitions = definitions
+                    .computeIfAbsent(group, k -> new HashMap<>())
+                    .computeIfAbsent(kind, k -> new ArrayList<>());
+            Map<String, List<JavaCodeActionDefinition>> kindDefinitionsByTarget = definitionsByTarget
+                    .computeIfAbsent(group, k -> new HashMap<>())
+                    .computeIfAbsent(kind, k -> new LinkedHashMap<>());
+            String targetDiagnostic = definition.getTargetDiagnostic();
+            if (targetDiagnostic != null) {
+                kindDefinitionsByTarget.computeIfAbsent(targetDiagnostic, k -> new ArrayList<>()).add(definition);
+            } else {
+                kindDefinitions.add(definition);
+            }
+        }
+        Map<String, Map<String, CodeActionDefinitions>> index = new HashMap<>();
+        definitions.forEach((group, kinds) -> {
+            Map<String, CodeActionDefinitions> groupIndex = new HashMap<>();
+            kinds.forEach((kind, kindDefinitions) -> {
+                Map<String, List<JavaCodeActionDefinition>> kindDefinitionsByTarget = new LinkedHashMap<>();
+                definitionsByTarget.get(group).get(kind)
+                        .forEach((target, list) -> kindDefinitionsByTarget.put(target, List.copyOf(list)));
+                groupIndex.put(kind, new CodeActionDefinitions(List.copyOf(kindDefinitions),
+                        Collections.unmodifiableMap(kindDefinitionsByTarget)));
+            });
+            index.put(group, Map.copyOf(groupIndex));
+        });
+        return Map.copyOf(index);
+    }
+}
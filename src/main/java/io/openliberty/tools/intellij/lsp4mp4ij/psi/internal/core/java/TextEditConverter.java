@@ -12,16 +12,25 @@
  *******************************************************************************/
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java;
 
+import com.intellij.diff.comparison.ComparisonManager;
+import com.intellij.diff.comparison.ComparisonPolicy;
+import com.intellij.diff.comparison.DiffTooBigException;
+import com.intellij.diff.fragments.DiffFragment;
+import com.intellij.diff.fragments.LineFragment;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.editor.event.DocumentEvent;
 import com.intellij.psi.PsiFile;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.corrections.proposal.Change;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.ProgressUtils;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextDocumentEdit;
 import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -54,12 +63,64 @@ public class TextEditConverter {
 		this.utils = utils;
 	}
 
+	/**
+	 * Returns the text edits which transform the source document of the change
+	 * into its target document.
+	 *
+	 * <p>
+	 * The edits are computed with a line diff refined by a character diff of the
+	 * changed lines, so that only the modified ranges are sent to the client. The
+	 * whole source document is replaced when there is no source document or when
+	 * the documents are too different to be compared.
+	 * </p>
+	 *
+	 * @return the text edits which transform the source document of the change
+	 *         into its target document.
+	 */
 	public List<org.eclipse.lsp4j.TextEdit> convert() {
+		Document sourceDocument = source.getSourceDocument();
+		Document targetDocument = source.getTargetDocument();
+		if (sourceDocument == null) {
+			addTextEdit(null, 0, 0, targetDocument.getText());
+			return converted;
+		}
+		CharSequence sourceText = sourceDocument.getImmutableCharSequence();
+		CharSequence targetText = targetDocument.getImmutableCharSequence();
+		try {
+			List<LineFragment> fragments = ComparisonManager.getInstance().compareLinesInner(sourceText, targetText,
+					ComparisonPolicy.DEFAULT, ProgressUtils.getProgressIndicator());
+			for (LineFragment fragment : fragments) {
+				List<DiffFragment> innerFragments = fragment.getInnerFragments();
+				if (innerFragments == null) {
+					addTextEdit(sourceDocument, fragment.getStartOffset1(), fragment.getEndOffset1(),
+							targetText.subSequence(fragment.getStartOffset2(), fragment.getEndOffset2()));
+					continue;
+				}
+				// The offsets of the inner fragments are relative to the start of the line fragment
+				for (DiffFragment innerFragment : innerFragments) {
+					addTextEdit(sourceDocument, fragment.getStartOffset1() + innerFragment.getStartOffset1(),
+							fragment.getStartOffset1() + innerFragment.getEndOffset1(),
+							targetText.subSequence(fragment.getStartOffset2() + innerFragment.getStartOffset2(),
+									fragment.getStartOffset2() + innerFragment.getEndOffset2()));
+				}
+			}
+		} catch (DiffTooBigException e) {
+			LOGGER.log(Level.FINE, "Cannot compute the minimal text edits of " + uri + ", replacing the whole document", e);
+			converted.clear();
+			addTextEdit(sourceDocument, 0, sourceDocument.getTextLength(), targetText);
+		}
+		return converted;
+	}
+
+	private void addTextEdit(Document sourceDocument, int startOffset, int endOffset, CharSequence newText) {
 		org.eclipse.lsp4j.TextEdit te = new org.eclipse.lsp4j.TextEdit();
-		te.setNewText(source.getTargetDocument().getText());
-		te.setRange(utils.toRange(source.getSourceDocument(), 0, source.getSourceDocument().getTextLength()));
+		te.setNewText(newText.toString());
+		if (sourceDocument != null) {
+			te.setRange(utils.toRange(sourceDocument, startOffset, endOffset - startOffset));
+		} else {
+			te.setRange(new Range(new Position(0, 0), new Position(0, 0)));
+		}
 		converted.add(te);
-		return converted;
 	}
 
 	public TextDocumentEdit convertToTextDocumentEdit(int version) {
@@ -13,17 +13,31 @@
 *******************************************************************************/
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.codeaction;
 
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.IndexNotReadyException;
 import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.codeaction.ExtendedCodeAction;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.codeaction.IJavaCodeActionParticipant;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.codeaction.JavaCodeActionContext;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.codeaction.JavaCodeActionResolveContext;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.PublishedJavaDiagnostics;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.ReadActionUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.JavaParticipantRegistry;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.corrections.DiagnosticsHelper;
+import io.openliberty.tools.intellij.util.LibertyToolPluginDisposable;
 import org.eclipse.lsp4j.CodeAction;
 import org.eclipse.lsp4j.CodeActionContext;
 import org.eclipse.lsp4j.CodeActionKind;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.eclipse.lsp4j.WorkspaceEdit;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaCodeActionParams;
 import org.eclipse.lsp4mp.commons.codeaction.CodeActionResolveData;
@@ -32,6 +46,8 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -43,10 +59,26 @@ import java.util.stream.Collectors;
 public final class CodeActionHandler {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(CodeActionHandler.class);
+
+	// Low-priority pass which computes the quick fixes of the published diagnostics ahead of time
+	private static final Executor QUICK_FIXES_EXECUTOR =
+			AppExecutorUtil.createBoundedApplicationPoolExecutor("Liberty Tools Java quick fixes", 1);
+
+	private static final String JAVA_EXTENSION = ".java";
+
+	// Maximum number of diagnostics of a file whose quick fixes are computed ahead of time
+	private static final int MAX_PRECOMPUTED_DIAGNOSTICS = 20;
+
 	private final String group;
 
+	private final FixAllCodeActions fixAllCodeActions;
+
+	// The capabilities of the last code action request, used to compute the quick fixes as the client requests them
+	private volatile MicroProfileJavaCodeActionParams lastCapabilities;
+
 	public CodeActionHandler(String group) {
 		this.group = group;
+		this.fixAllCodeActions = new FixAllCodeActions(group, this);
 	}
 
 	/**
@@ -62,6 +94,10 @@ public final class CodeActionHandler {
 	 *         parameters
 	 */
 	public List<? extends CodeAction> codeAction(MicroProfileJavaCodeActionParams params, IPsiUtils utils) {
+		return codeAction(params, utils, true);
+	}
+
+	private List<CodeAction> codeAction(MicroProfileJavaCodeActionParams params, IPsiUtils utils, boolean fixAll) {
 		try {
 			// Get the compilation unit
 			String uri = params.getUri();
@@ -70,6 +106,19 @@ public final class CodeActionHandler {
 				return Collections.emptyList();
 			}
 
+			boolean cacheable = CodeActionListCache.isCacheable(params);
+			if (cacheable) {
+				// The quick fixes of the published diagnostics are computed ahead of time
+				CodeActionListCache.Entry cached = CodeActionListCache.get(unit, group, params);
+				if (cached != null) {
+					if (!fixAll || cached.quickFixes().isEmpty()) {
+						return cached.codeActions();
+					}
+					return addFixAllCodeActions(cached.codeActions(), cached.quickFixes(),
+							utils.refine(utils.getModule(uri)));
+				}
+			}
+
 			utils = utils.refine(utils.getModule(uri));
 
 			// Prepare the code action invocation context
@@ -93,33 +142,34 @@ public final class CodeActionHandler {
 			}
 
 			List<CodeAction> codeActions = new ArrayList<>();
+			// The unresolved quick fixes which are used to build the fix all code actions
+			List<FixAllCodeActions.QuickFix> quickFixes = new ArrayList<>();
 			Map<String, List<JavaCodeActionDefinition>> forDiagnostics = new HashMap<>();
+			// The diagnostic keys (source#code and code) which can be targeted by a code action definition
+			Set<String> targetDiagnostics = getTargetDiagnostics(params.getContext().getDiagnostics());
 
 			// Loop for each code action kinds to process the proper code actions
 			for (String codeActionKind : codeActionKinds) {
-				// Get list of code action definition for the given kind
-				List<JavaCodeActionDefinition> codeActionDefinitions = JavaCodeActionDefinition.EP.getExtensionList()
-						.stream()
-						.filter(definition -> group.equals(definition.getGroup()))
-						.filter(definition -> definition.isAdaptedForCodeAction(context))
-						.filter(definition -> codeActionKind.equals(definition.getKind()))
-						.collect(Collectors.toList());
-				if (codeActionDefinitions != null) {
-					// Loop for each code action definition
-					for (JavaCodeActionDefinition definition : codeActionDefinitions) {
-						String forDiagnostic = definition.getTargetDiagnostic();
-						if (forDiagnostic != null) {
-							// The code action definition is for a given diagnostic code (QuickFix), store
-							// it
-							List<JavaCodeActionDefinition> definitionsFor = forDiagnostics.get(forDiagnostic);
-							if (definitionsFor == null) {
-								definitionsFor = new ArrayList<>();
-								forDiagnostics.put(forDiagnostic, definitionsFor);
-							}
-							definitionsFor.add(definition);
-						} else {
-							// Collect the code actions
-							codeActions.addAll(definition.getCodeActions(context.copy(), null));
+				// Get the code action definitions for the given kind
+				JavaParticipantRegistry.CodeActionDefinitions codeActionDefinitions = JavaParticipantRegistry
+						.getInstance().getCodeActionDefinitions(group, codeActionKind);
+				// Collect the code actions of the definitions which don't target a diagnostic
+				for (JavaCodeActionDefinition definition : codeActionDefinitions.getDefinitions()) {
+					ProgressManager.checkCanceled();
+					if (definition.isAdaptedForCodeAction(context)) {
+						codeActions.addAll(definition.getCodeActions(context.copy(), null));
+					}
+				}
+				// Store the code action definitions (QuickFix) for the diagnostics of the request
+				for (String forDiagnostic : targetDiagnostics) {
+					List<JavaCodeActionDefinition> definitions = codeActionDefinitions.getDefinitionsByTargetDiagnostic()
+							.get(forDiagnostic);
+					if (definitions == null) {
+						continue;
+					}
+					for (JavaCodeActionDefinition definition : definitions) {
+						if (definition.isAdaptedForCodeAction(context)) {
+							forDiagnostics.computeIfAbsent(forDiagnostic, k -> new ArrayList<>()).add(definition);
 						}
 					}
 				}
@@ -139,8 +189,15 @@ public final class CodeActionHandler {
 						}
 						if (definitionsFor != null) {
 							for (JavaCodeActionDefinition definition : definitionsFor) {
+								ProgressManager.checkCanceled();
 								// Collect the code actions to fix the given diagnostic
-								codeActions.addAll(definition.getCodeActions(context.copy(), diagnostic));
+								List<? extends CodeAction> diagnosticQuickFixes = definition.getCodeActions(context.copy(), diagnostic);
+								codeActions.addAll(diagnosticQuickFixes);
+								if (params.isResolveSupported()) {
+									for (CodeAction quickFix : diagnosticQuickFixes) {
+										quickFixes.add(new FixAllCodeActions.QuickFix(quickFix, diagnostic));
+									}
+								}
 							}
 						}
 					}
@@ -163,13 +220,32 @@ public final class CodeActionHandler {
 			}
 			// sort code actions by relevant
 			ExtendedCodeAction.sort(codeActions);
-			return codeActions;
+			if (cacheable) {
+				// The fix all code actions depend on the diagnostics published for the other files, they are not cached
+				CodeActionListCache.put(unit, group, params, codeActions, quickFixes);
+			}
+			if (!fixAll || quickFixes.isEmpty()) {
+				return codeActions;
+			}
+			return addFixAllCodeActions(codeActions, quickFixes, utils);
 		} catch (IOException e) {
 			LOGGER.error("Failed to compute code actions: "+ e.getMessage());
 			return Collections.emptyList();
 		}
 	}
 
+	private List<CodeAction> addFixAllCodeActions(List<CodeAction> codeActions,
+												  List<FixAllCodeActions.QuickFix> quickFixes, IPsiUtils utils) {
+		List<CodeAction> fixAllActions = fixAllCodeActions.getFixAllCodeActions(quickFixes, utils);
+		if (fixAllActions.isEmpty()) {
+			return codeActions;
+		}
+		codeActions.addAll(fixAllActions);
+		// sort the fix all code actions after their quick fixes
+		ExtendedCodeAction.sort(codeActions);
+		return codeActions;
+	}
+
 	/**
 	 * Returns the given unresolved CodeAction with the workspace edit resolved.
 	 *
@@ -183,11 +259,22 @@ public final class CodeActionHandler {
 			String participantId = data.getParticipantId();
 			String uri = data.getDocumentUri();
 
+			if (FixAllCodeActions.isFixAll(unresolved)) {
+				return fixAllCodeActions.resolve(unresolved, data, utils);
+			}
+
 			PsiFile unit = utils.resolveCompilationUnit(uri);
 			if (unit == null) {
 				return null;
 			}
 
+			// The same code action is resolved again when the lightbulb or its preview is shown again
+			WorkspaceEdit cachedEdit = ResolvedCodeActionCache.get(unit, group, unresolved, data);
+			if (cachedEdit != null) {
+				unresolved.setEdit(cachedEdit);
+				return unresolved;
+			}
+
 			utils = utils.refine(utils.getModule(uri));
 
 			int start = DiagnosticsHelper.getStartOffset(unit, data.getRange(), utils);
@@ -205,13 +292,16 @@ public final class CodeActionHandler {
 					start, end - start, utils, params, unresolved);
 			context.setASTRoot(getASTRoot(unit));
 
-			IJavaCodeActionParticipant participant = JavaCodeActionDefinition.EP.getExtensionList()
+			IJavaCodeActionParticipant participant = JavaParticipantRegistry.getInstance().getCodeActionDefinitions(group)
 					.stream()
 					.filter(definition -> unresolved.getKind().startsWith(definition.getKind()))
-					.filter(definition -> group.equals(definition.getGroup()))
 					.filter(definition -> participantId.equals(definition.getParticipantId()))
 					.findFirst().orElse(null);
-			return participant.resolveCodeAction(context.copy());
+			CodeAction resolved = participant.resolveCodeAction(context.copy());
+			if (resolved != null && resolved.getEdit() != null) {
+				ResolvedCodeActionCache.put(unit, group, unresolved, data, resolved.getEdit());
+			}
+			return resolved;
 		} catch (IOException e) {
 			LOGGER.error("Failed to resolve code action: "+ e.getMessage());
 			return unresolved;
@@ -219,10 +309,104 @@ public final class CodeActionHandler {
 	}
 
 
+	/**
+	 * Records the capabilities of a code action request of the language client,
+	 * used to compute the quick fixes of the published diagnostics as the client
+	 * requests them.
+	 *
+	 * @param params the parameters of the code action request of the client
+	 */
+	public void setLastCapabilities(MicroProfileJavaCodeActionParams params) {
+		lastCapabilities = params;
+	}
+
+	/**
+	 * Records the given published diagnostics, which decide the fix all code
+	 * actions to offer, and computes in a low-priority background pass their
+	 * quick fixes, so that the quick fix popup doesn't wait for them.
+	 *
+	 * The quick fixes are computed with the capabilities of the last code action
+	 * request of the client and only if the client supports code action resolve.
+	 * Their workspace edits are resolved when the client asks for them. They are
+	 * cached until the file changes.
+	 *
+	 * The diagnostics of the other documents published by the language server
+	 * (ex : microprofile-config.properties) are ignored.
+	 *
+	 * @param diagnostics the published diagnostics of a Java file
+	 * @param utils       the JDT utils
+	 */
+	public void precomputeQuickFixes(PublishDiagnosticsParams diagnostics, IPsiUtils utils) {
+		String uri = diagnostics.getUri();
+		if (uri == null || !uri.endsWith(JAVA_EXTENSION)) {
+			return;
+		}
+		PublishedJavaDiagnostics published = PublishedJavaDiagnostics.getInstance(utils.getProject());
+		if (!ReadActionUtils.compute(() -> utils.resolveCompilationUnit(uri) instanceof PsiJavaFile)) {
+			// The file has been deleted or is not a Java file, forget its diagnostics
+			published.published(group, new PublishDiagnosticsParams(uri, Collections.emptyList()));
+			return;
+		}
+		published.published(group, diagnostics);
+		MicroProfileJavaCodeActionParams capabilities = lastCapabilities;
+		if (capabilities == null || !capabilities.isResolveSupported()
+				|| diagnostics.getDiagnostics() == null || diagnostics.getDiagnostics().isEmpty()) {
+			return;
+		}
+		ReadAction.nonBlocking(() -> precomputeQuickFixes(uri, diagnostics.getDiagnostics(), capabilities, utils))
+				.coalesceBy(this, uri)
+				.inSmartMode(utils.getProject())
+				.expireWith(LibertyToolPluginDisposable.getInstance(utils.getProject()))
+				.submit(QUICK_FIXES_EXECUTOR);
+	}
+
+	private void precomputeQuickFixes(String uri, List<Diagnostic> diagnostics,
+									  MicroProfileJavaCodeActionParams capabilities, IPsiUtils utils) {
+		if (!(utils.resolveCompilationUnit(uri) instanceof PsiJavaFile)) {
+			return;
+		}
+		try {
+			for (Diagnostic diagnostic : diagnostics.subList(0, Math.min(diagnostics.size(), MAX_PRECOMPUTED_DIAGNOSTICS))) {
+				ProgressManager.checkCanceled();
+				// Same parameters as the quick fix request of the client for the diagnostic
+				MicroProfileJavaCodeActionParams params = new MicroProfileJavaCodeActionParams(
+						new TextDocumentIdentifier(uri), diagnostic.getRange(), new CodeActionContext(List.of(diagnostic)));
+				params.setResourceOperationSupported(capabilities.isResourceOperationSupported());
+				params.setCommandConfigurationUpdateSupported(capabilities.isCommandConfigurationUpdateSupported());
+				params.setResolveSupported(true);
+				// The fix all code actions are not cached, there is no need to compute them
+				codeAction(params, utils, false);
+			}
+		} catch (ProcessCanceledException e) {
+			//Since 2024.2 ProcessCanceledException extends CancellationException so we can't use multicatch to keep backward compatibility
+			//TODO delete block when minimum required version is 2024.2
+			throw e;
+		} catch (IndexNotReadyException | CancellationException e) {
+			throw e;
+		} catch (Exception e) {
+			LOGGER.warn("Failed to compute quick fixes of '" + uri + "': " + e.getMessage(), e);
+		}
+	}
+
 	private static PsiFile getASTRoot(PsiFile unit) {
 		return unit;
 	}
 
+	private static Set<String> getTargetDiagnostics(List<Diagnostic> diagnostics) {
+		if (diagnostics == null || diagnostics.isEmpty()) {
+			return Collections.emptySet();
+		}
+		Set<String> targetDiagnostics = new LinkedHashSet<>();
+		for (Diagnostic diagnostic : diagnostics) {
+			String code = getCodeString(diagnostic.getCode());
+			if (code != null) {
+				targetDiagnostics.add(diagnostic.getSource() + "#" + code);
+				targetDiagnostics.add(code);
+			}
+		}
+		return targetDiagnostics;
+	}
+
 	private static String getCodeString(Either<String, Integer> code) {
 		if (code == null || code.isRight()) {
 			return null;
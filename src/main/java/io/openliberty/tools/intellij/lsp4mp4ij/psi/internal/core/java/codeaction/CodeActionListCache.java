@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.codeaction;
+
+import com.intellij.openapi.roots.ProjectRootModificationTracker;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsCache;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.codeaction.FixAllCodeActions.QuickFix;
+import org.eclipse.lsp4j.CodeAction;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaCodeActionParams;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Cache of the unresolved code actions computed for the diagnostics of a Java
+ * file.
+ *
+ * <p>
+ * The code actions are stored in the Java file and are dropped when the file,
+ * the project roots or the MicroProfile configuration change. Only the requests
+ * which target diagnostics and which support code action resolve are cached:
+ * they are the ones sent when the quick fix popup is opened, and they are
+ * computed ahead of time once the diagnostics of the file are published.
+ * </p>
+ *
+ * <p>
+ * The fix all code actions are not cached since they depend on the diagnostics
+ * published for the other files: the quick fixes they are built from are
+ * cached instead.
+ * </p>
+ */
+final class CodeActionListCache {
+
+	/**
+	 * The cached code actions of a request and the quick fixes used to build its
+	 * fix all code actions.
+	 */
+	record Entry(List<CodeAction> codeActions, List<QuickFix> quickFixes) {
+	}
+
+	private static final Key<CachedValue<Map<List<Object>, Entry>>> KEY = Key
+			.create(CodeActionListCache.class.getName());
+
+	private CodeActionListCache() {
+	}
+
+	/**
+	 * Returns true if the code actions of the given request can be cached and
+	 * false otherwise.
+	 *
+	 * @param params the code action parameters.
+	 * @return true if the code actions of the given request can be cached and
+	 *         false otherwise.
+	 */
+	static boolean isCacheable(MicroProfileJavaCodeActionParams params) {
+		return params.isResolveSupported() && params.getContext() != null
+				&& params.getContext().getDiagnostics() != null && !params.getContext().getDiagnostics().isEmpty();
+	}
+
+	/**
+	 * Returns the cached code actions of the given request and null if they have
+	 * not been computed since the last change of the file.
+	 *
+	 * @param file   the Java file.
+	 * @param group  the participant group (ex : mp, jakarta).
+	 * @param params the code action parameters.
+	 * @return the cached code actions of the given request and null otherwise.
+	 */
+	static @Nullable Entry get(PsiFile file, String group, MicroProfileJavaCodeActionParams params) {
+		Entry entry = getCodeActions(file).get(toKey(group, params));
+		if (entry == null) {
+			return null;
+		}
+		List<String> only = params.getContext().getOnly();
+		if (only == null || only.isEmpty()) {
+			return new Entry(new ArrayList<>(entry.codeActions()), entry.quickFixes());
+		}
+		// The cached code actions have been computed for all the kinds
+		return new Entry(entry.codeActions().stream()
+				.filter(codeAction -> isKind(codeAction, only))
+				.collect(ArrayList::new, ArrayList::add, ArrayList::addAll),
+				entry.quickFixes().stream()
+						.filter(quickFix -> isKind(quickFix.codeAction(), only))
+						.collect(Collectors.toList()));
+	}
+
+	/**
+	 * Stores the code actions of the given request if they have been computed for
+	 * all the code action kinds.
+	 *
+	 * @param file        the Java file.
+	 * @param group       the participant group (ex : mp, jakarta).
+	 * @param params      the code action parameters.
+	 * @param codeActions the unresolved code actions, without the fix all code
+	 *                    actions.
+	 * @param quickFixes  the quick fixes used to build the fix all code actions.
+	 */
+	static void put(PsiFile file, String group, MicroProfileJavaCodeActionParams params, List<CodeAction> codeActions,
+					List<QuickFix> quickFixes) {
+		List<String> only = params.getContext().getOnly();
+		if (only == null || only.isEmpty()) {
+			getCodeActions(file).put(toKey(group, params),
+					new Entry(List.copyOf(codeActions), List.copyOf(quickFixes)));
+		}
+	}
+
+	private static Map<List<Object>, Entry> getCodeActions(PsiFile file) {
+		JavaDiagnosticsCache diagnosticsCache = JavaDiagnosticsCache.getInstance(file.getProject());
+		// The configuration epoch is bumped when the classpath, the config sources or the settings change
+		ModificationTracker configurationTracker = diagnosticsCache::getConfigurationEpoch;
+		return CachedValuesManager.getManager(file.getProject()).getCachedValue(file, KEY,
+				() -> CachedValueProvider.Result.create(new ConcurrentHashMap<>(), file,
+						ProjectRootModificationTracker.getInstance(file.getProject()), configurationTracker), false);
+	}
+
+	private static List<Object> toKey(String group, MicroProfileJavaCodeActionParams params) {
+		return Arrays.asList(group, params.getRange(), params.getContext().getDiagnostics(),
+				params.isResourceOperationSupported(), params.isCommandConfigurationUpdateSupported());
+	}
+
+	private static boolean isKind(CodeAction codeAction, List<String> only) {
+		return only.stream().anyMatch(kind -> isKind(codeAction.getKind(), kind));
+	}
+
+	private static boolean isKind(String kind, String baseKind) {
+		return kind != null && (kind.equals(baseKind) || kind.startsWith(baseKind + "."));
+	}
+}
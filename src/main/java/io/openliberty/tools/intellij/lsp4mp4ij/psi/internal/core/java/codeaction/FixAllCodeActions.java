@@ -0,0 +1,481 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.codeaction;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.notification.Notification;
+import com.intellij.notification.NotificationType;
+import com.intellij.notification.Notifications;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.search.FileTypeIndex;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.redhat.devtools.lsp4ij.LSPIJUtils;
+import io.openliberty.tools.intellij.LibertyPluginIcons;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.codeaction.ExtendedCodeAction;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.codeaction.JavaCodeActionContext;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.DiagnosticsHandler;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.PublishedJavaDiagnostics;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.JavaParticipantRegistry;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.corrections.DiagnosticsHelper;
+import io.openliberty.tools.intellij.util.Constants;
+import io.openliberty.tools.intellij.util.LocalizedResourceUtil;
+import org.eclipse.lsp4j.CodeAction;
+import org.eclipse.lsp4j.CodeActionContext;
+import org.eclipse.lsp4j.CodeActionKind;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.ResourceOperation;
+import org.eclipse.lsp4j.TextDocumentEdit;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.TextEdit;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.eclipse.lsp4j.WorkspaceEdit;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaCodeActionParams;
+import org.eclipse.lsp4mp.commons.codeaction.CodeActionResolveData;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * "Fix all" variants of the quick fixes, which apply a quick fix to every
+ * diagnostic with the same code in a file, a module or the project.
+ *
+ * <p>
+ * A fix all code action is a copy of the quick fix code action with a
+ * <code>quickfix.fixAll.&lt;scope&gt;</code> kind. It is offered only when the
+ * published diagnostics of its scope hold more than one diagnostic with the
+ * same code, and more than the published diagnostics of the narrower scope.
+ * </p>
+ *
+ * <p>
+ * When it is resolved, the diagnostics of the scope are collected in parallel
+ * with the settings of the last diagnostics request, the quick fix is
+ * collected and resolved for each diagnostic with the participant of the quick
+ * fix, and the edits of all the diagnostics are merged in one workspace edit,
+ * so that the client applies them at once. The edits of a diagnostic which
+ * overlap the edits of another diagnostic are skipped and the number of
+ * skipped diagnostics is reported: the fix all can be applied again to fix
+ * them.
+ * </p>
+ */
+final class FixAllCodeActions {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(FixAllCodeActions.class);
+
+	private static final String FIX_ALL_KIND = CodeActionKind.QuickFix + ".fixAll";
+
+	enum Scope {
+
+		FILE("file"), MODULE("module"), PROJECT("project");
+
+		private final String name;
+
+		Scope(String name) {
+			this.name = name;
+		}
+
+		private String getKind() {
+			return FIX_ALL_KIND + "." + name;
+		}
+
+		private String getTitleSuffix() {
+			return " (fix all in " + name + ")";
+		}
+
+		private static Scope fromKind(String kind) {
+			for (Scope scope : values()) {
+				if (scope.getKind().equals(kind)) {
+					return scope;
+				}
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * The merged edits of a file and the number of diagnostics whose edits were
+	 * skipped because they overlap the merged edits.
+	 */
+	private record FileFix(List<TextEdit> edits, int fixed, int skipped) {
+	}
+
+	/**
+	 * An unresolved quick fix and the diagnostic it fixes.
+	 */
+	record QuickFix(CodeAction codeAction, Diagnostic diagnostic) {
+	}
+
+	private final String group;
+
+	private final CodeActionHandler codeActionHandler;
+
+	private final DiagnosticsHandler diagnosticsHandler;
+
+	FixAllCodeActions(String group, CodeActionHandler codeActionHandler) {
+		this.group = group;
+		this.codeActionHandler = codeActionHandler;
+		this.diagnosticsHandler = new DiagnosticsHandler(group);
+	}
+
+	/**
+	 * Returns true if the given code action is a fix all code action and false
+	 * otherwise.
+	 *
+	 * @param codeAction the code action.
+	 * @return true if the given code action is a fix all code action and false
+	 *         otherwise.
+	 */
+	static boolean isFixAll(CodeAction codeAction) {
+		return codeAction.getKind() != null && codeAction.getKind().startsWith(FIX_ALL_KIND + ".");
+	}
+
+	/**
+	 * Returns the fix all code actions of the given unresolved quick fixes, once
+	 * per title.
+	 *
+	 * @param quickFixes the unresolved quick fixes.
+	 * @param utils      the utilities class.
+	 * @return the fix all code actions of the given unresolved quick fixes.
+	 */
+	List<CodeAction> getFixAllCodeActions(List<QuickFix> quickFixes, IPsiUtils utils) {
+		// The titles of the fix all code actions, to offer them once for several diagnostics with the same code
+		Set<String> fixAllTitles = new HashSet<>();
+		List<CodeAction> codeActions = new ArrayList<>();
+		for (QuickFix quickFix : quickFixes) {
+			ProgressManager.checkCanceled();
+			getFixAllCodeActions(quickFix.codeAction(), quickFix.diagnostic(), utils).stream()
+					.filter(fixAll -> fixAllTitles.add(fixAll.getTitle()))
+					.forEach(codeActions::add);
+		}
+		return codeActions;
+	}
+
+	/**
+	 * Returns the fix all code actions of the given unresolved quick fix.
+	 *
+	 * @param quickFix   the unresolved quick fix.
+	 * @param diagnostic the diagnostic fixed by the quick fix.
+	 * @param utils      the utilities class.
+	 * @return the fix all code actions of the given unresolved quick fix.
+	 */
+	List<CodeAction> getFixAllCodeActions(CodeAction quickFix, Diagnostic diagnostic, IPsiUtils utils) {
+		if (!CodeActionKind.QuickFix.equals(quickFix.getKind()) || quickFix.getEdit() != null
+				|| quickFix.getCommand() != null || !(quickFix.getData() instanceof CodeActionResolveData data)) {
+			return Collections.emptyList();
+		}
+		Map<String, List<Diagnostic>> published = PublishedJavaDiagnostics.getInstance(utils.getProject())
+				.getPublishedDiagnostics(group);
+		int relevance = quickFix instanceof ExtendedCodeAction ? ((ExtendedCodeAction) quickFix).getRelevance() : 0;
+		List<CodeAction> codeActions = new ArrayList<>();
+		int narrowerCount = 1;
+		for (Scope scope : Scope.values()) {
+			int count = countPublished(scope, data.getDocumentUri(), diagnostic, published, utils);
+			if (count <= narrowerCount) {
+				// The scope holds no other diagnostic than the quick fix or the narrower fix all
+				continue;
+			}
+			narrowerCount = count;
+			ExtendedCodeAction codeAction = new ExtendedCodeAction(quickFix.getTitle() + scope.getTitleSuffix());
+			// Sort the fix all code actions after the quick fixes
+			codeAction.setRelevance(relevance - 1);
+			codeAction.setKind(scope.getKind());
+			codeAction.setDiagnostics(Collections.singletonList(diagnostic));
+			codeAction.setData(quickFix.getData());
+			codeActions.add(codeAction);
+		}
+		return codeActions;
+	}
+
+	/**
+	 * Returns the given fix all code action with the workspace edit which fixes
+	 * all the diagnostics of its scope resolved.
+	 *
+	 * @param unresolved the unresolved fix all code action.
+	 * @param data       the resolve data of the quick fix.
+	 * @param utils      the utilities class.
+	 * @return the given fix all code action with its workspace edit resolved.
+	 */
+	CodeAction resolve(CodeAction unresolved, CodeActionResolveData data, IPsiUtils utils) {
+		Scope scope = Scope.fromKind(unresolved.getKind());
+		if (scope == null || unresolved.getDiagnostics() == null || unresolved.getDiagnostics().isEmpty()) {
+			return unresolved;
+		}
+		String title = unresolved.getTitle().substring(0,
+				unresolved.getTitle().length() - scope.getTitleSuffix().length());
+		Diagnostic fixedDiagnostic = unresolved.getDiagnostics().get(0);
+		List<String> uris = getUris(scope, data.getDocumentUri(), utils);
+		ProgressIndicator indicator = ProgressManager.getInstance().getProgressIndicator();
+		if (indicator != null) {
+			indicator.setIndeterminate(false);
+			indicator.setFraction(0);
+		}
+		// The diagnostics of a module or of the project are collected in parallel read actions
+		List<PublishDiagnosticsParams> publishDiagnostics = diagnosticsHandler.collectDiagnosticsWithLastSettings(uris, utils);
+		Map<String, List<TextEdit>> editsByUri = new LinkedHashMap<>();
+		int fixed = 0;
+		int skipped = 0;
+		for (int i = 0; i < publishDiagnostics.size(); i++) {
+			ProgressManager.checkCanceled();
+			if (indicator != null) {
+				indicator.setFraction((double) i / publishDiagnostics.size());
+			}
+			String uri = publishDiagnostics.get(i).getUri();
+			List<Diagnostic> diagnostics = publishDiagnostics.get(i).getDiagnostics().stream()
+					.filter(diagnostic -> isSameProblem(diagnostic, fixedDiagnostic))
+					.toList();
+			if (diagnostics.isEmpty()) {
+				continue;
+			}
+			FileFix fileFix = fixAll(uri, title, diagnostics, data, utils);
+			if (!fileFix.edits().isEmpty()) {
+				editsByUri.put(uri, fileFix.edits());
+			}
+			fixed += fileFix.fixed();
+			skipped += fileFix.skipped();
+		}
+		if (skipped > 0) {
+			notifySkipped(utils, fixed, skipped);
+		}
+		unresolved.setEdit(toWorkspaceEdit(editsByUri, data.isResourceOperationSupported()));
+		return unresolved;
+	}
+
+	private static int countPublished(Scope scope, String uri, Diagnostic diagnostic,
+									  Map<String, List<Diagnostic>> published, IPsiUtils utils) {
+		Module module = scope == Scope.MODULE ? getModule(uri, utils) : null;
+		int count = 0;
+		for (Map.Entry<String, List<Diagnostic>> fileDiagnostics : published.entrySet()) {
+			String publishedUri = fileDiagnostics.getKey();
+			boolean inScope = switch (scope) {
+				case FILE -> uri.equals(publishedUri);
+				case MODULE -> uri.equals(publishedUri) || (module != null && module.equals(getModule(publishedUri, utils)));
+				case PROJECT -> true;
+			};
+			if (inScope) {
+				count += (int) fileDiagnostics.getValue().stream()
+						.filter(publishedDiagnostic -> isSameProblem(publishedDiagnostic, diagnostic))
+						.count();
+			}
+		}
+		return count;
+	}
+
+	private static Module getModule(String uri, IPsiUtils utils) {
+		try {
+			return utils.getModule(uri);
+		} catch (IOException e) {
+			LOGGER.warn(e.getLocalizedMessage(), e);
+			return null;
+		}
+	}
+
+	private static boolean isSameProblem(Diagnostic diagnostic, Diagnostic fixedDiagnostic) {
+		return Objects.equals(diagnostic.getSource(), fixedDiagnostic.getSource())
+				&& Objects.equals(diagnostic.getCode(), fixedDiagnostic.getCode());
+	}
+
+	private static void notifySkipped(IPsiUtils utils, int fixed, int skipped) {
+		Notification notification = new Notification(Constants.LIBERTY_DEV_DASHBOARD_ID,
+				LocalizedResourceUtil.getMessage("quickfix.fixall.title"),
+				LocalizedResourceUtil.getMessage("quickfix.fixall.skipped", String.valueOf(skipped),
+						String.valueOf(fixed + skipped)),
+				NotificationType.INFORMATION);
+		notification.setIcon(LibertyPluginIcons.libertyIcon);
+		Notifications.Bus.notify(notification, utils.getProject());
+	}
+
+	private static List<String> getUris(Scope scope, String uri, IPsiUtils utils) {
+		if (scope == Scope.FILE) {
+			return Collections.singletonList(uri);
+		}
+		GlobalSearchScope searchScope;
+		if (scope == Scope.MODULE) {
+			Module module = getModule(uri, utils);
+			if (module == null) {
+				return Collections.singletonList(uri);
+			}
+			searchScope = module.getModuleScope(false);
+		} else {
+			searchScope = GlobalSearchScope.projectScope(utils.getProject());
+		}
+		ProjectFileIndex fileIndex = ProjectFileIndex.getInstance(utils.getProject());
+		List<String> uris = new ArrayList<>();
+		for (VirtualFile file : FileTypeIndex.getFiles(JavaFileType.INSTANCE, searchScope)) {
+			if (fileIndex.isInSourceContent(file)) {
+				uris.add(LSPIJUtils.toUriAsString(file));
+			}
+		}
+		return uris;
+	}
+
+	private FileFix fixAll(String uri, String title, List<Diagnostic> diagnostics, CodeActionResolveData data,
+						   IPsiUtils utils) {
+		PsiFile unit = utils.resolveCompilationUnit(uri);
+		if (unit == null) {
+			return new FileFix(Collections.emptyList(), 0, 0);
+		}
+		IPsiUtils fileUtils;
+		try {
+			fileUtils = utils.refine(utils.getModule(uri));
+		} catch (IOException e) {
+			LOGGER.warn(e.getLocalizedMessage(), e);
+			return new FileFix(Collections.emptyList(), 0, 0);
+		}
+		JavaParticipantRegistry.CodeActionDefinitions quickFixDefinitions = JavaParticipantRegistry.getInstance()
+				.getCodeActionDefinitions(group, CodeActionKind.QuickFix);
+		List<JavaCodeActionDefinition> definitions = Stream.concat(quickFixDefinitions.getDefinitions().stream(),
+						quickFixDefinitions.getDefinitionsByTargetDiagnostic().values().stream().flatMap(List::stream))
+				.filter(definition -> data.getParticipantId().equals(definition.getParticipantId()))
+				.distinct()
+				.toList();
+		List<TextEdit> mergedEdits = new ArrayList<>();
+		int fixed = 0;
+		int skipped = 0;
+		for (Diagnostic diagnostic : diagnostics) {
+			ProgressManager.checkCanceled();
+			CodeAction quickFix = getQuickFix(unit, uri, title, diagnostic, definitions, data, fileUtils);
+			if (quickFix == null) {
+				continue;
+			}
+			CodeAction resolved = codeActionHandler.resolveCodeAction(quickFix, fileUtils);
+			if (resolved != null && resolved.getEdit() != null) {
+				List<TextEdit> textEdits = getTextEdits(resolved.getEdit(), uri);
+				if (textEdits != null && merge(textEdits, mergedEdits)) {
+					fixed++;
+				} else {
+					skipped++;
+				}
+			}
+		}
+		return new FileFix(mergedEdits, fixed, skipped);
+	}
+
+	private static CodeAction getQuickFix(PsiFile unit, String uri, String title, Diagnostic diagnostic,
+										  List<JavaCodeActionDefinition> definitions, CodeActionResolveData data,
+										  IPsiUtils utils) {
+		MicroProfileJavaCodeActionParams params = new MicroProfileJavaCodeActionParams(new TextDocumentIdentifier(uri),
+				diagnostic.getRange(), new CodeActionContext(Collections.singletonList(diagnostic)));
+		params.setResolveSupported(true);
+		params.setResourceOperationSupported(data.isResourceOperationSupported());
+		params.setCommandConfigurationUpdateSupported(data.isCommandConfigurationUpdateSupported());
+		int start = DiagnosticsHelper.getStartOffset(unit, diagnostic.getRange(), utils);
+		int end = DiagnosticsHelper.getEndOffset(unit, diagnostic.getRange(), utils);
+		JavaCodeActionContext context = new JavaCodeActionContext(unit, start, end - start, utils, params);
+		for (JavaCodeActionDefinition definition : definitions) {
+			if (!definition.isAdaptedForCodeAction(context)) {
+				continue;
+			}
+			for (CodeAction codeAction : definition.getCodeActions(context.copy(), diagnostic)) {
+				if (title.equals(codeAction.getTitle()) && codeAction.getData() instanceof CodeActionResolveData) {
+					return codeAction;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the text edits of the given file and null if the workspace edit also
+	 * changes other files or holds resource operations, which are not merged in
+	 * the edits of the file.
+	 */
+	private static @Nullable List<TextEdit> getTextEdits(WorkspaceEdit edit, String uri) {
+		List<TextEdit> textEdits = new ArrayList<>();
+		if (edit.getDocumentChanges() != null) {
+			for (Either<TextDocumentEdit, ResourceOperation> documentChange : edit.getDocumentChanges()) {
+				if (documentChange.isRight() || !uri.equals(documentChange.getLeft().getTextDocument().getUri())) {
+					return null;
+				}
+				textEdits.addAll(documentChange.getLeft().getEdits());
+			}
+		}
+		if (edit.getChanges() != null) {
+			for (Map.Entry<String, List<TextEdit>> change : edit.getChanges().entrySet()) {
+				if (!uri.equals(change.getKey())) {
+					return null;
+				}
+				textEdits.addAll(change.getValue());
+			}
+		}
+		return textEdits;
+	}
+
+	/**
+	 * Adds the given edits of one diagnostic to the merged edits, without the
+	 * edits already merged (ex : the same import added by several diagnostics).
+	 * The edits are not added if one of them overlaps a merged edit.
+	 *
+	 * @return true if the edits have been merged and false if they have been
+	 *         skipped.
+	 */
+	private static boolean merge(List<TextEdit> edits, List<TextEdit> mergedEdits) {
+		List<TextEdit> newEdits = new ArrayList<>();
+		for (TextEdit edit : edits) {
+			if (mergedEdits.contains(edit)) {
+				continue;
+			}
+			for (TextEdit mergedEdit : mergedEdits) {
+				if (overlaps(edit.getRange(), mergedEdit.getRange())) {
+					return false;
+				}
+			}
+			newEdits.add(edit);
+		}
+		mergedEdits.addAll(newEdits);
+		return true;
+	}
+
+	private static boolean overlaps(Range range1, Range range2) {
+		// Insertions at the same position don't overlap, they are applied in order
+		return compare(range1.getStart(), range2.getEnd()) < 0 && compare(range2.getStart(), range1.getEnd()) < 0;
+	}
+
+	private static int compare(Position position1, Position position2) {
+		int result = Integer.compare(position1.getLine(), position2.getLine());
+		return result != 0 ? result : Integer.compare(position1.getCharacter(), position2.getCharacter());
+	}
+
+	private static WorkspaceEdit toWorkspaceEdit(Map<String, List<TextEdit>> editsByUri,
+												 boolean resourceOperationSupported) {
+		WorkspaceEdit workspaceEdit = new WorkspaceEdit();
+		if (resourceOperationSupported) {
+			List<Either<TextDocumentEdit, ResourceOperation>> documentChanges = new ArrayList<>();
+			editsByUri.forEach((uri, edits) -> documentChanges.add(
+					Either.forLeft(new TextDocumentEdit(new VersionedTextDocumentIdentifier(uri, 0), edits))));
+			workspaceEdit.setDocumentChanges(documentChanges);
+		} else {
+			workspaceEdit.setChanges(editsByUri);
+		}
+		return workspaceEdit;
+	}
+}
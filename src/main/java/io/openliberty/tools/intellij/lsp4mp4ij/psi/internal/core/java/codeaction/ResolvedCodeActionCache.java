@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.codeaction;
+
+import com.intellij.openapi.roots.ProjectRootModificationTracker;
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import org.eclipse.lsp4j.CodeAction;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.ResourceOperation;
+import org.eclipse.lsp4j.TextDocumentEdit;
+import org.eclipse.lsp4j.TextEdit;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.eclipse.lsp4j.WorkspaceEdit;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.lsp4mp.commons.codeaction.CodeActionResolveData;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of the workspace edits of the resolved code actions of a Java file.
+ *
+ * <p>
+ * The edits are stored in the Java file and are dropped when the file or the
+ * project roots change. They are indexed by participant, proposal (kind, title
+ * and resolve data) and diagnostics, so that resolving the same code action
+ * again (ex : lightbulb preview) doesn't compute its AST rewrite again.
+ * </p>
+ */
+final class ResolvedCodeActionCache {
+
+	private static final Key<CachedValue<Map<List<Object>, WorkspaceEdit>>> KEY = Key
+			.create(ResolvedCodeActionCache.class.getName());
+
+	private ResolvedCodeActionCache() {
+	}
+
+	/**
+	 * Returns a copy of the cached workspace edit of the given code action and
+	 * null if it has not been resolved since the last change of the file.
+	 *
+	 * @param file       the Java file.
+	 * @param group      the participant group (ex : mp, jakarta).
+	 * @param unresolved the unresolved code action.
+	 * @param data       the resolve data of the code action.
+	 * @return a copy of the cached workspace edit of the given code action and
+	 *         null otherwise.
+	 */
+	static @Nullable WorkspaceEdit get(PsiFile file, String group, CodeAction unresolved, CodeActionResolveData data) {
+		WorkspaceEdit edit = getEdits(file).get(toKey(group, unresolved, data));
+		return edit != null ? copy(edit) : null;
+	}
+
+	/**
+	 * Stores the workspace edit of the given code action.
+	 *
+	 * @param file       the Java file.
+	 * @param group      the participant group (ex : mp, jakarta).
+	 * @param unresolved the code action.
+	 * @param data       the resolve data of the code action.
+	 * @param edit       the resolved workspace edit of the code action.
+	 */
+	static void put(PsiFile file, String group, CodeAction unresolved, CodeActionResolveData data, WorkspaceEdit edit) {
+		getEdits(file).put(toKey(group, unresolved, data), copy(edit));
+	}
+
+	private static Map<List<Object>, WorkspaceEdit> getEdits(PsiFile file) {
+		return CachedValuesManager.getManager(file.getProject()).getCachedValue(file, KEY,
+				() -> CachedValueProvider.Result.create(new ConcurrentHashMap<>(), file,
+						ProjectRootModificationTracker.getInstance(file.getProject())), false);
+	}
+
+	private static List<Object> toKey(String group, CodeAction codeAction, CodeActionResolveData data) {
+		return Arrays.asList(group, data.getParticipantId(), codeAction.getKind(), codeAction.getTitle(),
+				data.getRange(), data.getExtendedData(), codeAction.getDiagnostics(),
+				data.isResourceOperationSupported());
+	}
+
+	// The clients may modify the returned edits, the cached ones are never shared
+	private static WorkspaceEdit copy(WorkspaceEdit edit) {
+		WorkspaceEdit copy = new WorkspaceEdit();
+		if (edit.getChanges() != null) {
+			Map<String, List<TextEdit>> changes = new LinkedHashMap<>();
+			edit.getChanges().forEach((uri, textEdits) -> changes.put(uri, copy(textEdits)));
+			copy.setChanges(changes);
+		}
+		if (edit.getDocumentChanges() != null) {
+			List<Either<TextDocumentEdit, ResourceOperation>> documentChanges = new ArrayList<>();
+			for (Either<TextDocumentEdit, ResourceOperation> documentChange : edit.getDocumentChanges()) {
+				if (documentChange.isLeft()) {
+					TextDocumentEdit documentEdit = documentChange.getLeft();
+					VersionedTextDocumentIdentifier identifier = new VersionedTextDocumentIdentifier(
+							documentEdit.getTextDocument().getUri(), documentEdit.getTextDocument().getVersion());
+					documentChanges.add(Either.forLeft(new TextDocumentEdit(identifier, copy(documentEdit.getEdits()))));
+				} else {
+					documentChanges.add(documentChange);
+				}
+			}
+			copy.setDocumentChanges(documentChanges);
+		}
+		return copy;
+	}
+
+	private static List<TextEdit> copy(List<TextEdit> textEdits) {
+		List<TextEdit> copy = new ArrayList<>(textEdits.size());
+		for (TextEdit textEdit : textEdits) {
+			Range range = textEdit.getRange();
+			copy.add(new TextEdit(new Range(copy(range.getStart()), copy(range.getEnd())), textEdit.getNewText()));
+		}
+		return copy;
+	}
+
+	private static Position copy(Position position) {
+		return new Position(position.getLine(), position.getCharacter());
+	}
+}
@@ -14,6 +14,7 @@
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.validators;
 
 import com.intellij.psi.PsiFile;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.DiagnosticsCostProfiler;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.JavaASTValidator;
@@ -42,13 +43,23 @@ public class JavaASTDiagnosticsParticipant implements IJavaDiagnosticsParticipan
 	}
 
 	private static void collectDiagnosticsInFile(JavaDiagnosticsContext context, List<Diagnostic> diagnostics) {
-		// Collect the list of JavaASTValidator which are adapted for the current AST
-		// compilation unit to validate.
-		Collection<JavaASTValidator> validators = JavaASTValidatorRegistry.getInstance().getValidators(context, diagnostics);
-		if (!validators.isEmpty()) {
-			// Visit the AST compilation unit and process each validator.
-			PsiFile ast = context.getASTRoot();
-			ast.accept(new MultiASTVisitor(validators));
+		JavaASTValidatorRegistry registry = JavaASTValidatorRegistry.getInstance();
+		List<JavaASTValidator> validators = registry.acquireValidators();
+		try {
+			// Collect the list of JavaASTValidator which are adapted for the current AST
+			// compilation unit to validate.
+			Collection<JavaASTValidator> adaptedValidators = registry.getValidators(validators, context, diagnostics);
+			if (!adaptedValidators.isEmpty()) {
+				// Visit the AST compilation unit and process each validator.
+				PsiFile ast = context.getASTRoot();
+				MultiASTVisitor visitor = new MultiASTVisitor(adaptedValidators);
+				ast.accept(visitor);
+				// Record the cost of each validator, so that a slow participant can be traced to its validator
+				DiagnosticsCostProfiler profiler = DiagnosticsCostProfiler.getInstance(ast.getProject());
+				visitor.getCosts().forEach((validator, cost) -> profiler.recordPart(JavaASTDiagnosticsParticipant.class.getName(), validator, cost));
+			}
+		} finally {
+			registry.releaseValidators(validators);
 		}
 	}
 
@@ -23,12 +23,15 @@ import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotati
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations.AnnotationRulesJavaASTValidator;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations.AnnotationValidator;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations.RangeExpressionException;
+import io.openliberty.tools.intellij.util.LibertyToolPluginDisposable;
 import org.eclipse.lsp4j.Diagnostic;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -72,11 +75,30 @@ public class JavaASTValidatorRegistry extends AnnotationValidator {
 
 	private final List<JavaASTValidatorExtensionPointBean> validatorsFromClass;
 
+	private final Queue<List<JavaASTValidator>> validatorsPool;
+
+	// Incremented when the extensions change, the validators created before are not reused
+	private volatile int validatorsGeneration;
+
+	/**
+	 * The validators of a diagnostics request, created for a given generation of
+	 * the extensions.
+	 */
+	private static class PooledValidators extends ArrayList<JavaASTValidator> {
+
+		private final int generation;
+
+		private PooledValidators(int generation) {
+			this.generation = generation;
+		}
+	}
+
 	private JavaASTValidatorRegistry() {
 		super();
 		this.extensionProvidersLoaded = false;
 		this.registryListenerIntialized = false;
 		this.validatorsFromClass = new ArrayList<>();
+		this.validatorsPool = new ConcurrentLinkedQueue<>();
 	}
 
 	public String getExtensionId() {
@@ -103,6 +125,14 @@ public class JavaASTValidatorRegistry extends AnnotationValidator {
 		// called twice
 		extensionProvidersLoaded = true;
 
+		if (!registryListenerIntialized) {
+			registryListenerIntialized = true;
+			JavaASTValidator.EP_NAME.addChangeListener(this::extensionJavaASTValidatorsChanged,
+					LibertyToolPluginDisposable.getInstance());
+			AnnotationValidator.EP_NAME.addChangeListener(this::extensionJavaASTValidatorsChanged,
+					LibertyToolPluginDisposable.getInstance());
+		}
+
 		LOGGER.log(Level.INFO, "->- Loading ." + getExtensionId() + " extension point ->-");
 
 		addExtensionJavaASTValidators();
@@ -122,6 +152,15 @@ public class JavaASTValidatorRegistry extends AnnotationValidator {
 		}
 	}
 
+	private synchronized void extensionJavaASTValidatorsChanged() {
+		// Load the validators and the annotation rules again at the next request and drop the pooled validators
+		validatorsFromClass.clear();
+		unregisterRules();
+		extensionProvidersLoaded = false;
+		validatorsGeneration++;
+		validatorsPool.clear();
+	}
+
 	private AnnotationRule createRule(AnnotationRuleExtensionPointBean bean) throws RangeExpressionException {
 		AnnotationRule rule = new AnnotationRule(bean.annotation, bean.source);
 		for(AnnotationRuleAttributeExtensionPointBean bean1 : bean.attributes) {
@@ -132,12 +171,61 @@ public class JavaASTValidatorRegistry extends AnnotationValidator {
 		return rule;
 	}
 
-	public Collection<JavaASTValidator> getValidators(JavaDiagnosticsContext context, List<Diagnostic> diagnostics) {
-		List<JavaASTValidator> validators = new ArrayList<>();
-		addValidator(new AnnotationRulesJavaASTValidator(getRules()), context, diagnostics, validators);
+	/**
+	 * Returns a set of validator instances which is not used by another
+	 * diagnostics request. The validators are created once and reused across
+	 * requests, they must be given back with
+	 * {@link #releaseValidators(List)} once the AST has been visited.
+	 *
+	 * @return a set of validator instances.
+	 */
+	public List<JavaASTValidator> acquireValidators() {
+		List<JavaASTValidator> validators = validatorsPool.poll();
+		return validators != null ? validators : createValidators();
+	}
+
+	/**
+	 * Gives back the given validators acquired with {@link #acquireValidators()}.
+	 *
+	 * @param validators the validators to reuse for another diagnostics request.
+	 */
+	public void releaseValidators(List<JavaASTValidator> validators) {
+		for (JavaASTValidator validator : validators) {
+			validator.release();
+		}
+		if (validators instanceof PooledValidators pooledValidators
+				&& pooledValidators.generation == validatorsGeneration) {
+			validatorsPool.offer(validators);
+		}
+	}
+
+	/**
+	 * Initializes the given validators for the given context and returns the
+	 * ones which are adapted for it.
+	 *
+	 * @param validators  the validators acquired with {@link #acquireValidators()}.
+	 * @param context     the java diagnostics context.
+	 * @param diagnostics the diagnostics to update.
+	 * @return the validators which are adapted for the given context.
+	 */
+	public Collection<JavaASTValidator> getValidators(List<JavaASTValidator> validators, JavaDiagnosticsContext context,
+			List<Diagnostic> diagnostics) {
+		List<JavaASTValidator> adaptedValidators = new ArrayList<>(validators.size());
+		for (JavaASTValidator validator : validators) {
+			validator.initialize(context, diagnostics);
+			if (validator.isAdaptedForDiagnostics(context)) {
+				adaptedValidators.add(validator);
+			}
+		}
+		return adaptedValidators;
+	}
+
+	private synchronized List<JavaASTValidator> createValidators() {
+		List<JavaASTValidator> validators = new PooledValidators(validatorsGeneration);
+		validators.add(new AnnotationRulesJavaASTValidator(getRules()));
 		for (JavaASTValidatorExtensionPointBean ce : validatorsFromClass) {
 			try {
-				addValidator(ce.createValidator(), context, diagnostics, validators);
+				validators.add(ce.createValidator());
 			} catch (ClassNotFoundException | NoSuchMethodException |
 					 InvocationTargetException | InstantiationException | IllegalAccessException e) {
 				LOGGER.log(Level.WARNING, e.getLocalizedMessage(), e);
@@ -146,12 +234,4 @@ public class JavaASTValidatorRegistry extends AnnotationValidator {
 		return validators;
 	}
 
-	private void addValidator(JavaASTValidator validator, JavaDiagnosticsContext context, List<Diagnostic> diagnostics,
-			List<JavaASTValidator> validators) {
-		validator.initialize(context, diagnostics);
-		if (validator.isAdaptedForDiagnostics(context)) {
-			validators.add(validator);
-		}
-	}
-
 }
\ No newline at end of file
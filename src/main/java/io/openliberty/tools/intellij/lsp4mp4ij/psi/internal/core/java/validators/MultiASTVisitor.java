@@ -15,36 +15,102 @@ package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.validator
 
 import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.project.IndexNotReadyException;
-import com.intellij.psi.JavaRecursiveElementVisitor;
+import com.intellij.psi.JavaElementVisitor;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiJavaFile;
 import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifierList;
+import com.intellij.psi.PsiPackage;
+import com.intellij.psi.PsiPackageStatement;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.JavaASTValidator;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CancellationException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Multiple JDT AST visitor.
+ *
+ * <p>
+ * Only the declarations of the compilation unit are visited: the top-level
+ * types are dispatched to each validator, which walks their members (see
+ * {@link JavaASTValidator#visitMembers(PsiClass)}) without entering the code
+ * blocks and lambdas. The local and anonymous classes declared in them are
+ * therefore not visited.
+ * </p>
  * 
  * @author Angelo ZERR
  *
  */
-public class MultiASTVisitor extends JavaRecursiveElementVisitor {
+public class MultiASTVisitor extends JavaElementVisitor {
 
 	private static final Logger LOGGER = Logger.getLogger(MultiASTVisitor.class.getName());
-	private final Collection<JavaASTValidator> visitors;
+	private final List<JavaASTValidator> visitors;
+	private final long[] costs;
 
 	public MultiASTVisitor(Collection<JavaASTValidator> visitors) {
-		this.visitors = visitors;
+		this.visitors = new ArrayList<>(visitors);
+		this.costs = new long[visitors.size()];
+	}
+
+	/**
+	 * Returns the time in nanoseconds spent by each validator while visiting the
+	 * compilation unit, by validator class name.
+	 *
+	 * @return the time in nanoseconds spent by each validator.
+	 */
+	public Map<String, Long> getCosts() {
+		Map<String, Long> costsByValidator = new HashMap<>();
+		for (int i = 0; i < visitors.size(); i++) {
+			costsByValidator.merge(visitors.get(i).getClass().getName(), costs[i], Long::sum);
+		}
+		return costsByValidator;
+	}
+
+	@Override
+	public void visitJavaFile(PsiJavaFile file) {
+		if (PsiPackage.PACKAGE_INFO_FILE.equals(file.getName())) {
+			PsiPackageStatement packageStatement = file.getPackageStatement();
+			PsiModifierList annotationList = packageStatement != null ? packageStatement.getAnnotationList() : null;
+			if (annotationList != null) {
+				for (PsiAnnotation annotation : annotationList.getAnnotations()) {
+					visitAnnotation(annotation);
+				}
+			}
+		}
+		for (PsiClass type : file.getClasses()) {
+			visitClass(type);
+		}
+		for (int i = 0; i < visitors.size(); i++) {
+			JavaASTValidator visitor = visitors.get(i);
+			long start = System.nanoTime();
+			try {
+				visitor.endVisit(file);
+			} catch (ProcessCanceledException e) {
+				//Since 2024.2 ProcessCanceledException extends CancellationException so we can't use multicatch to keep backward compatibility
+				//TODO delete block when minimum required version is 2024.2
+				throw e;
+			} catch (IndexNotReadyException | CancellationException e) {
+				throw e;
+			} catch (Exception e) {
+				LOGGER.log(Level.WARNING, "Error while visiting node with " + visitor.getClass().getName(), e);
+			} finally {
+				costs[i] += System.nanoTime() - start;
+			}
+		}
 	}
 
 	@Override
 	public void visitAnnotation(PsiAnnotation node) {
-		for (JavaRecursiveElementVisitor visitor : visitors) {
+		for (int i = 0; i < visitors.size(); i++) {
+			JavaASTValidator visitor = visitors.get(i);
+			long start = System.nanoTime();
 			try {
 				visitor.visitAnnotation(node);
 			} catch (ProcessCanceledException e) {
@@ -55,13 +121,17 @@ public class MultiASTVisitor extends JavaRecursiveElementVisitor {
 				throw e;
 			} catch (Exception e) {
 				LOGGER.log(Level.WARNING, "Error while visiting node with " + visitor.getClass().getName(), e);
+			} finally {
+				costs[i] += System.nanoTime() - start;
 			}
 		}
 	}
 
 	@Override
 	public void visitClass(PsiClass node) {
-		for (JavaRecursiveElementVisitor visitor : visitors) {
+		for (int i = 0; i < visitors.size(); i++) {
+			JavaASTValidator visitor = visitors.get(i);
+			long start = System.nanoTime();
 			try {
 				visitor.visitClass(node);
 			} catch (ProcessCanceledException e) {
@@ -72,13 +142,17 @@ public class MultiASTVisitor extends JavaRecursiveElementVisitor {
 				throw e;
 			} catch (Exception e) {
 				LOGGER.log(Level.WARNING, "Error while visiting node with " + visitor.getClass().getName(), e);
+			} finally {
+				costs[i] += System.nanoTime() - start;
 			}
 		}
 	}
 
 	@Override
 	public void visitMethod(PsiMethod node) {
-		for (JavaRecursiveElementVisitor visitor : visitors) {
+		for (int i = 0; i < visitors.size(); i++) {
+			JavaASTValidator visitor = visitors.get(i);
+			long start = System.nanoTime();
 			try {
 				visitor.visitMethod(node);
 			} catch (ProcessCanceledException e) {
@@ -89,6 +163,8 @@ public class MultiASTVisitor extends JavaRecursiveElementVisitor {
 				throw e;
 			} catch (Exception e) {
 				LOGGER.log(Level.WARNING, "Error while visiting node with " + visitor.getClass().getName(), e);
+			} finally {
+				costs[i] += System.nanoTime() - start;
 			}
 		}
 	}
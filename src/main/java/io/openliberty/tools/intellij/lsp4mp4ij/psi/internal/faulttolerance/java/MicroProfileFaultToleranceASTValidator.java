@@ -18,8 +18,10 @@ import com.intellij.psi.*;
 import com.intellij.psi.util.PsiTreeUtil;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaFileFingerprint;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.JavaASTValidator;
 import io.openliberty.tools.intellij.util.ExceptionUtil;
+import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 
 import java.text.MessageFormat;
@@ -28,6 +30,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.logging.Level;
@@ -61,16 +64,32 @@ public class MicroProfileFaultToleranceASTValidator extends JavaASTValidator {
 	public MicroProfileFaultToleranceASTValidator() {
 		super();
 		this.methodsCache = new HashMap<>();
-		this.allowedReturnTypesForAsynchronousAnnotation = new HashSet<>(
-				Arrays.asList(FUTURE_TYPE_UTILITY, COMPLETION_STAGE_TYPE_UTILITY));
+		this.allowedReturnTypesForAsynchronousAnnotation = new HashSet<>();
+	}
+
+	@Override
+	public void initialize(JavaDiagnosticsContext context, List<Diagnostic> diagnostics) {
+		super.initialize(context, diagnostics);
+		// The validator instance is reused across requests, reset the state of the previous one
+		methodsCache.clear();
+		allowedReturnTypesForAsynchronousAnnotation.clear();
+		allowedReturnTypesForAsynchronousAnnotation.addAll(Arrays.asList(FUTURE_TYPE_UTILITY, COMPLETION_STAGE_TYPE_UTILITY));
+	}
+
+	@Override
+	public void release() {
+		super.release();
+		methodsCache.clear();
 	}
 
 	@Override
 	public boolean isAdaptedForDiagnostics(JavaDiagnosticsContext context) {
 		Module javaProject = context.getJavaProject();
-		boolean adapted = PsiTypeUtils.findType(javaProject, FALLBACK_ANNOTATION) != null
-				|| PsiTypeUtils.findType(javaProject, ASYNCHRONOUS_ANNOTATION) != null
-				|| PsiTypeUtils.findType(javaProject, RETRY_ANNOTATION) != null;
+		boolean adapted = (PsiTypeUtils.hasType(javaProject, FALLBACK_ANNOTATION)
+				|| PsiTypeUtils.hasType(javaProject, ASYNCHRONOUS_ANNOTATION)
+				|| PsiTypeUtils.hasType(javaProject, RETRY_ANNOTATION))
+				&& JavaFileFingerprint.getInstance(context.getTypeRoot()).hasAnyAnnotation(FALLBACK_ANNOTATION,
+						ASYNCHRONOUS_ANNOTATION, RETRY_ANNOTATION);
 		if (adapted) {
 			addAllowedReturnTypeForAsynchronousAnnotation(javaProject, UNI_TYPE_UTILITY);
 		}
@@ -78,7 +97,7 @@ public class MicroProfileFaultToleranceASTValidator extends JavaASTValidator {
 	}
 
 	private void addAllowedReturnTypeForAsynchronousAnnotation(Module javaProject, String returnType) {
-		if (PsiTypeUtils.findType(javaProject, returnType) != null) {
+		if (PsiTypeUtils.hasType(javaProject, returnType)) {
 			allowedReturnTypesForAsynchronousAnnotation.add(returnType);
 		}
 	}
@@ -101,7 +120,7 @@ public class MicroProfileFaultToleranceASTValidator extends JavaASTValidator {
 				validateRetryAnnotation(annotation);
 			}
 		}
-		type.acceptChildren(this);
+		visitMembers(type);
 	}
 
 	/**
@@ -18,6 +18,7 @@ import com.intellij.openapi.module.Module;
 import com.intellij.psi.*;
 import com.intellij.psi.impl.source.PsiClassReferenceType;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaFileFingerprint;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.JavaASTValidator;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.graphql.MicroProfileGraphQLConstants;
@@ -54,7 +55,11 @@ public class MicroProfileGraphQLASTValidator extends JavaASTValidator {
     @Override
     public boolean isAdaptedForDiagnostics(JavaDiagnosticsContext context) {
         Module javaProject = context.getJavaProject();
-        if(PsiTypeUtils.findType(javaProject, MicroProfileGraphQLConstants.QUERY_ANNOTATION) == null) {
+        if(!PsiTypeUtils.hasType(javaProject, MicroProfileGraphQLConstants.QUERY_ANNOTATION)) {
+            return false;
+        }
+        // Directives are user annotations, so any annotated file may need to be validated
+        if (!JavaFileFingerprint.getInstance(context.getTypeRoot()).hasAnnotations()) {
             return false;
         }
         // void GraphQL operations are allowed in Quarkus 3.1 and higher
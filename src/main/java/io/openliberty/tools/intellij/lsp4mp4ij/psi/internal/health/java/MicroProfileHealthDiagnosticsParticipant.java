@@ -20,6 +20,7 @@ import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaFileFingerprint;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.PositionUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.health.MicroProfileHealthConstants;
 import org.eclipse.lsp4mp.commons.DocumentFormat;
@@ -70,7 +71,13 @@ public class MicroProfileHealthDiagnosticsParticipant implements IJavaDiagnostic
 		// Collection of diagnostics for MicroProfile Health is done only if
 		// microprofile-health is on the classpath
 		Module javaProject = context.getJavaProject();
-		return PsiTypeUtils.findType(javaProject, HEALTH_CHECK_INTERFACE) != null;
+		if (!PsiTypeUtils.hasType(javaProject, HEALTH_CHECK_INTERFACE)) {
+			return false;
+		}
+		// Skip the files without any health annotation nor HealthCheck implementation
+		JavaFileFingerprint fingerprint = JavaFileFingerprint.getInstance(context.getTypeRoot());
+		return fingerprint.hasSuperType(HEALTH_CHECK_INTERFACE_NAME) || fingerprint.hasAnyAnnotation(LIVENESS_ANNOTATION,
+				READINESS_ANNOTATION, STARTUP_ANNOTATION, HEALTH_ANNOTATION);
 	}
 
 	@Override
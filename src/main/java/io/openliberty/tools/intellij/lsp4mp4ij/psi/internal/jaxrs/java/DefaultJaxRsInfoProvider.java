@@ -51,8 +51,8 @@ public class DefaultJaxRsInfoProvider implements IJaxRsInfoProvider {
 
 	@Override
 	public boolean canProvideJaxRsMethodInfoForClass(@NotNull PsiFile typeRoot, Module javaProject, ProgressIndicator monitor) {
-		return PsiTypeUtils.findType(javaProject, JAVAX_WS_RS_PATH_ANNOTATION) != null
-				|| PsiTypeUtils.findType(javaProject, JAKARTA_WS_RS_PATH_ANNOTATION) != null;
+		return PsiTypeUtils.hasType(javaProject, JAVAX_WS_RS_PATH_ANNOTATION)
+				|| PsiTypeUtils.hasType(javaProject, JAKARTA_WS_RS_PATH_ANNOTATION);
 	}
 
 	@Override
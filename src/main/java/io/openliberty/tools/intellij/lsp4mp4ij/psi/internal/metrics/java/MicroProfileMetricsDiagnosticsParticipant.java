@@ -20,6 +20,7 @@ import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiMethod;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaFileFingerprint;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.PositionUtils;
@@ -54,7 +55,8 @@ public class MicroProfileMetricsDiagnosticsParticipant implements IJavaDiagnosti
 		// Collection of diagnostics for MicroProfile Metrics is done only if
 		// microprofile-metrics is on the classpath
 		Module javaProject = context.getJavaProject();
-		return PsiTypeUtils.findType(javaProject, METRIC_ID) != null;
+		return PsiTypeUtils.hasType(javaProject, METRIC_ID)
+				&& JavaFileFingerprint.getInstance(context.getTypeRoot()).hasAnyAnnotation(GAUGE_ANNOTATION);
 	}
 
 	@Override
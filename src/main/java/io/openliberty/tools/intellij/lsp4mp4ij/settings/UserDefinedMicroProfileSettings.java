@@ -99,6 +99,35 @@ public class UserDefinedMicroProfileSettings implements PersistentStateComponent
         myState.myUrlCodeLensEnabled = urlCodeLensEnabled;
     }
 
+    /**
+     * Returns the time budget in milliseconds of a Java diagnostics request, 0 if
+     * the request must wait for all the participants.
+     *
+     * @return the time budget in milliseconds of a Java diagnostics request.
+     */
+    public int getDiagnosticsTimeBudget() {
+        return myState.myDiagnosticsTimeBudget;
+    }
+
+    public void setDiagnosticsTimeBudget(int diagnosticsTimeBudget) {
+        myState.myDiagnosticsTimeBudget = diagnosticsTimeBudget;
+    }
+
+    /**
+     * Returns true if the Java diagnostics participants which are repeatedly slow
+     * are moved to a background pass and false otherwise.
+     *
+     * @return true if the slow Java diagnostics participants are throttled and
+     *         false otherwise.
+     */
+    public boolean isDiagnosticsThrottlingEnabled() {
+        return myState.myDiagnosticsThrottlingEnabled;
+    }
+
+    public void setDiagnosticsThrottlingEnabled(boolean diagnosticsThrottlingEnabled) {
+        myState.myDiagnosticsThrottlingEnabled = diagnosticsThrottlingEnabled;
+    }
+
     @Nullable
     @Override
     public MyState getState() {
@@ -177,6 +206,12 @@ public class UserDefinedMicroProfileSettings implements PersistentStateComponent
         @Tag("urlCodeLensEnabled")
         public boolean myUrlCodeLensEnabled = true;
 
+        @Tag("diagnosticsTimeBudget")
+        public int myDiagnosticsTimeBudget = 500;
+
+        @Tag("diagnosticsThrottlingEnabled")
+        public boolean myDiagnosticsThrottlingEnabled = true;
+
         MyState() {
         }
 
@@ -66,13 +66,17 @@ public class MicroProfileJavaConfigurable extends NamedConfigurable<UserDefinedM
         if (myView == null) return;
         UserDefinedMicroProfileSettings settings = UserDefinedMicroProfileSettings.getInstance(project);
         myView.setUrlCodeLensEnabled(settings.isUrlCodeLensEnabled());
+        myView.setDiagnosticsThrottlingEnabled(settings.isDiagnosticsThrottlingEnabled());
+        myView.setDiagnosticsTimeBudget(settings.getDiagnosticsTimeBudget());
     }
 
     @Override
     public boolean isModified() {
         if (myView == null) return false;
         UserDefinedMicroProfileSettings settings = UserDefinedMicroProfileSettings.getInstance(project);
-        return !(myView.isUrlCodeLensEnabled()== settings.isUrlCodeLensEnabled());
+        return !(myView.isUrlCodeLensEnabled()== settings.isUrlCodeLensEnabled()
+                && myView.isDiagnosticsThrottlingEnabled() == settings.isDiagnosticsThrottlingEnabled()
+                && myView.getDiagnosticsTimeBudget() == settings.getDiagnosticsTimeBudget());
     }
 
     @Override
@@ -80,6 +84,8 @@ public class MicroProfileJavaConfigurable extends NamedConfigurable<UserDefinedM
         if (myView == null) return;
         UserDefinedMicroProfileSettings settings = UserDefinedMicroProfileSettings.getInstance(project);
         settings.setUrlCodeLensEnabled(myView.isUrlCodeLensEnabled());
+        settings.setDiagnosticsThrottlingEnabled(myView.isDiagnosticsThrottlingEnabled());
+        settings.setDiagnosticsTimeBudget(myView.getDiagnosticsTimeBudget());
         settings.fireStateChanged();
     }
 }
@@ -15,11 +15,13 @@ package io.openliberty.tools.intellij.lsp4mp4ij.settings.java;
 
 import com.intellij.openapi.Disposable;
 import com.intellij.ui.IdeBorderFactory;
+import com.intellij.ui.JBIntSpinner;
 import com.intellij.ui.components.JBCheckBox;
 import com.intellij.util.ui.FormBuilder;
 import com.intellij.util.ui.JBUI;
 import com.intellij.util.ui.UI;
 import io.openliberty.tools.intellij.lsp4mp4ij.MicroProfileBundle;
+import io.openliberty.tools.intellij.util.LocalizedResourceUtil;
 
 import javax.swing.*;
 import javax.swing.border.TitledBorder;
@@ -33,6 +35,10 @@ public class MicroProfileJavaView implements Disposable {
 
     private JBCheckBox urlCodeLensEnabledCheckBox = new JBCheckBox(MicroProfileBundle.message("microprofile.java.codeLens.url.enabled"));
 
+    private JBCheckBox diagnosticsThrottlingEnabledCheckBox = new JBCheckBox(LocalizedResourceUtil.getMessage("diagnostics.throttling.enabled"));
+
+    private JBIntSpinner diagnosticsTimeBudgetSpinner = new JBIntSpinner(500, 0, 60000, 100);
+
     public MicroProfileJavaView() {
         JComponent descriptionPanel = createDescription(null);
         JPanel settingsPanel = createSettings(descriptionPanel);
@@ -47,6 +53,8 @@ public class MicroProfileJavaView implements Disposable {
         return FormBuilder.createFormBuilder()
                 .addComponent(description, 0)
                 .addComponent(urlCodeLensEnabledCheckBox, 5)
+                .addComponent(diagnosticsThrottlingEnabledCheckBox, 5)
+                .addLabeledComponent(LocalizedResourceUtil.getMessage("diagnostics.time.budget"), diagnosticsTimeBudgetSpinner, 5, false)
                 .addComponentFillVertically(new JPanel(), 0)
                 .getPanel();
     }
@@ -82,6 +90,22 @@ public class MicroProfileJavaView implements Disposable {
         urlCodeLensEnabledCheckBox.setSelected(inlayHint);
     }
 
+    public boolean isDiagnosticsThrottlingEnabled() {
+        return diagnosticsThrottlingEnabledCheckBox.isSelected();
+    }
+
+    public void setDiagnosticsThrottlingEnabled(boolean diagnosticsThrottlingEnabled) {
+        diagnosticsThrottlingEnabledCheckBox.setSelected(diagnosticsThrottlingEnabled);
+    }
+
+    public int getDiagnosticsTimeBudget() {
+        return diagnosticsTimeBudgetSpinner.getNumber();
+    }
+
+    public void setDiagnosticsTimeBudget(int diagnosticsTimeBudget) {
+        diagnosticsTimeBudgetSpinner.setNumber(diagnosticsTimeBudget);
+    }
+
     @Override
     public void dispose() {
 
@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.validation;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * SARIF 2.1.0 report of the Java diagnostics collected by
+ * {@link WorkspaceValidationStarter}.
+ *
+ * @see <a href="https://docs.oasis-open.org/sarif/sarif/v2.1.0/sarif-v2.1.0.html">SARIF 2.1.0</a>
+ */
+public class SarifReport {
+
+    private static final String SCHEMA = "https://json.schemastore.org/sarif-2.1.0.json";
+    private static final String VERSION = "2.1.0";
+    private static final String TOOL_NAME = "Liberty Tools for IntelliJ";
+    private static final String TOOL_INFORMATION_URI = "https://github.com/OpenLiberty/liberty-tools-intellij";
+    private static final String SRCROOT = "%SRCROOT%";
+
+    private final URI baseUri;
+
+    private final Set<String> ruleIds = new LinkedHashSet<>();
+
+    private final JsonArray results = new JsonArray();
+
+    private int errorCount;
+
+    /**
+     * Creates a report for the project located in the given directory. The
+     * locations of the results are relative to this directory.
+     *
+     * @param baseDir the project base directory.
+     */
+    public SarifReport(Path baseDir) {
+        this.baseUri = baseDir.toUri();
+    }
+
+    /**
+     * Adds the diagnostics of a Java file to the report.
+     *
+     * @param diagnostics the diagnostics of a Java file.
+     */
+    public void addDiagnostics(PublishDiagnosticsParams diagnostics) {
+        for (Diagnostic diagnostic : diagnostics.getDiagnostics()) {
+            results.add(toResult(diagnostics.getUri(), diagnostic));
+            if (diagnostic.getSeverity() == null || diagnostic.getSeverity() == DiagnosticSeverity.Error) {
+                errorCount++;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of results with the error level.
+     *
+     * @return the number of results with the error level.
+     */
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * Returns the number of results.
+     *
+     * @return the number of results.
+     */
+    public int getResultCount() {
+        return results.size();
+    }
+
+    /**
+     * Writes the report in the given writer.
+     *
+     * @param writer the writer.
+     * @throws IOException if the report cannot be written.
+     */
+    public void write(Writer writer) throws IOException {
+        JsonObject driver = new JsonObject();
+        driver.addProperty("name", TOOL_NAME);
+        driver.addProperty("informationUri", TOOL_INFORMATION_URI);
+        JsonArray rules = new JsonArray();
+        for (String ruleId : ruleIds) {
+            JsonObject rule = new JsonObject();
+            rule.addProperty("id", ruleId);
+            rules.add(rule);
+        }
+        driver.add("rules", rules);
+        JsonObject tool = new JsonObject();
+        tool.add("driver", driver);
+
+        JsonObject srcRoot = new JsonObject();
+        srcRoot.addProperty("uri", baseUri.toString());
+        JsonObject originalUriBaseIds = new JsonObject();
+        originalUriBaseIds.add(SRCROOT, srcRoot);
+
+        JsonObject run = new JsonObject();
+        run.add("tool", tool);
+        run.add("originalUriBaseIds", originalUriBaseIds);
+        run.add("results", results);
+        JsonArray runs = new JsonArray();
+        runs.add(run);
+
+        JsonObject log = new JsonObject();
+        log.addProperty("$schema", SCHEMA);
+        log.addProperty("version", VERSION);
+        log.add("runs", runs);
+        new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create().toJson(log, writer);
+        writer.flush();
+    }
+
+    private JsonObject toResult(String uri, Diagnostic diagnostic) {
+        String ruleId = getRuleId(diagnostic);
+        ruleIds.add(ruleId);
+
+        JsonObject artifactLocation = new JsonObject();
+        // The URI stays absolute when the file is outside of the project base directory
+        URI relativeUri = baseUri.relativize(URI.create(uri));
+        artifactLocation.addProperty("uri", relativeUri.toString());
+        if (!relativeUri.isAbsolute()) {
+            artifactLocation.addProperty("uriBaseId", SRCROOT);
+        }
+        JsonObject physicalLocation = new JsonObject();
+        physicalLocation.add("artifactLocation", artifactLocation);
+        physicalLocation.add("region", toRegion(diagnostic));
+        JsonObject location = new JsonObject();
+        location.add("physicalLocation", physicalLocation);
+        JsonArray locations = new JsonArray();
+        locations.add(location);
+
+        JsonObject message = new JsonObject();
+        message.addProperty("text", diagnostic.getMessage() != null ? diagnostic.getMessage() : "");
+
+        JsonObject result = new JsonObject();
+        result.addProperty("ruleId", ruleId);
+        result.addProperty("level", toLevel(diagnostic.getSeverity()));
+        result.add("message", message);
+        result.add("locations", locations);
+        if (diagnostic.getSource() != null) {
+            JsonObject properties = new JsonObject();
+            properties.addProperty("source", diagnostic.getSource());
+            result.add("properties", properties);
+        }
+        return result;
+    }
+
+    private static JsonObject toRegion(Diagnostic diagnostic) {
+        // LSP positions are 0-based, SARIF regions are 1-based
+        Position start = diagnostic.getRange().getStart();
+        Position end = diagnostic.getRange().getEnd();
+        JsonObject region = new JsonObject();
+        region.addProperty("startLine", start.getLine() + 1);
+        region.addProperty("startColumn", start.getCharacter() + 1);
+        region.addProperty("endLine", end.getLine() + 1);
+        region.addProperty("endColumn", end.getCharacter() + 1);
+        return region;
+    }
+
+    private static String getRuleId(Diagnostic diagnostic) {
+        String source = diagnostic.getSource() != null ? diagnostic.getSource() : "java";
+        Either<String, Integer> code = diagnostic.getCode();
+        if (code == null) {
+            return source;
+        }
+        return source + "/" + (code.isLeft() ? code.getLeft() : String.valueOf(code.getRight()));
+    }
+
+    private static String toLevel(DiagnosticSeverity severity) {
+        if (severity == null) {
+            return "error";
+        }
+        return switch (severity) {
+            case Error -> "error";
+            case Warning -> "warning";
+            case Information, Hint -> "note";
+        };
+    }
+}
@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.validation;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.ide.impl.ProjectUtil;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ApplicationStarter;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.application.ex.ApplicationEx;
+import com.intellij.openapi.application.ex.ApplicationManagerEx;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.project.ProjectManager;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.FileTypeIndex;
+import com.intellij.psi.search.GlobalSearchScope;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.PropertiesManagerForJakarta;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.PropertiesManagerForJava;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsParams;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsSettings;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Headless application starter which collects the MicroProfile and Jakarta
+ * Java diagnostics of all the Java source files of a project and writes them
+ * in a SARIF report.
+ *
+ * <p>
+ * Usage: <code>idea libertyValidate &lt;project-path&gt; [--output &lt;report.sarif&gt;]</code>
+ * </p>
+ *
+ * <p>
+ * The files are validated with the diagnostics handlers used by the language
+ * clients, which process the files of each batch in parallel. The process exits
+ * with 0 when no error has been reported, 1 when errors have been reported and 2
+ * when the validation could not be done.
+ * </p>
+ */
+public class WorkspaceValidationStarter implements ApplicationStarter {
+
+    private static final Logger LOGGER = Logger.getInstance(WorkspaceValidationStarter.class);
+
+    private static final String USAGE = "Usage: libertyValidate <project-path> [--output <report.sarif>]";
+
+    private static final String OUTPUT_OPTION = "--output";
+
+    // Number of files given to the diagnostics handlers at once
+    private static final int BATCH_SIZE = 64;
+
+    private static final int EXIT_OK = 0;
+    private static final int EXIT_ERRORS = 1;
+    private static final int EXIT_FAILURE = 2;
+
+    @Override
+    public boolean isHeadless() {
+        return true;
+    }
+
+    @Override
+    public void main(@NotNull List<String> args) {
+        // The first argument is the command name
+        Path projectPath = null;
+        Path outputPath = null;
+        for (int i = 1; i < args.size(); i++) {
+            String arg = args.get(i);
+            if (OUTPUT_OPTION.equals(arg) && i + 1 < args.size()) {
+                outputPath = Path.of(args.get(++i)).toAbsolutePath();
+            } else if (projectPath == null && !arg.startsWith("--")) {
+                projectPath = Path.of(arg).toAbsolutePath().normalize();
+            } else {
+                projectPath = null;
+                break;
+            }
+        }
+        if (projectPath == null || !Files.isDirectory(projectPath)) {
+            System.err.println(USAGE);
+            exit(EXIT_FAILURE);
+            return;
+        }
+        Path project = projectPath;
+        Path output = outputPath;
+        // Opening the project and waiting for the indexes must not block the event dispatch thread
+        ApplicationManager.getApplication().executeOnPooledThread(() -> exit(validate(project, output)));
+    }
+
+    private static int validate(Path projectPath, Path outputPath) {
+        Project project = null;
+        try {
+            project = ProjectUtil.openOrImport(projectPath, null, false);
+            if (project == null) {
+                System.err.println("Cannot open the project " + projectPath);
+                return EXIT_FAILURE;
+            }
+            DumbService.getInstance(project).waitForSmartMode();
+
+            Project openedProject = project;
+            List<String> uris = ReadAction.compute(() -> getJavaFileUris(openedProject));
+            SarifReport report = new SarifReport(projectPath);
+            IPsiUtils utils = PsiUtilsLSImpl.getInstance(project);
+            long start = System.nanoTime();
+            for (int i = 0; i < uris.size(); i += BATCH_SIZE) {
+                List<String> batch = uris.subList(i, Math.min(i + BATCH_SIZE, uris.size()));
+                MicroProfileJavaDiagnosticsParams mpParams = new MicroProfileJavaDiagnosticsParams(batch,
+                        new MicroProfileJavaDiagnosticsSettings(Collections.emptyList()));
+                mpParams.setDocumentFormat(DocumentFormat.PlainText);
+                collect(() -> PropertiesManagerForJava.getInstance().diagnostics(mpParams, utils), report);
+                JakartaJavaDiagnosticsParams jakartaParams = new JakartaJavaDiagnosticsParams();
+                jakartaParams.setUris(batch);
+                collect(() -> PropertiesManagerForJakarta.getInstance().diagnostics(jakartaParams, utils), report);
+            }
+            LOGGER.info("Validated " + uris.size() + " Java files in "
+                    + (System.nanoTime() - start) / 1_000_000 + " ms");
+
+            if (outputPath != null) {
+                try (Writer writer = Files.newBufferedWriter(outputPath, StandardCharsets.UTF_8)) {
+                    report.write(writer);
+                }
+            } else {
+                report.write(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+            }
+            System.err.println(uris.size() + " Java files validated, " + report.getResultCount() + " diagnostics ("
+                    + report.getErrorCount() + " errors)");
+            return report.getErrorCount() > 0 ? EXIT_ERRORS : EXIT_OK;
+        } catch (IOException e) {
+            System.err.println("Cannot write the SARIF report: " + e.getMessage());
+            return EXIT_FAILURE;
+        } catch (Exception e) {
+            LOGGER.warn("Error while validating the project " + projectPath, e);
+            System.err.println("Error while validating the project " + projectPath + ": " + e.getMessage());
+            return EXIT_FAILURE;
+        } finally {
+            if (project != null) {
+                Project openedProject = project;
+                ApplicationManager.getApplication().invokeAndWait(
+                        () -> ProjectManager.getInstance().closeAndDispose(openedProject));
+            }
+        }
+    }
+
+    private static void collect(Supplier<List<PublishDiagnosticsParams>> diagnostics, SarifReport report) {
+        // The handlers process each file in its own non-blocking read action
+        for (PublishDiagnosticsParams fileDiagnostics : diagnostics.get()) {
+            if (fileDiagnostics != null) {
+                report.addDiagnostics(fileDiagnostics);
+            }
+        }
+    }
+
+    private static List<String> getJavaFileUris(Project project) {
+        ProjectFileIndex fileIndex = ProjectFileIndex.getInstance(project);
+        List<VirtualFile> files = new ArrayList<>();
+        for (VirtualFile file : FileTypeIndex.getFiles(JavaFileType.INSTANCE, GlobalSearchScope.projectScope(project))) {
+            if (fileIndex.isInSourceContent(file)) {
+                files.add(file);
+            }
+        }
+        files.sort(Comparator.comparing(VirtualFile::getPath));
+        List<String> uris = new ArrayList<>(files.size());
+        for (VirtualFile file : files) {
+            uris.add(VfsUtilCore.virtualToIoFile(file).toURI().toString());
+        }
+        return uris;
+    }
+
+    private static void exit(int exitCode) {
+        ApplicationManager.getApplication().invokeLater(() -> ApplicationManagerEx.getApplicationEx()
+                .exit(ApplicationEx.FORCE_EXIT | ApplicationEx.EXIT_CONFIRMED, exitCode));
+    }
+}
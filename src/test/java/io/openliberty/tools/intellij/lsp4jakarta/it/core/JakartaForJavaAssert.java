@@ -13,6 +13,14 @@
 *******************************************************************************/
 package io.openliberty.tools.intellij.lsp4jakarta.it.core;
 
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.PropertiesManagerForJakarta;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import org.eclipse.lsp4j.*;
@@ -21,7 +29,9 @@ import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsParams;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaCodeActionParams;
 import org.junit.Assert;
 
+import java.io.IOException;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
@@ -49,10 +59,21 @@ public class JakartaForJavaAssert {
 
     public static void assertJavaCodeAction(JakartaJavaCodeActionParams params, IPsiUtils utils, CodeAction... expected) {
         List<? extends CodeAction> actual = PropertiesManagerForJakarta.getInstance().getCodeAction(params, utils);
-        assertCodeActions(actual != null && actual.size() > 0 ? actual : Collections.emptyList(), expected);
+        String source = getText(params.getTextDocument().getUri(), utils);
+        assertCodeActions(actual != null && actual.size() > 0 ? actual : Collections.emptyList(), source, expected);
     }
 
     public static void assertCodeActions(List<? extends CodeAction> actual, CodeAction... expected) {
+        assertCodeActions(actual, null, expected);
+    }
+
+    /**
+     * Asserts the code actions. When the source text of the document is given,
+     * the text edits of each actual code action are applied to it and compared
+     * as one edit replacing the whole document, which is how the expected code
+     * actions are written.
+     */
+    public static void assertCodeActions(List<? extends CodeAction> actual, String source, CodeAction... expected) {
         actual.stream().forEach(ca -> {
             // we don't want to compare title, etc
             ca.setCommand(null);
@@ -73,6 +94,9 @@ public class JakartaForJavaAssert {
             ca.setTitle(replaceNewLineCharacters(ca.getTitle()));
             List<Either<TextDocumentEdit, ResourceOperation>> tdes = ca.getEdit().getDocumentChanges();
             for (Either<TextDocumentEdit, ResourceOperation> tde : tdes) {
+                if (source != null) {
+                    tde.getLeft().setEdits(List.of(toDocumentEdit(source, tde.getLeft().getEdits())));
+                }
                 List<TextEdit> tes = tde.getLeft().getEdits();
                 for (TextEdit te : tes) {
                     te.setNewText(replaceNewLineCharacters(te.getNewText()));
@@ -88,6 +112,70 @@ public class JakartaForJavaAssert {
         }
     }
 
+    // ------------------- Document utilities
+
+    /**
+     * Returns the URI of the given Java file of the jakarta-sample project.
+     *
+     * @param module the module of the jakarta-sample project.
+     * @param path   the path of the Java file, relative to the
+     *               io.openliberty.sample.jakarta package.
+     * @return the URI of the given Java file.
+     */
+    public static String getUri(Module module, String path) {
+        VirtualFile javaFile = LocalFileSystem.getInstance().refreshAndFindFileByPath(ModuleUtilCore.getModuleDirPath(module)
+                + "/src/main/java/io/openliberty/sample/jakarta/" + path);
+        return VfsUtilCore.virtualToIoFile(javaFile).toURI().toString();
+    }
+
+    /**
+     * Returns the content of the document of the given file.
+     */
+    public static String getText(String uri, IPsiUtils utils) {
+        try {
+            return ReadAction.compute(() -> {
+                VirtualFile file = utils.findFile(uri);
+                Document document = file != null ? FileDocumentManager.getInstance().getDocument(file) : null;
+                return document != null ? document.getText() : null;
+            });
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the edit which replaces the whole given source with the result of
+     * the given edits.
+     */
+    private static TextEdit toDocumentEdit(String source, List<TextEdit> edits) {
+        int lastLine = (int) source.chars().filter(c -> c == '\n').count();
+        return te(0, 0, lastLine, source.length() - (source.lastIndexOf('\n') + 1), apply(source, edits));
+    }
+
+    /**
+     * Returns the given text with the given edits applied.
+     */
+    public static String apply(String text, List<TextEdit> edits) {
+        // Apply the edits from the end of the document so that the offsets of the remaining edits are unchanged
+        List<TextEdit> sortedEdits = new ArrayList<>(edits);
+        sortedEdits.sort(Comparator.comparingInt((TextEdit te) -> toOffset(text, te.getRange().getStart()))
+                .reversed());
+        StringBuilder result = new StringBuilder(text);
+        for (TextEdit te : sortedEdits) {
+            result.replace(toOffset(text, te.getRange().getStart()), toOffset(text, te.getRange().getEnd()),
+                    te.getNewText());
+        }
+        return result.toString();
+    }
+
+    public static int toOffset(String text, Position position) {
+        int offset = 0;
+        for (int line = 0; line < position.getLine(); line++) {
+            offset = text.indexOf('\n', offset) + 1;
+        }
+        return offset + position.getCharacter();
+    }
+
     public static CodeAction ca(String uri, String title, Diagnostic d, TextEdit... te) {
         CodeAction codeAction = new CodeAction();
         codeAction.setTitle(title);
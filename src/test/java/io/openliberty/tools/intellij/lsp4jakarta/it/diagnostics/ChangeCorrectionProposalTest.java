@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package io.openliberty.tools.intellij.lsp4jakarta.it.diagnostics;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiFileFactory;
+import io.openliberty.tools.intellij.lsp4jakarta.it.core.BaseJakartaTest;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.corrections.proposal.Change;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.corrections.proposal.ChangeCorrectionProposal;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class ChangeCorrectionProposalTest extends BaseJakartaTest {
+
+    private static final String SOURCE = "package sample;\n" +
+            "\n" +
+            "public class Sample {\n" +
+            "    private   String   name;\n" +
+            "\n" +
+            "    public void   greet( ) { }\n" +
+            "}";
+
+    @Test
+    public void codeOutsideOfTheFixIsNotFormatted() {
+        String target = SOURCE.replace("    private   String   name;\n",
+                "    private   String   name;\n" +
+                "  private  int   count ;\n");
+
+        String formatted = reformatChangedLines(SOURCE, target);
+
+        // The added field is formatted, the badly formatted lines around it are left as is
+        assertEquals(SOURCE.replace("    private   String   name;\n",
+                "    private   String   name;\n" +
+                "    private int count;\n"), formatted);
+    }
+
+    @Test
+    public void linesAfterDeletedLinesAreNotFormatted() {
+        String target = SOURCE.replace("    private   String   name;\n\n", "");
+
+        String formatted = reformatChangedLines(SOURCE, target);
+
+        // Only the line before the deletion is formatted, the method which follows it is left as is
+        assertEquals(target, formatted);
+    }
+
+    private String reformatChangedLines(String source, String target) {
+        PsiFileFactory factory = PsiFileFactory.getInstance(getProject());
+        PsiFile sourceCU = factory.createFileFromText("Sample.java", JavaFileType.INSTANCE, source);
+        PsiFile workingCopy = factory.createFileFromText("Sample.java", JavaFileType.INSTANCE, target);
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> FormattingProposal.reformat(sourceCU, workingCopy));
+        return workingCopy.getText();
+    }
+
+    private static class FormattingProposal extends ChangeCorrectionProposal {
+
+        private FormattingProposal() {
+            super("", "", 0);
+        }
+
+        private static void reformat(PsiFile sourceCU, PsiFile workingCopy) {
+            reformatChangedLines(sourceCU, workingCopy);
+        }
+
+        @Override
+        public Change getChange() {
+            return null;
+        }
+    }
+}
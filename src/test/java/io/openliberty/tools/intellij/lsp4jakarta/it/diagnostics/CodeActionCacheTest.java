@@ -0,0 +1,243 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package io.openliberty.tools.intellij.lsp4jakarta.it.diagnostics;
+
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiDocumentManager;
+import io.openliberty.tools.intellij.lsp4jakarta.it.core.BaseJakartaTest;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.PropertiesManagerForJakarta;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsCache;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.PublishedJavaDiagnostics;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import org.eclipse.lsp4j.CodeAction;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.TextDocumentEdit;
+import org.eclipse.lsp4j.TextEdit;
+import org.eclipse.lsp4j.WorkspaceEdit;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaCodeActionParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsParams;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static io.openliberty.tools.intellij.lsp4jakarta.it.core.JakartaForJavaAssert.*;
+
+@RunWith(JUnit4.class)
+public class CodeActionCacheTest extends BaseJakartaTest {
+
+    @Test
+    public void codeActionsOfDiagnostics() throws Exception {
+        Module module = createMavenModule(new File("src/test/resources/projects/maven/jakarta-sample"));
+        IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
+        String uri = getUri(module, "di/GreetingServlet.java");
+        Diagnostic diagnostic = getDiagnostic(collectDiagnostics(uri, utils), "RemoveInjectForGeneric");
+        JakartaJavaCodeActionParams params = createCodeActionParams(uri, diagnostic);
+        params.setResolveSupported(true);
+
+        List<? extends CodeAction> codeActions = PropertiesManagerForJakarta.getInstance().getCodeAction(params, utils);
+        assertFalse(codeActions.isEmpty());
+
+        // The same request reuses the code actions computed for the diagnostic
+        List<? extends CodeAction> cachedCodeActions = PropertiesManagerForJakarta.getInstance().getCodeAction(params, utils);
+        assertEquals(codeActions.size(), cachedCodeActions.size());
+        for (int i = 0; i < codeActions.size(); i++) {
+            assertSame(codeActions.get(i), cachedCodeActions.get(i));
+        }
+
+        // A configuration change drops the cached code actions
+        JavaDiagnosticsCache.getInstance(getProject()).incrementConfigurationEpoch();
+        assertNotSame(codeActions.get(0), PropertiesManagerForJakarta.getInstance().getCodeAction(params, utils).get(0));
+
+        // The requests without resolve support are not cached
+        JakartaJavaCodeActionParams resolvedParams = createCodeActionParams(uri, diagnostic);
+        List<? extends CodeAction> resolvedCodeActions = PropertiesManagerForJakarta.getInstance().getCodeAction(resolvedParams, utils);
+        assertNotSame(resolvedCodeActions.get(0), PropertiesManagerForJakarta.getInstance().getCodeAction(resolvedParams, utils).get(0));
+    }
+
+    @Test
+    public void codeActionsOfChangedFile() throws Exception {
+        Module module = createMavenModule(new File("src/test/resources/projects/maven/jakarta-sample"));
+        IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
+        String uri = getUri(module, "di/GreetingServlet.java");
+        Diagnostic diagnostic = getDiagnostic(collectDiagnostics(uri, utils), "RemoveInjectForGeneric");
+        JakartaJavaCodeActionParams params = createCodeActionParams(uri, diagnostic);
+        params.setResolveSupported(true);
+
+        CodeAction codeAction = PropertiesManagerForJakarta.getInstance().getCodeAction(params, utils).get(0);
+
+        // Append a comment, the diagnostic doesn't move
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> {
+            Document document = getDocument(uri, utils);
+            document.insertString(document.getTextLength(), "\n// changed\n");
+            PsiDocumentManager.getInstance(getProject()).commitDocument(document);
+        });
+        assertNotSame(codeAction, PropertiesManagerForJakarta.getInstance().getCodeAction(params, utils).get(0));
+    }
+
+    @Test
+    public void resolvedCodeAction() throws Exception {
+        Module module = createMavenModule(new File("src/test/resources/projects/maven/jakarta-sample"));
+        IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
+        String uri = getUri(module, "di/GreetingServlet.java");
+        Diagnostic diagnostic = getDiagnostic(collectDiagnostics(uri, utils), "RemoveInjectForGeneric");
+        JakartaJavaCodeActionParams params = createCodeActionParams(uri, diagnostic);
+        params.setResolveSupported(true);
+        CodeAction unresolved = getCodeAction(PropertiesManagerForJakarta.getInstance().getCodeAction(params, utils), "Remove @Inject");
+        assertNull(unresolved.getEdit());
+
+        WorkspaceEdit edit = PropertiesManagerForJakarta.getInstance().resolveCodeAction(unresolved, utils).getEdit();
+        assertNotNull(edit);
+        WorkspaceEdit expected = copy(edit);
+
+        // The edit of the first resolve is modified by the client, the cached edit is unchanged
+        edit.getDocumentChanges().get(0).getLeft().getEdits().get(0).setNewText("modified");
+        unresolved.setEdit(null);
+        WorkspaceEdit cachedEdit = PropertiesManagerForJakarta.getInstance().resolveCodeAction(unresolved, utils).getEdit();
+        assertEquals(expected, cachedEdit);
+        assertNotSame(edit, cachedEdit);
+    }
+
+    @Test
+    public void fixAllInFile() throws Exception {
+        Module module = createMavenModule(new File("src/test/resources/projects/maven/jakarta-sample"));
+        IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
+        String uri = getUri(module, "di/GreetingServlet.java");
+
+        // The final field and the final method are both reported with the RemoveInjectOrFinal code
+        PublishDiagnosticsParams published = collectDiagnostics(uri, utils);
+        PropertiesManagerForJakarta.getInstance().precomputeQuickFixes(published, utils);
+
+        Diagnostic diagnostic = getDiagnostic(published, "RemoveInjectOrFinal");
+        JakartaJavaCodeActionParams params = createCodeActionParams(uri, diagnostic);
+        params.setResolveSupported(true);
+        List<? extends CodeAction> codeActions = PropertiesManagerForJakarta.getInstance().getCodeAction(params, utils);
+        for (CodeAction codeAction : codeActions) {
+            if (codeAction.getKind() != null && codeAction.getKind().startsWith("quickfix.fixAll.")) {
+                // The module and the project hold no other diagnostic than the file
+                assertEquals("quickfix.fixAll.file", codeAction.getKind());
+            }
+        }
+        CodeAction fixAll = getCodeAction(codeActions, "Remove @Inject (fix all in file)");
+
+        // The fix all removes @Inject from both members in one edit
+        String source = getText(uri, utils);
+        WorkspaceEdit edit = PropertiesManagerForJakarta.getInstance().resolveCodeAction(fixAll, utils).getEdit();
+        assertEquals(1, edit.getDocumentChanges().size());
+        String fixed = apply(source, edit.getDocumentChanges().get(0).getLeft().getEdits());
+        assertEquals(count(source, "@Inject\n") - 2, count(fixed, "@Inject\n"));
+        assertTrue(fixed.contains("    // d1: test code for @Inject fields cannot be final\n    private final Greeting greeting"));
+        assertTrue(fixed.contains("    // d2\n    public final void injectFinal()"));
+    }
+
+    @Test
+    public void fixAllOfCachedQuickFixes() throws Exception {
+        Module module = createMavenModule(new File("src/test/resources/projects/maven/jakarta-sample"));
+        IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
+        String uri = getUri(module, "di/GreetingServlet.java");
+
+        // Only one of the two RemoveInjectOrFinal diagnostics is published first
+        PublishDiagnosticsParams published = collectDiagnostics(uri, utils);
+        Diagnostic diagnostic = getDiagnostic(published, "RemoveInjectOrFinal");
+        PropertiesManagerForJakarta.getInstance().precomputeQuickFixes(
+                new PublishDiagnosticsParams(uri, Arrays.asList(diagnostic)), utils);
+
+        JakartaJavaCodeActionParams params = createCodeActionParams(uri, diagnostic);
+        params.setResolveSupported(true);
+        List<? extends CodeAction> codeActions = PropertiesManagerForJakarta.getInstance().getCodeAction(params, utils);
+        assertFalse(codeActions.stream().anyMatch(codeAction -> "Remove @Inject (fix all in file)".equals(codeAction.getTitle())));
+
+        // The cached quick fixes get their fix all code action once all the diagnostics are published
+        PublishedJavaDiagnostics.getInstance(getProject()).published("jakarta", published);
+        codeActions = PropertiesManagerForJakarta.getInstance().getCodeAction(params, utils);
+        getCodeAction(codeActions, "Remove @Inject (fix all in file)");
+    }
+
+    @Test
+    public void nonJavaDiagnosticsAreIgnored() throws Exception {
+        Module module = createMavenModule(new File("src/test/resources/projects/maven/jakarta-sample"));
+        IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
+        VirtualFile propertiesFile = LocalFileSystem.getInstance().refreshAndFindFileByPath(ModuleUtilCore.getModuleDirPath(module)
+                + "/src/main/liberty/config/bootstrap.properties");
+        String uri = VfsUtilCore.virtualToIoFile(propertiesFile).toURI().toString();
+
+        // The language server also publishes the diagnostics of its other documents
+        PropertiesManagerForJakarta.getInstance().precomputeQuickFixes(
+                new PublishDiagnosticsParams(uri, Arrays.asList(new Diagnostic(r(0, 0, 1), "message"))), utils);
+        assertTrue(PublishedJavaDiagnostics.getInstance(getProject()).getPublishedDiagnostics("jakarta").isEmpty());
+    }
+
+    private static PublishDiagnosticsParams collectDiagnostics(String uri, IPsiUtils utils) {
+        JakartaJavaDiagnosticsParams diagnosticsParams = new JakartaJavaDiagnosticsParams();
+        diagnosticsParams.setUris(Arrays.asList(uri));
+        return PropertiesManagerForJakarta.getInstance().diagnostics(diagnosticsParams, utils).get(0);
+    }
+
+    private static Diagnostic getDiagnostic(PublishDiagnosticsParams published, String code) {
+        return published.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getCode() != null && code.equals(diagnostic.getCode().getLeft()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static CodeAction getCodeAction(List<? extends CodeAction> codeActions, String title) {
+        return codeActions.stream()
+                .filter(codeAction -> title.equals(codeAction.getTitle()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static WorkspaceEdit copy(WorkspaceEdit edit) {
+        WorkspaceEdit copy = new WorkspaceEdit();
+        copy.setDocumentChanges(new ArrayList<>());
+        edit.getDocumentChanges().forEach(documentChange -> {
+            List<TextEdit> edits = new ArrayList<>();
+            documentChange.getLeft().getEdits().forEach(textEdit -> edits.add(new TextEdit(textEdit.getRange(), textEdit.getNewText())));
+            copy.getDocumentChanges().add(Either.forLeft(new TextDocumentEdit(documentChange.getLeft().getTextDocument(), edits)));
+        });
+        return copy;
+    }
+
+    private static Document getDocument(String uri, IPsiUtils utils) {
+        try {
+            VirtualFile file = utils.findFile(uri);
+            return FileDocumentManager.getInstance().getDocument(file);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static int count(String text, String substring) {
+        int count = 0;
+        for (int index = text.indexOf(substring); index != -1; index = text.indexOf(substring, index + 1)) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package io.openliberty.tools.intellij.lsp4jakarta.it.diagnostics;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import io.openliberty.tools.intellij.lsp4jakarta.it.core.BaseJakartaTest;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.JavaFileDeclarations;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import org.eclipse.lsp4j.Diagnostic;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+@RunWith(JUnit4.class)
+public class JavaFileDeclarationsTest extends BaseJakartaTest {
+
+    @Test
+    public void typeWithoutTriggerAnnotation() throws Exception {
+        JavaDiagnosticsContext context = createContext();
+
+        // Only the type annotated with @Path is given to the collector
+        RecordingCollector pathCollector = new RecordingCollector("jakarta.ws.rs.Path");
+        ReadAction.run(() -> pathCollector.collectDiagnostics(context));
+        assertEquals(Arrays.asList("TriggerAnnotations"), pathCollector.types);
+
+        // No type of the file declares @Entity, the file is skipped
+        RecordingCollector entityCollector = new RecordingCollector("jakarta.persistence.Entity");
+        ReadAction.run(() -> entityCollector.collectDiagnostics(context));
+        assertEquals(Collections.emptyList(), entityCollector.types);
+    }
+
+    @Test
+    public void typeWithSeveralCollectors() throws Exception {
+        JavaDiagnosticsContext context = createContext();
+
+        // The type annotated with @Path declares an @Inject field, both collectors process it
+        RecordingCollector pathCollector = new RecordingCollector("jakarta.ws.rs.Path");
+        RecordingCollector injectCollector = new RecordingCollector("jakarta.inject.Inject");
+        ReadAction.run(() -> {
+            pathCollector.collectDiagnostics(context);
+            JavaFileDeclarations declarations = JavaFileDeclarations.getInstance(context);
+            injectCollector.collectDiagnostics(context);
+            // The declarations of the file are walked once for all the collectors of the request
+            assertSame(declarations, JavaFileDeclarations.getInstance(context));
+        });
+        assertEquals(Arrays.asList("TriggerAnnotations"), pathCollector.types);
+        assertEquals(Arrays.asList("TriggerAnnotations"), injectCollector.types);
+    }
+
+    private JavaDiagnosticsContext createContext() throws Exception {
+        Module module = createMavenModule(new File("src/test/resources/projects/maven/jakarta-sample"));
+        IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
+
+        VirtualFile javaFile = LocalFileSystem.getInstance().refreshAndFindFileByPath(ModuleUtilCore.getModuleDirPath(module)
+                + "/src/main/java/io/openliberty/sample/jakarta/declarations/TriggerAnnotations.java");
+        String uri = VfsUtilCore.virtualToIoFile(javaFile).toURI().toString();
+        PsiFile typeRoot = ReadAction.compute(() -> utils.resolveCompilationUnit(uri));
+        return new JavaDiagnosticsContext(uri, typeRoot, utils, module, null, null);
+    }
+
+    /**
+     * Collector which records the types given to it.
+     */
+    private static class RecordingCollector extends AbstractDiagnosticsCollector {
+
+        private final String[] triggerAnnotations;
+
+        private final List<String> types = new ArrayList<>();
+
+        private RecordingCollector(String... triggerAnnotations) {
+            this.triggerAnnotations = triggerAnnotations;
+        }
+
+        @Override
+        protected String[] getTriggerAnnotations() {
+            return triggerAnnotations;
+        }
+
+        @Override
+        protected void collectDiagnostics(PsiClass type, PsiJavaFile unit, List<Diagnostic> diagnostics) {
+            types.add(type.getName());
+        }
+    }
+}
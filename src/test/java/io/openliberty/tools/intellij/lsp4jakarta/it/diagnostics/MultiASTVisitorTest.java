@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package io.openliberty.tools.intellij.lsp4jakarta.it.diagnostics;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.PsiTreeUtil;
+import io.openliberty.tools.intellij.lsp4jakarta.it.core.BaseJakartaTest;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.JavaASTValidator;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.validators.MultiASTVisitor;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@RunWith(JUnit4.class)
+public class MultiASTVisitorTest extends BaseJakartaTest {
+
+    @Test
+    public void declarationsOnly() throws Exception {
+        Module module = createMavenModule(new File("src/test/resources/projects/maven/jakarta-sample"));
+        IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
+
+        VirtualFile javaFile = LocalFileSystem.getInstance().refreshAndFindFileByPath(ModuleUtilCore.getModuleDirPath(module)
+                + "/src/main/java/io/openliberty/sample/jakarta/declarations/NestedClasses.java");
+        String uri = VfsUtilCore.virtualToIoFile(javaFile).toURI().toString();
+
+        RecordingValidator validator = new RecordingValidator();
+        ReadAction.run(() -> {
+            PsiFile typeRoot = utils.resolveCompilationUnit(uri);
+            typeRoot.accept(new MultiASTVisitor(List.of(validator)));
+        });
+
+        // The top-level and inner classes are validated, the local and anonymous classes are not
+        assertEquals(Arrays.asList("NestedClasses", "Inner"), validator.classes);
+        assertEquals(Arrays.asList("name", "innerName"), validator.annotatedFields);
+    }
+
+    /**
+     * Validator which records the visited classes and the fields of the visited
+     * annotations.
+     */
+    private static class RecordingValidator extends JavaASTValidator {
+
+        private final List<String> classes = new ArrayList<>();
+
+        private final List<String> annotatedFields = new ArrayList<>();
+
+        @Override
+        public void visitClass(PsiClass aClass) {
+            classes.add(aClass.getName());
+            super.visitClass(aClass);
+        }
+
+        @Override
+        public void visitAnnotation(PsiAnnotation annotation) {
+            PsiField field = PsiTreeUtil.getParentOfType(annotation, PsiField.class);
+            if (field != null) {
+                annotatedFields.add(field.getName());
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package io.openliberty.tools.intellij.lsp4jakarta.it.diagnostics;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.editor.EditorFactory;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiFileFactory;
+import io.openliberty.tools.intellij.lsp4jakarta.it.core.BaseJakartaTest;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.corrections.proposal.Change;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.TextEditConverter;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextEdit;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.List;
+
+import static io.openliberty.tools.intellij.lsp4jakarta.it.core.JakartaForJavaAssert.*;
+
+@RunWith(JUnit4.class)
+public class TextEditConverterTest extends BaseJakartaTest {
+
+    private static final String SOURCE = "package sample;\n" +
+            "\n" +
+            "@Deprecated\n" +
+            "public class Sample {\n" +
+            "    private String name;\n" +
+            "}";
+
+    @Test
+    public void annotationReplaced() {
+        String target = SOURCE.replace("@Deprecated", "@Singleton");
+
+        List<TextEdit> edits = convert(SOURCE, target);
+
+        // Only the annotation name is replaced
+        assertEquals(1, edits.size());
+        assertEquals(new Range(new Position(2, 1), new Position(2, 11)), edits.get(0).getRange());
+        assertEquals("Singleton", edits.get(0).getNewText());
+        assertEquals(target, apply(SOURCE, edits));
+    }
+
+    @Test
+    public void annotationDeleted() {
+        String target = SOURCE.replace("@Deprecated\n", "");
+
+        List<TextEdit> edits = convert(SOURCE, target);
+
+        assertFalse(edits.isEmpty());
+        for (TextEdit edit : edits) {
+            // The deletion is scoped to the annotation line
+            assertEquals("", edit.getNewText());
+            assertTrue(edit.getRange().getStart().getLine() >= 1);
+            assertTrue(edit.getRange().getEnd().getLine() <= 3);
+        }
+        assertEquals(target, apply(SOURCE, edits));
+    }
+
+    @Test
+    public void editAtEndOfFile() {
+        String target = SOURCE + "\n@Deprecated\nclass Other {\n}";
+
+        List<TextEdit> edits = convert(SOURCE, target);
+
+        assertFalse(edits.isEmpty());
+        for (TextEdit edit : edits) {
+            // The edits are scoped to the end of the document
+            assertTrue(edit.getRange().getStart().getLine() >= 5);
+        }
+        assertEquals(target, apply(SOURCE, edits));
+    }
+
+    private List<TextEdit> convert(String source, String target) {
+        return ReadAction.compute(() -> {
+            PsiFile unit = PsiFileFactory.getInstance(getProject()).createFileFromText("Sample.java", JavaFileType.INSTANCE, source);
+            Document sourceDocument = EditorFactory.getInstance().createDocument(source);
+            Document targetDocument = EditorFactory.getInstance().createDocument(target);
+            return new TextEditConverter(unit, new Change(sourceDocument, targetDocument), "file:///Sample.java",
+                    PsiUtilsLSImpl.getInstance(getProject())).convert();
+        });
+    }
+}
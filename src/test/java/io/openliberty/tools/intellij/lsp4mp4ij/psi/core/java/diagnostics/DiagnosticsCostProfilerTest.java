@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.module.Module;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.testFramework.PlatformTestUtil;
+import io.openliberty.tools.intellij.lsp4jakarta.it.core.BaseJakartaTest;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.PropertiesManagerForJava;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.restclient.java.MicroProfileRestClientDiagnosticsParticipant;
+import io.openliberty.tools.intellij.lsp4mp4ij.settings.UserDefinedMicroProfileSettings;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static io.openliberty.tools.intellij.lsp4jakarta.it.core.JakartaForJavaAssert.*;
+
+@RunWith(JUnit4.class)
+public class DiagnosticsCostProfilerTest extends BaseJakartaTest {
+
+    private static final String PARTICIPANT = "sample.SlowParticipant";
+
+    private static final String REST_CLIENT_PARTICIPANT = MicroProfileRestClientDiagnosticsParticipant.class.getName();
+
+    @Test
+    public void demotionAndPromotion() throws Exception {
+        createMavenModule(new File("src/test/resources/projects/maven/jakarta-sample"));
+        DiagnosticsCostProfiler profiler = DiagnosticsCostProfiler.getInstance(getProject());
+
+        // A cold start doesn't demote the participant
+        record(profiler, 4, 300);
+        assertFalse(profiler.isDemoted(PARTICIPANT));
+        record(profiler, 1, 300);
+        assertTrue(profiler.isDemoted(PARTICIPANT));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(300), profiler.getAverageCost(PARTICIPANT));
+
+        // The participant is promoted once its average cost falls under half of the threshold (125 ms)
+        record(profiler, 7, 0);
+        assertTrue(profiler.isDemoted(PARTICIPANT));
+        record(profiler, 1, 0);
+        assertFalse(profiler.isDemoted(PARTICIPANT));
+    }
+
+    @Test
+    public void throttlingDisabled() throws Exception {
+        createMavenModule(new File("src/test/resources/projects/maven/jakarta-sample"));
+        DiagnosticsCostProfiler profiler = DiagnosticsCostProfiler.getInstance(getProject());
+
+        record(profiler, 5, 300);
+        assertTrue(profiler.isDemoted(PARTICIPANT));
+        UserDefinedMicroProfileSettings.getInstance(getProject()).setDiagnosticsThrottlingEnabled(false);
+        assertFalse(profiler.isDemoted(PARTICIPANT));
+    }
+
+    @Test
+    public void partCosts() throws Exception {
+        createMavenModule(new File("src/test/resources/projects/maven/jakarta-sample"));
+        DiagnosticsCostProfiler profiler = DiagnosticsCostProfiler.getInstance(getProject());
+
+        profiler.recordPart(PARTICIPANT, "sample.Validator", 100);
+        profiler.recordPart(PARTICIPANT, "sample.Validator", 300);
+        assertEquals(200, profiler.getAveragePartCost(PARTICIPANT, "sample.Validator"));
+        assertEquals(0, profiler.getAveragePartCost(PARTICIPANT, "sample.Other"));
+        // The parts are never demoted on their own
+        assertFalse(profiler.isDemoted("sample.Validator"));
+    }
+
+    @Test
+    public void demotedParticipantKeepsItsLastDiagnostics() throws Exception {
+        Module module = createMavenModule(new File("src/test/resources/projects/maven/jakarta-sample"));
+        IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
+        String clientUri = getUri(module, "restclient/GreetingClient.java");
+        String serviceUri = getUri(module, "restclient/GreetingService.java");
+        MicroProfileJavaDiagnosticsParams diagnosticsParams = new MicroProfileJavaDiagnosticsParams();
+        diagnosticsParams.setUris(Arrays.asList(clientUri));
+
+        // Remove @RegisterRestClient from the interface so that the REST client participant reports the field
+        PsiJavaFile serviceFile = ReadAction.compute(() -> (PsiJavaFile) utils.resolveCompilationUnit(serviceUri));
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> {
+            PsiAnnotation annotation = serviceFile.getClasses()[0].getModifierList()
+                    .findAnnotation("org.eclipse.microprofile.rest.client.inject.RegisterRestClient");
+            annotation.delete();
+            PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+        });
+        Diagnostic d = d(9, 20, 27,
+                "The corresponding io.openliberty.sample.jakarta.restclient.GreetingService interface does not have the @RegisterRestClient annotation. The field service will not be injected as a CDI bean.",
+                DiagnosticSeverity.Warning, "microprofile-restclient", null);
+        assertDiagnostics(PropertiesManagerForJava.getInstance().diagnostics(diagnosticsParams, utils).get(0).getDiagnostics(), d);
+
+        // The REST client participant is repeatedly slow
+        DiagnosticsCostProfiler profiler = DiagnosticsCostProfiler.getInstance(getProject());
+        for (int i = 0; i < 5; i++) {
+            profiler.record(REST_CLIENT_PARTICIPANT, TimeUnit.SECONDS.toNanos(1));
+        }
+        assertTrue(profiler.isDemoted(REST_CLIENT_PARTICIPANT));
+
+        // Change the client file without moving the field
+        PsiJavaFile clientFile = ReadAction.compute(() -> (PsiJavaFile) utils.resolveCompilationUnit(clientUri));
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> {
+            Document document = PsiDocumentManager.getInstance(getProject()).getDocument(clientFile);
+            document.insertString(document.getTextLength(), "\n// changed\n");
+            PsiDocumentManager.getInstance(getProject()).commitDocument(document);
+        });
+
+        // The response doesn't wait for the demoted participant and holds its last diagnostics
+        CompletableFuture<PublishDiagnosticsParams> completed = new CompletableFuture<>();
+        List<PublishDiagnosticsParams> response = PropertiesManagerForJava.getInstance()
+                .diagnostics(diagnosticsParams, utils, completed::complete);
+        assertDiagnostics(response.get(0).getDiagnostics(), d);
+
+        // The demoted participant finishes in the background pass
+        PlatformTestUtil.waitWithEventsDispatching("The background pass didn't complete", completed::isDone, 10);
+        assertDiagnostics(completed.get().getDiagnostics(), d);
+    }
+
+    private static void record(DiagnosticsCostProfiler profiler, int runs, long costInMillis) {
+        for (int i = 0; i < runs; i++) {
+            profiler.record(PARTICIPANT, TimeUnit.MILLISECONDS.toNanos(costInMillis));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.testFramework.PlatformTestUtil;
+import io.openliberty.tools.intellij.lsp4jakarta.it.core.BaseJakartaTest;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.PropertiesManagerForJava;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.restclient.java.MicroProfileRestClientDiagnosticsParticipant;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static io.openliberty.tools.intellij.lsp4jakarta.it.core.JakartaForJavaAssert.*;
+
+@RunWith(JUnit4.class)
+public class DiagnosticsTimeBudgetTest extends BaseJakartaTest {
+
+    private static final String REST_CLIENT_PARTICIPANT = MicroProfileRestClientDiagnosticsParticipant.class.getName();
+
+    @Test
+    public void participantOverBudgetIsDeferred() throws Exception {
+        Module module = createMavenModule(new File("src/test/resources/projects/maven/jakarta-sample"));
+        IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
+        String clientUri = getUri(module, "restclient/GreetingClient.java");
+        String serviceUri = getUri(module, "restclient/GreetingService.java");
+        MicroProfileJavaDiagnosticsParams diagnosticsParams = new MicroProfileJavaDiagnosticsParams();
+        diagnosticsParams.setUris(Arrays.asList(clientUri));
+
+        // Remove @RegisterRestClient from the interface so that the REST client participant reports the field
+        PsiJavaFile serviceFile = ReadAction.compute(() -> (PsiJavaFile) utils.resolveCompilationUnit(serviceUri));
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> {
+            PsiAnnotation annotation = serviceFile.getClasses()[0].getModifierList()
+                    .findAnnotation("org.eclipse.microprofile.rest.client.inject.RegisterRestClient");
+            annotation.delete();
+            PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+        });
+        Diagnostic d = d(9, 20, 27,
+                "The corresponding io.openliberty.sample.jakarta.restclient.GreetingService interface does not have the @RegisterRestClient annotation. The field service will not be injected as a CDI bean.",
+                DiagnosticSeverity.Warning, "microprofile-restclient", null);
+
+        // The average cost of the REST client participant exceeds the time budget of the request (500 ms)
+        DiagnosticsCostProfiler.getInstance(getProject()).record(REST_CLIENT_PARTICIPANT, TimeUnit.SECONDS.toNanos(10));
+
+        CompletableFuture<PublishDiagnosticsParams> completed = new CompletableFuture<>();
+        List<PublishDiagnosticsParams> response = PropertiesManagerForJava.getInstance()
+                .diagnostics(diagnosticsParams, utils, completed::complete);
+
+        // The response holds the diagnostics collected within the budget
+        assertDiagnostics(response.get(0).getDiagnostics());
+
+        // The complete diagnostics are published once the deferred participant has finished
+        PlatformTestUtil.waitWithEventsDispatching("The deferred participant didn't complete", completed::isDone, 10);
+        assertDiagnostics(completed.get().getDiagnostics(), d);
+        // The partial diagnostics of the response must not replace the complete diagnostics
+        assertTrue(PropertiesManagerForJava.getInstance().isSupersededDiagnostics(response.get(0), utils));
+
+        // A request which collects all the diagnostics is published as is
+        List<PublishDiagnosticsParams> cached = PropertiesManagerForJava.getInstance()
+                .diagnostics(diagnosticsParams, utils, completed::complete);
+        assertDiagnostics(cached.get(0).getDiagnostics(), d);
+        assertFalse(PropertiesManagerForJava.getInstance().isSupersededDiagnostics(response.get(0), utils));
+    }
+
+    @Test
+    public void noBudgetWithoutPublisher() throws Exception {
+        Module module = createMavenModule(new File("src/test/resources/projects/maven/jakarta-sample"));
+        IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
+        String clientUri = getUri(module, "restclient/GreetingClient.java");
+        String serviceUri = getUri(module, "restclient/GreetingService.java");
+        MicroProfileJavaDiagnosticsParams diagnosticsParams = new MicroProfileJavaDiagnosticsParams();
+        diagnosticsParams.setUris(Arrays.asList(clientUri));
+
+        PsiJavaFile serviceFile = ReadAction.compute(() -> (PsiJavaFile) utils.resolveCompilationUnit(serviceUri));
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> {
+            PsiAnnotation annotation = serviceFile.getClasses()[0].getModifierList()
+                    .findAnnotation("org.eclipse.microprofile.rest.client.inject.RegisterRestClient");
+            annotation.delete();
+            PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+        });
+        Diagnostic d = d(9, 20, 27,
+                "The corresponding io.openliberty.sample.jakarta.restclient.GreetingService interface does not have the @RegisterRestClient annotation. The field service will not be injected as a CDI bean.",
+                DiagnosticSeverity.Warning, "microprofile-restclient", null);
+        DiagnosticsCostProfiler.getInstance(getProject()).record(REST_CLIENT_PARTICIPANT, TimeUnit.SECONDS.toNanos(10));
+
+        // The requests which nothing publishes later (ex : fix all) wait for all the participants
+        assertDiagnostics(PropertiesManagerForJava.getInstance().diagnostics(diagnosticsParams, utils).get(0).getDiagnostics(), d);
+    }
+}
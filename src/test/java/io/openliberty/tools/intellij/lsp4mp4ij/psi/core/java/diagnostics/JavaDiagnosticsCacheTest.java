@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import io.openliberty.tools.intellij.lsp4jakarta.it.core.BaseJakartaTest;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.PropertiesManagerForJava;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import io.openliberty.tools.intellij.lsp4mp4ij.settings.UserDefinedMicroProfileSettings;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static io.openliberty.tools.intellij.lsp4jakarta.it.core.JakartaForJavaAssert.*;
+
+@RunWith(JUnit4.class)
+public class JavaDiagnosticsCacheTest extends BaseJakartaTest {
+
+    @Test
+    public void referencedTypeChange() throws Exception {
+        Module module = createMavenModule(new File("src/test/resources/projects/maven/jakarta-sample"));
+        IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
+
+        String clientUri = getUri(module, "restclient/GreetingClient.java");
+        String serviceUri = getUri(module, "restclient/GreetingService.java");
+
+        MicroProfileJavaDiagnosticsParams diagnosticsParams = new MicroProfileJavaDiagnosticsParams();
+        diagnosticsParams.setUris(Arrays.asList(clientUri));
+
+        // The REST client interface is registered, the injected field is valid
+        assertDiagnostics(collectDiagnostics(diagnosticsParams, utils));
+
+        // Remove @RegisterRestClient from the interface, the client file itself is unchanged
+        PsiJavaFile serviceFile = ReadAction.compute(() -> (PsiJavaFile) utils.resolveCompilationUnit(serviceUri));
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> {
+            PsiAnnotation annotation = serviceFile.getClasses()[0].getModifierList()
+                    .findAnnotation("org.eclipse.microprofile.rest.client.inject.RegisterRestClient");
+            annotation.delete();
+            PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+        });
+
+        Diagnostic d = d(9, 20, 27,
+                "The corresponding io.openliberty.sample.jakarta.restclient.GreetingService interface does not have the @RegisterRestClient annotation. The field service will not be injected as a CDI bean.",
+                DiagnosticSeverity.Warning, "microprofile-restclient", null);
+        assertDiagnostics(collectDiagnostics(diagnosticsParams, utils), d);
+    }
+
+    @Test
+    public void unrelatedFileChange() throws Exception {
+        Module module = createMavenModule(new File("src/test/resources/projects/maven/jakarta-sample"));
+        IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
+
+        PsiFile clientFile = ReadAction.compute(() -> utils.resolveCompilationUnit(getUri(module, "restclient/GreetingClient.java")));
+        PsiFile serviceFile = ReadAction.compute(() -> utils.resolveCompilationUnit(getUri(module, "restclient/GreetingService.java")));
+        PsiFile servletFile = ReadAction.compute(() -> utils.resolveCompilationUnit(getUri(module, "di/GreetingServlet.java")));
+        JavaFileDependencies dependencies = ReadAction.compute(() -> JavaFileDependencies.of(clientFile));
+
+        // The client doesn't reference the servlet
+        edit(servletFile);
+        assertTrue(ReadAction.compute(() -> dependencies.isUpToDate(getProject())));
+
+        // The client injects the REST client interface
+        edit(serviceFile);
+        assertFalse(ReadAction.compute(() -> dependencies.isUpToDate(getProject())));
+    }
+
+    @Test
+    public void configurationChange() throws Exception {
+        createMavenModule(new File("src/test/resources/projects/maven/jakarta-sample"));
+        JavaDiagnosticsCache cache = JavaDiagnosticsCache.getInstance(getProject());
+        List<Diagnostic> diagnostics = Collections.singletonList(new Diagnostic(r(0, 0, 1), "message"));
+
+        long epoch = cache.getConfigurationEpoch();
+        cache.put("mp", "file:///A.java", 1, JavaFileDependencies.NONE, epoch, "settings", diagnostics);
+        assertEquals(diagnostics, cache.get("mp", "file:///A.java", 1, "settings"));
+        // The file or the request settings changed
+        assertNull(cache.get("mp", "file:///A.java", 2, "settings"));
+        assertNull(cache.get("mp", "file:///A.java", 1, "other settings"));
+
+        // The MicroProfile settings changed
+        UserDefinedMicroProfileSettings.getInstance(getProject()).fireStateChanged();
+        assertTrue(cache.getConfigurationEpoch() > epoch);
+        assertNull(cache.get("mp", "file:///A.java", 1, "settings"));
+
+        // Diagnostics computed with the previous configuration are not cached
+        assertFalse(cache.isUpToDate("file:///A.java", epoch));
+        cache.put("mp", "file:///A.java", 1, JavaFileDependencies.NONE, epoch, "settings", diagnostics);
+        assertNull(cache.get("mp", "file:///A.java", 1, "settings"));
+    }
+
+    @Test
+    public void fileEviction() throws Exception {
+        createMavenModule(new File("src/test/resources/projects/maven/jakarta-sample"));
+        JavaDiagnosticsCache cache = JavaDiagnosticsCache.getInstance(getProject());
+        List<Diagnostic> diagnostics = Collections.singletonList(new Diagnostic(r(0, 0, 1), "message"));
+
+        long epoch = cache.getConfigurationEpoch();
+        cache.put("mp", "file:///A.java", 1, JavaFileDependencies.NONE, epoch, "settings", diagnostics);
+        cache.put("mp", "file:///B.java", 1, JavaFileDependencies.NONE, epoch, "settings", diagnostics);
+        cache.putParticipantDiagnostics("mp", "file:///A.java", "participant", diagnostics);
+
+        // A config property injected in A.java changed
+        cache.evict(Collections.singletonList("file:///A.java"));
+        assertNull(cache.get("mp", "file:///A.java", 1, "settings"));
+        assertEquals(Collections.emptyList(), cache.getLastParticipantDiagnostics("mp", "file:///A.java", "participant"));
+        assertFalse(cache.isUpToDate("file:///A.java", epoch));
+
+        // The other files are unchanged
+        assertEquals(diagnostics, cache.get("mp", "file:///B.java", 1, "settings"));
+        assertTrue(cache.isUpToDate("file:///B.java", epoch));
+    }
+
+    private void edit(PsiFile file) {
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> {
+            PsiDocumentManager documentManager = PsiDocumentManager.getInstance(getProject());
+            documentManager.getDocument(file).insertString(0, "// edited\n");
+            documentManager.commitAllDocuments();
+        });
+    }
+
+    private static List<Diagnostic> collectDiagnostics(MicroProfileJavaDiagnosticsParams params, IPsiUtils utils) {
+        List<PublishDiagnosticsParams> actual = PropertiesManagerForJava.getInstance().diagnostics(params, utils);
+        return actual.get(0).getDiagnostics();
+    }
+}
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(JUnit4.class)
+public class PrefixTrieTest {
+
+    @Test
+    public void getByPrefix() {
+        PrefixTrie<String> trie = createTrie();
+
+        assertEquals(Arrays.asList("greeting.message", "greeting.name"), trie.getByPrefix("greeting."));
+        assertEquals(Arrays.asList("greeting.message"), trie.getByPrefix("greeting.m"));
+        assertEquals(Collections.emptyList(), trie.getByPrefix("unknown"));
+    }
+
+    @Test
+    public void getByPrefixInKeyOrder() {
+        PrefixTrie<String> trie = createTrie();
+
+        // The values are returned in the order of their keys, not in the insertion order
+        assertEquals(Arrays.asList("greeting", "greeting.message", "greeting.name", "mp.config", "mp.config.ordinal"),
+                trie.getByPrefix(""));
+    }
+
+    @Test
+    public void get() {
+        PrefixTrie<String> trie = createTrie();
+        trie.put("greeting", "greeting (other)");
+
+        // The values of the same key are kept in the insertion order
+        assertEquals(Arrays.asList("greeting", "greeting (other)"), trie.get("greeting"));
+        assertEquals(Collections.emptyList(), trie.get("greeting."));
+        assertEquals(Collections.emptyList(), trie.get("unknown"));
+    }
+
+    private static PrefixTrie<String> createTrie() {
+        PrefixTrie<String> trie = new PrefixTrie<>();
+        for (String key : Arrays.asList("mp.config.ordinal", "greeting.name", "mp.config", "greeting", "greeting.message")) {
+            trie.put(key, key);
+        }
+        return trie;
+    }
+}
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.config.java;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import io.openliberty.tools.intellij.lsp4jakarta.it.core.BaseJakartaTest;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.PropertiesManagerForJava;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.MicroProfilePropertiesIndex;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.CompletionItemKind;
+import org.eclipse.lsp4j.CompletionList;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaCompletionParams;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RunWith(JUnit4.class)
+public class MicroProfileConfigCompletionTest extends BaseJakartaTest {
+
+    private static final String TIME_UNIT = "java.util.concurrent.TimeUnit";
+
+    @Test
+    public void sourcesOnlyUpdate() throws Exception {
+        Module module = createMavenModule(new File("src/test/resources/projects/maven/jakarta-sample"));
+        MicroProfilePropertiesIndex index = MicroProfilePropertiesIndex.getInstance(getProject());
+
+        index.update(module, createInfo(property("greeting.message", true, null), property("mp.metrics.tags", false, null)), false);
+        assertEquals(Arrays.asList("greeting.message", "mp.metrics.tags"), getNames(index, module, ""));
+
+        // A sources-only update replaces the source properties and keeps the properties of the dependencies
+        index.update(module, createInfo(property("greeting.name", true, null)), true);
+        assertEquals(Arrays.asList("greeting.name", "mp.metrics.tags"), getNames(index, module, ""));
+        assertNull(index.getProperty(module, "greeting.message"));
+        assertNotNull(index.getProperty(module, "mp.metrics.tags"));
+    }
+
+    @Test
+    public void completeNameAndDefaultValue() throws Exception {
+        Module module = createMavenModule(new File("src/test/resources/projects/maven/jakarta-sample"));
+        IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
+
+        MicroProfileProjectInfo info = createInfo(property("greeting.message", true, "java.lang.String"),
+                property("greeting.timeout.unit", true, TIME_UNIT), property("mp.metrics.tags", false, "java.lang.String"));
+        ItemHint hint = new ItemHint();
+        hint.setName(TIME_UNIT);
+        hint.setValues(Arrays.asList(value("SECONDS"), value("MINUTES")));
+        info.setHints(Collections.singletonList(hint));
+        MicroProfilePropertiesIndex.getInstance(getProject()).update(module, info, false);
+
+        VirtualFile javaFile = LocalFileSystem.getInstance().refreshAndFindFileByPath(ModuleUtilCore.getModuleDirPath(module)
+                + "/src/main/java/io/openliberty/sample/jakarta/config/ConfigCompletion.java");
+        String uri = VfsUtilCore.virtualToIoFile(javaFile).toURI().toString();
+
+        // @ConfigProperty(name = "greeting.|")
+        List<CompletionItem> names = complete(uri, new Position(9, 37), CompletionItemKind.Property, utils);
+        assertEquals(Arrays.asList("greeting.message", "greeting.timeout.unit"),
+                names.stream().map(CompletionItem::getLabel).collect(Collectors.toList()));
+        assertEquals(new Range(new Position(9, 28), new Position(9, 37)), names.get(0).getTextEdit().getLeft().getRange());
+
+        // @ConfigProperty(name = "greeting.timeout.unit", defaultValue = "SE|")
+        List<CompletionItem> values = complete(uri, new Position(13, 70), CompletionItemKind.Value, utils);
+        assertEquals(Arrays.asList("SECONDS"), values.stream().map(CompletionItem::getLabel).collect(Collectors.toList()));
+        assertEquals(new Range(new Position(13, 68), new Position(13, 70)), values.get(0).getTextEdit().getLeft().getRange());
+    }
+
+    private static List<CompletionItem> complete(String uri, Position position, CompletionItemKind kind, IPsiUtils utils) {
+        CompletionList list = PropertiesManagerForJava.getInstance().completion(new MicroProfileJavaCompletionParams(uri, position), utils);
+        assertNotNull(list);
+        return list.getItems().stream()
+                .filter(item -> item.getKind() == kind)
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> getNames(MicroProfilePropertiesIndex index, Module module, String prefix) {
+        return index.getProperties(module, prefix).stream().map(ItemMetadata::getName).collect(Collectors.toList());
+    }
+
+    private static MicroProfileProjectInfo createInfo(ItemMetadata... properties) {
+        MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+        info.setProperties(Arrays.asList(properties));
+        return info;
+    }
+
+    private static ItemMetadata property(String name, boolean source, String type) {
+        ItemMetadata property = new ItemMetadata();
+        property.setName(name);
+        property.setSource(source);
+        property.setType(type);
+        return property;
+    }
+
+    private static ValueHint value(String value) {
+        ValueHint hint = new ValueHint();
+        hint.setValue(value);
+        return hint;
+    }
+}
@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2025 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package io.openliberty.tools.intellij.lsp4mp4ij.validation;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.Range;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+@RunWith(JUnit4.class)
+public class SarifReportTest {
+
+    private static final Path BASE_DIR = Paths.get("/work/sample").toAbsolutePath();
+
+    @Test
+    public void ruleIds() throws IOException {
+        Diagnostic withCode = diagnostic(DiagnosticSeverity.Warning, "jakarta-cdi", "InvalidInjectAnnotation");
+        Diagnostic withIntegerCode = diagnostic(DiagnosticSeverity.Warning, "jakarta-cdi", null);
+        withIntegerCode.setCode(3);
+        Diagnostic withoutCode = diagnostic(DiagnosticSeverity.Warning, "microprofile-config", null);
+        Diagnostic withoutSource = diagnostic(DiagnosticSeverity.Warning, null, null);
+
+        JsonObject run = write(uri("src/Sample.java"), withCode, withIntegerCode, withoutCode, withoutSource);
+
+        JsonArray results = run.getAsJsonArray("results");
+        assertEquals("jakarta-cdi/InvalidInjectAnnotation", results.get(0).getAsJsonObject().get("ruleId").getAsString());
+        assertEquals("jakarta-cdi/3", results.get(1).getAsJsonObject().get("ruleId").getAsString());
+        assertEquals("microprofile-config", results.get(2).getAsJsonObject().get("ruleId").getAsString());
+        assertEquals("java", results.get(3).getAsJsonObject().get("ruleId").getAsString());
+
+        JsonArray rules = run.getAsJsonObject("tool").getAsJsonObject("driver").getAsJsonArray("rules");
+        assertEquals(4, rules.size());
+        assertEquals("jakarta-cdi/InvalidInjectAnnotation", rules.get(0).getAsJsonObject().get("id").getAsString());
+    }
+
+    @Test
+    public void regionIsOneBased() throws IOException {
+        Diagnostic diagnostic = diagnostic(DiagnosticSeverity.Error, "jakarta-cdi", null);
+        diagnostic.setRange(new Range(new Position(0, 0), new Position(2, 7)));
+
+        JsonObject region = getPhysicalLocation(write(uri("src/Sample.java"), diagnostic)).getAsJsonObject("region");
+        assertEquals(1, region.get("startLine").getAsInt());
+        assertEquals(1, region.get("startColumn").getAsInt());
+        assertEquals(3, region.get("endLine").getAsInt());
+        assertEquals(8, region.get("endColumn").getAsInt());
+    }
+
+    @Test
+    public void levels() throws IOException {
+        SarifReport report = new SarifReport(BASE_DIR);
+        report.addDiagnostics(new PublishDiagnosticsParams(uri("src/Sample.java"), Arrays.asList(
+                diagnostic(null, "jakarta-cdi", null),
+                diagnostic(DiagnosticSeverity.Error, "jakarta-cdi", null),
+                diagnostic(DiagnosticSeverity.Warning, "jakarta-cdi", null),
+                diagnostic(DiagnosticSeverity.Information, "jakarta-cdi", null),
+                diagnostic(DiagnosticSeverity.Hint, "jakarta-cdi", null))));
+
+        // A diagnostic without severity is reported as an error
+        assertEquals(2, report.getErrorCount());
+        assertEquals(5, report.getResultCount());
+        JsonArray results = getRun(report).getAsJsonArray("results");
+        assertEquals("error", results.get(0).getAsJsonObject().get("level").getAsString());
+        assertEquals("error", results.get(1).getAsJsonObject().get("level").getAsString());
+        assertEquals("warning", results.get(2).getAsJsonObject().get("level").getAsString());
+        assertEquals("note", results.get(3).getAsJsonObject().get("level").getAsString());
+        assertEquals("note", results.get(4).getAsJsonObject().get("level").getAsString());
+    }
+
+    @Test
+    public void relativeArtifactUri() throws IOException {
+        Diagnostic diagnostic = diagnostic(DiagnosticSeverity.Error, "jakarta-cdi", null);
+
+        JsonObject run = write(uri("src/main/java/Sample.java"), diagnostic);
+        JsonObject artifactLocation = getPhysicalLocation(run).getAsJsonObject("artifactLocation");
+        assertEquals("src/main/java/Sample.java", artifactLocation.get("uri").getAsString());
+        assertEquals("%SRCROOT%", artifactLocation.get("uriBaseId").getAsString());
+        assertEquals(BASE_DIR.toUri().toString(),
+                run.getAsJsonObject("originalUriBaseIds").getAsJsonObject("%SRCROOT%").get("uri").getAsString());
+    }
+
+    @Test
+    public void absoluteArtifactUri() throws IOException {
+        Diagnostic diagnostic = diagnostic(DiagnosticSeverity.Error, "jakarta-cdi", null);
+        String uri = Paths.get("/work/other/Sample.java").toAbsolutePath().toUri().toString();
+
+        // The file is outside of the project base directory
+        JsonObject artifactLocation = getPhysicalLocation(write(uri, diagnostic)).getAsJsonObject("artifactLocation");
+        assertEquals(uri, artifactLocation.get("uri").getAsString());
+        assertFalse(artifactLocation.has("uriBaseId"));
+    }
+
+    @Test
+    public void noSource() throws IOException {
+        JsonObject result = write(uri("src/Sample.java"), diagnostic(DiagnosticSeverity.Error, null, null))
+                .getAsJsonArray("results").get(0).getAsJsonObject();
+        assertNull(result.get("properties"));
+    }
+
+    private static JsonObject write(String uri, Diagnostic... diagnostics) throws IOException {
+        SarifReport report = new SarifReport(BASE_DIR);
+        report.addDiagnostics(new PublishDiagnosticsParams(uri, Arrays.asList(diagnostics)));
+        return getRun(report);
+    }
+
+    private static JsonObject getRun(SarifReport report) throws IOException {
+        StringWriter writer = new StringWriter();
+        report.write(writer);
+        JsonObject log = JsonParser.parseString(writer.toString()).getAsJsonObject();
+        assertEquals("2.1.0", log.get("version").getAsString());
+        return log.getAsJsonArray("runs").get(0).getAsJsonObject();
+    }
+
+    private static JsonObject getPhysicalLocation(JsonObject run) {
+        return run.getAsJsonArray("results").get(0).getAsJsonObject()
+                .getAsJsonArray("locations").get(0).getAsJsonObject()
+                .getAsJsonObject("physicalLocation");
+    }
+
+    private static String uri(String path) {
+        return BASE_DIR.resolve(path).toUri().toString();
+    }
+
+    private static Diagnostic diagnostic(DiagnosticSeverity severity, String source, String code) {
+        Diagnostic diagnostic = new Diagnostic(new Range(new Position(1, 4), new Position(1, 10)), "message");
+        diagnostic.setSeverity(severity);
+        diagnostic.setSource(source);
+        if (code != null) {
+            diagnostic.setCode(code);
+        }
+        return diagnostic;
+    }
+}
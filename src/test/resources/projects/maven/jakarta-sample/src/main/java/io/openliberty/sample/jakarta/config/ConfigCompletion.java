@@ -0,0 +1,16 @@
+package io.openliberty.sample.jakarta.config;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import jakarta.inject.Inject;
+
+public class ConfigCompletion {
+
+    @Inject
+    @ConfigProperty(name = "greeting.")
+    private String greeting;
+
+    @Inject
+    @ConfigProperty(name = "greeting.timeout.unit", defaultValue = "SE")
+    private String unit;
+}
@@ -0,0 +1,33 @@
+package io.openliberty.sample.jakarta.declarations;
+
+import jakarta.inject.Inject;
+
+public class NestedClasses {
+
+    @Inject
+    private String name;
+
+    private final Runnable anonymous = new Runnable() {
+
+        @Inject
+        private String anonymousName;
+
+        @Override
+        public void run() {
+        }
+    };
+
+    public void method() {
+        class Local {
+
+            @Inject
+            private String localName;
+        }
+    }
+
+    public static class Inner {
+
+        @Inject
+        private String innerName;
+    }
+}
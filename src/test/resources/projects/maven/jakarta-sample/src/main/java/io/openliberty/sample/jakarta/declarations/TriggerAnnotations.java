@@ -0,0 +1,16 @@
+package io.openliberty.sample.jakarta.declarations;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Path;
+
+@Path("/greeting")
+public class TriggerAnnotations {
+
+    @Inject
+    private String name;
+}
+
+class NoTriggerAnnotation {
+
+    private String name;
+}
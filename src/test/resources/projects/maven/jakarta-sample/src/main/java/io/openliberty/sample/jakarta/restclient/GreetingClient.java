@@ -0,0 +1,11 @@
+package io.openliberty.sample.jakarta.restclient;
+
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+
+public class GreetingClient {
+
+    @Inject
+    @RestClient
+    GreetingService service;
+}
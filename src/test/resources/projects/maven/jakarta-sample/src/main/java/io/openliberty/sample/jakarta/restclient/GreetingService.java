@@ -0,0 +1,9 @@
+package io.openliberty.sample.jakarta.restclient;
+
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+
+@RegisterRestClient
+public interface GreetingService {
+
+    String greet(String name);
+}